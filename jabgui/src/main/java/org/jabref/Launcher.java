@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.jabref.cli.ArgumentProcessor;
 import org.jabref.cli.CliOptions;
@@ -34,6 +35,7 @@ import org.jabref.logic.search.PostgreServer;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.StartupTasks;
 import org.jabref.migrations.PreferencesMigrations;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -56,29 +58,41 @@ public class Launcher {
 
     public static void main(String[] args) {
         initLogging(args);
+        StartupTasks startupTasks = new StartupTasks(isStartupProfile(args));
 
         // Initialize preferences
-        final JabRefGuiPreferences preferences = JabRefGuiPreferences.getInstance();
+        final JabRefGuiPreferences preferences = startupTasks.run("Preferences", JabRefGuiPreferences::getInstance);
         Injector.setModelOrService(CliPreferences.class, preferences);
         Injector.setModelOrService(GuiPreferences.class, preferences);
 
         DefaultFileUpdateMonitor fileUpdateMonitor = new DefaultFileUpdateMonitor();
         HeadlessExecutorService.INSTANCE.executeInterruptableTask(fileUpdateMonitor, "FileUpdateMonitor");
 
-        List<UiCommand> uiCommands = processArguments(args, preferences, fileUpdateMonitor);
+        List<UiCommand> uiCommands = startupTasks.run("Command line arguments", () -> processArguments(args, preferences, fileUpdateMonitor, startupTasks));
         // The method `processArguments` quits the whole JVM if no GUI is needed.
 
-        PreferencesMigrations.runMigrations(preferences);
+        CompletableFuture<Void> citationStyles = startupTasks.start("Citation styles", CSLStyleLoader::loadInternalStyles);
 
-        PostgreServer postgreServer = new PostgreServer();
+        startupTasks.run("Preferences migrations", () -> PreferencesMigrations.runMigrations(preferences));
+
+        // The server is needed for searching only. Thus, it is started in the background and the first search waits for it.
+        PostgreServer postgreServer = new PostgreServer(Directories.getBibFieldsIndexDirectory(), startupTasks.executor("Postgres server"));
         Injector.setModelOrService(PostgreServer.class, postgreServer);
 
-        CSLStyleLoader.loadInternalStyles();
+        citationStyles.join();
 
-        JabRefGUI.setup(uiCommands, preferences, fileUpdateMonitor);
+        JabRefGUI.setup(uiCommands, preferences, fileUpdateMonitor, startupTasks);
         JabRefGUI.launch(JabRefGUI.class, args);
     }
 
+    private static boolean isStartupProfile(String[] args) {
+        try {
+            return new CliOptions(args).isStartupProfile();
+        } catch (ParseException e) {
+            return false;
+        }
+    }
+
     /**
      * This needs to be called as early as possible. After the first log write, it
      * is not possible to alter the log configuration programmatically anymore.
@@ -132,7 +146,7 @@ public class Launcher {
         System.exit(0);
     }
 
-    public static List<UiCommand> processArguments(String[] args, JabRefGuiPreferences preferences, FileUpdateMonitor fileUpdateMonitor) {
+    public static List<UiCommand> processArguments(String[] args, JabRefGuiPreferences preferences, FileUpdateMonitor fileUpdateMonitor, StartupTasks startupTasks) {
         try {
             Injector.setModelOrService(BuildInfo.class, new BuildInfo());
 
@@ -144,13 +158,14 @@ public class Launcher {
             BibEntryTypesManager entryTypesManager = preferences.getCustomEntryTypesRepository();
             Injector.setModelOrService(BibEntryTypesManager.class, entryTypesManager);
 
-            Injector.setModelOrService(JournalAbbreviationRepository.class, JournalAbbreviationLoader.loadRepository(preferences.getJournalAbbreviationPreferences()));
-            Injector.setModelOrService(ProtectedTermsLoader.class, new ProtectedTermsLoader(preferences.getProtectedTermsPreferences()));
+            // Both are loaded in the background. The first lookup waits until the loading is finished.
+            Injector.setModelOrService(JournalAbbreviationRepository.class, JournalAbbreviationLoader.loadRepository(preferences.getJournalAbbreviationPreferences(), startupTasks.executor("Journal abbreviations")));
+            Injector.setModelOrService(ProtectedTermsLoader.class, new ProtectedTermsLoader(preferences.getProtectedTermsPreferences(), startupTasks.executor("Protected terms")));
 
             configureProxy(preferences.getProxyPreferences());
             configureSSL(preferences.getSSLPreferences());
 
-            clearOldSearchIndices();
+            startupTasks.start("Clearing old search indices", Launcher::clearOldSearchIndices);
 
             try {
                 Injector.setModelOrService(FileUpdateMonitor.class, fileUpdateMonitor);
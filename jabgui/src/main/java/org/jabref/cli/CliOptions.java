@@ -69,6 +69,10 @@ public class CliOptions {
         return commandLine.hasOption("debug");
     }
 
+    public boolean isStartupProfile() {
+        return commandLine.hasOption("startup-profile");
+    }
+
     public boolean isPreferencesReset() {
         return commandLine.hasOption("resetPreferences");
     }
@@ -89,6 +93,7 @@ public class CliOptions {
         options.addOption("b", "blank", false, Localization.lang("Do not open any files at startup"));
         options.addOption("v", "version", false, Localization.lang("Display version"));
         options.addOption(null, "debug", false, Localization.lang("Show debug level messages"));
+        options.addOption(null, "startup-profile", false, Localization.lang("Print the wall-clock time of each startup phase"));
 
         options.addOption(Option
                 .builder("i")
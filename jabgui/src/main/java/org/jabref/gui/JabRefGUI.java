@@ -38,6 +38,7 @@ import org.jabref.logic.search.PostgreServer;
 import org.jabref.logic.util.BuildInfo;
 import org.jabref.logic.util.FallbackExceptionHandler;
 import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.StartupTasks;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.strings.StringUtil;
@@ -59,6 +60,7 @@ public class JabRefGUI extends Application {
     private static List<UiCommand> uiCommands;
     private static GuiPreferences preferences;
     private static FileUpdateMonitor fileUpdateMonitor;
+    private static StartupTasks startupTasks;
 
     // AI Service handles chat messages etc. Therefore, it is tightly coupled to the GUI.
     private static AiService aiService;
@@ -77,10 +79,12 @@ public class JabRefGUI extends Application {
 
     public static void setup(List<UiCommand> uiCommands,
                              GuiPreferences preferences,
-                             FileUpdateMonitor fileUpdateMonitor) {
+                             FileUpdateMonitor fileUpdateMonitor,
+                             StartupTasks startupTasks) {
         JabRefGUI.uiCommands = uiCommands;
         JabRefGUI.preferences = preferences;
         JabRefGUI.fileUpdateMonitor = fileUpdateMonitor;
+        JabRefGUI.startupTasks = startupTasks;
     }
 
     @Override
@@ -92,21 +96,23 @@ public class JabRefGUI extends Application {
             dialogService.showErrorDialogAndWait("Uncaught exception occurred in " + thread, exception);
         }));
 
-        initialize();
-
-        JabRefGUI.mainFrame = new JabRefFrame(
-                mainStage,
-                dialogService,
-                fileUpdateMonitor,
-                preferences,
-                aiService,
-                stateManager,
-                countingUndoManager,
-                Injector.instantiateModelOrService(BibEntryTypesManager.class),
-                clipBoardManager,
-                taskExecutor);
-
-        openWindow();
+        startupTasks.run("Main window", () -> {
+            initialize();
+
+            JabRefGUI.mainFrame = new JabRefFrame(
+                    mainStage,
+                    dialogService,
+                    fileUpdateMonitor,
+                    preferences,
+                    aiService,
+                    stateManager,
+                    countingUndoManager,
+                    Injector.instantiateModelOrService(BibEntryTypesManager.class),
+                    clipBoardManager,
+                    taskExecutor);
+
+            openWindow();
+        });
 
         startBackgroundTasks();
 
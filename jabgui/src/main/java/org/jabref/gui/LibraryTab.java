@@ -1,6 +1,7 @@
 package org.jabref.gui;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
@@ -64,6 +65,7 @@ import org.jabref.logic.importer.FetcherClientException;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.FetcherServerException;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.integrity.IntegrityCheck;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.pdf.FileAnnotationCache;
@@ -76,6 +78,7 @@ import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.database.event.EntriesAddedEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
@@ -118,6 +121,8 @@ public class LibraryTab extends Tab {
     private BibDatabaseContext bibDatabaseContext;
     private MainTableDataModel tableModel;
     private FileAnnotationCache annotationCache;
+    private IntegrityCheck integrityCheck;
+    private IntegrityCheckSettings integrityCheckSettings;
     private MainTable mainTable;
     private DatabaseNotification databaseNotificationPane;
 
@@ -208,6 +213,7 @@ public class LibraryTab extends Tab {
 
         new CitationStyleCache(bibDatabaseContext);
         annotationCache = new FileAnnotationCache(bibDatabaseContext, preferences.getFilePreferences());
+        integrityCheck = null;
         importHandler = new ImportHandler(
                 bibDatabaseContext,
                 preferences,
@@ -749,6 +755,28 @@ public class LibraryTab extends Tab {
         return annotationCache;
     }
 
+    /**
+     * Returns the integrity check of this library. The check caches the results of unchanged entries,
+     * thus it is kept as long as the settings it was created with are unchanged.
+     */
+    public IntegrityCheck getIntegrityCheck(JournalAbbreviationRepository abbreviationRepository) {
+        boolean allowIntegerEdition = preferences.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex();
+        IntegrityCheckSettings settings = new IntegrityCheckSettings(
+                bibDatabaseContext.getMode(),
+                bibDatabaseContext.getMetaData().getEncoding(),
+                abbreviationRepository,
+                allowIntegerEdition);
+        if ((integrityCheck == null) || !settings.equals(integrityCheckSettings)) {
+            integrityCheck = new IntegrityCheck(bibDatabaseContext,
+                    preferences.getFilePreferences(),
+                    preferences.getCitationKeyPatternPreferences(),
+                    abbreviationRepository,
+                    allowIntegerEdition);
+            integrityCheckSettings = settings;
+        }
+        return integrityCheck;
+    }
+
     public void resetChangeMonitor() {
         changeMonitor.ifPresent(DatabaseChangeMonitor::unregister);
         changeMonitor = Optional.of(new DatabaseChangeMonitor(bibDatabaseContext,
@@ -1060,6 +1088,13 @@ public class LibraryTab extends Tab {
         return databaseNotificationPane;
     }
 
+    private record IntegrityCheckSettings(
+            BibDatabaseMode mode,
+            Optional<Charset> encoding,
+            JournalAbbreviationRepository abbreviationRepository,
+            boolean allowIntegerEdition) {
+    }
+
     @Override
     public String toString() {
         return "LibraryTab{" +
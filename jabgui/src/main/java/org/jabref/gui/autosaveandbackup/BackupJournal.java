@@ -0,0 +1,307 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.types.EntryTypeFactory;
+
+/**
+ * Journal of the changes to the entries of a library since its last full backup ("snapshot") written by {@link BackupManager}.
+ * <p>
+ * The journal is stored next to the snapshot. Each line is one record consisting of tab-separated values.
+ * The first line holds the number of entries of the snapshot. Entries are referenced by their position in the snapshot;
+ * entries added later get the subsequent numbers.
+ * <p>
+ * Records are collected in memory and appended to the file on {@link #flush()}.
+ * Subsequent changes of the same field (e.g., when typing) are collapsed into one record.
+ */
+class BackupJournal {
+
+    static final String EXTENSION = ".journal";
+
+    private static final String HEADER = "snapshot";
+    private static final String ADD = "add";
+    private static final String SET = "set";
+    private static final String CLEAR = "clear";
+    private static final String TYPE = "type";
+    private static final String REMOVE = "remove";
+
+    private final Path path;
+    private final int numberOfSnapshotEntries;
+
+    // Maps the id of an entry to its number in the journal
+    private final Map<String, Integer> entryNumbers = new HashMap<>();
+    private final List<String> pendingRecords = new ArrayList<>();
+    private int nextEntryNumber;
+    private int numberOfRecords;
+    private Optional<String> lastSetPrefix = Optional.empty();
+
+    /**
+     * @param snapshotPath     the path of the snapshot this journal belongs to
+     * @param snapshotEntries  the entries in the order they are written to the snapshot
+     */
+    BackupJournal(Path snapshotPath, List<BibEntry> snapshotEntries) {
+        this.path = getJournalPath(snapshotPath);
+        this.numberOfSnapshotEntries = snapshotEntries.size();
+        for (BibEntry entry : snapshotEntries) {
+            entryNumbers.put(entry.getId(), nextEntryNumber++);
+        }
+    }
+
+    static Path getJournalPath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + EXTENSION);
+    }
+
+    /**
+     * Records the changes of the given event.
+     *
+     * @return <code>false</code> if the event cannot be expressed in the journal (e.g., a change of the metadata). Then, a new snapshot is required.
+     */
+    boolean record(BibDatabaseContextChangedEvent event) {
+        return switch (event) {
+            case EntriesAddedEvent addedEvent -> {
+                addedEvent.getBibEntries().forEach(this::recordAdd);
+                yield true;
+            }
+            case EntriesRemovedEvent removedEvent -> {
+                boolean allKnown = true;
+                for (BibEntry entry : removedEvent.getBibEntries()) {
+                    Integer number = entryNumbers.remove(entry.getId());
+                    if (number == null) {
+                        allKnown = false;
+                    } else {
+                        append(REMOVE, String.valueOf(number));
+                    }
+                }
+                yield allKnown;
+            }
+            case FieldChangedEvent fieldChangedEvent -> recordFieldChange(fieldChangedEvent);
+            default -> false;
+        };
+    }
+
+    private void recordAdd(BibEntry entry) {
+        int number = nextEntryNumber++;
+        entryNumbers.put(entry.getId(), number);
+        List<String> values = new ArrayList<>();
+        values.add(ADD);
+        values.add(String.valueOf(number));
+        values.add(entry.getType().getName());
+        entry.getFieldMap().forEach((field, value) -> {
+            values.add(field.getName());
+            values.add(value);
+        });
+        append(values.toArray(String[]::new));
+    }
+
+    private boolean recordFieldChange(FieldChangedEvent event) {
+        Field field = event.getField();
+        if (field == InternalField.INTERNAL_ID_FIELD) {
+            // The event is posted before the id is changed
+            Integer number = entryNumbers.remove(event.getOldValue());
+            if (number != null) {
+                entryNumbers.put(event.getNewValue(), number);
+            }
+            return number != null;
+        }
+
+        Integer number = entryNumbers.get(event.getBibEntry().getId());
+        if (number == null) {
+            return false;
+        }
+        if (field == InternalField.TYPE_HEADER) {
+            append(TYPE, String.valueOf(number), event.getNewValue());
+        } else if (event.getNewValue() == null) {
+            append(CLEAR, String.valueOf(number), field.getName());
+        } else {
+            String prefix = SET + "\t" + number + "\t" + escape(field.getName()) + "\t";
+            if (lastSetPrefix.filter(prefix::equals).isPresent()) {
+                // Only the last value of a field being edited is of interest
+                pendingRecords.removeLast();
+                numberOfRecords--;
+            }
+            append(SET, String.valueOf(number), field.getName(), event.getNewValue());
+            lastSetPrefix = Optional.of(prefix);
+        }
+        return true;
+    }
+
+    private void append(String... values) {
+        StringBuilder record = new StringBuilder();
+        for (String value : values) {
+            if (!record.isEmpty()) {
+                record.append('\t');
+            }
+            record.append(escape(value));
+        }
+        pendingRecords.add(record.toString());
+        numberOfRecords++;
+        lastSetPrefix = Optional.empty();
+    }
+
+    /**
+     * @return the number of records of this journal, including the ones not flushed yet
+     */
+    int size() {
+        return numberOfRecords;
+    }
+
+    boolean hasPendingRecords() {
+        return !pendingRecords.isEmpty();
+    }
+
+    /**
+     * Appends the pending records to the journal file. The file is created on the first flush.
+     */
+    void flush() throws IOException {
+        if (pendingRecords.isEmpty()) {
+            return;
+        }
+        List<String> lines = new ArrayList<>(pendingRecords.size() + 1);
+        if (Files.notExists(path)) {
+            lines.add(HEADER + "\t" + numberOfSnapshotEntries);
+        }
+        lines.addAll(pendingRecords);
+        Files.write(path, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        pendingRecords.clear();
+        lastSetPrefix = Optional.empty();
+    }
+
+    /**
+     * Deletes the journal file and drops the pending records.
+     * The journal must not be continued afterwards, because its snapshot lacks the dropped changes.
+     */
+    void delete() throws IOException {
+        pendingRecords.clear();
+        lastSetPrefix = Optional.empty();
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Checks whether the journal of the given snapshot contains any change
+     */
+    static boolean hasRecords(Path snapshotPath) throws IOException {
+        Path journalPath = getJournalPath(snapshotPath);
+        if (Files.notExists(journalPath)) {
+            return false;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            // The first line is the header
+            return (reader.readLine() != null) && (reader.readLine() != null);
+        }
+    }
+
+    /**
+     * Applies the journal of the given snapshot to the database read from the snapshot.
+     * Nothing is done if there is no journal.
+     *
+     * @throws IOException if the journal cannot be read or does not match the snapshot
+     */
+    static void replay(Path snapshotPath, BibDatabase database) throws IOException {
+        Path journalPath = getJournalPath(snapshotPath);
+        if (Files.notExists(journalPath)) {
+            return;
+        }
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        List<BibEntry> snapshotEntries = database.getEntries();
+        String[] header = lines.getFirst().split("\t");
+        if (!HEADER.equals(header[0]) || (header.length != 2) || (Integer.parseInt(header[1]) != snapshotEntries.size())) {
+            throw new IOException("Journal %s does not match its snapshot".formatted(journalPath));
+        }
+        Map<Integer, BibEntry> entries = new HashMap<>();
+        for (int i = 0; i < snapshotEntries.size(); i++) {
+            entries.put(i, snapshotEntries.get(i));
+        }
+
+        for (String line : lines.subList(1, lines.size())) {
+            String[] values = line.split("\t", -1);
+            for (int i = 0; i < values.length; i++) {
+                values[i] = unescape(values[i]);
+            }
+            int number = Integer.parseInt(values[1]);
+            if (ADD.equals(values[0])) {
+                BibEntry entry = new BibEntry(EntryTypeFactory.parse(values[2]));
+                for (int i = 3; (i + 1) < values.length; i += 2) {
+                    entry.setField(FieldFactory.parseField(values[i]), values[i + 1]);
+                }
+                database.insertEntry(entry);
+                entries.put(number, entry);
+                continue;
+            }
+
+            BibEntry entry = entries.get(number);
+            if (entry == null) {
+                throw new IOException("Journal %s references unknown entry %d".formatted(journalPath, number));
+            }
+            switch (values[0]) {
+                case SET -> entry.setField(FieldFactory.parseField(values[2]), values[3]);
+                case CLEAR -> entry.clearField(FieldFactory.parseField(values[2]));
+                case TYPE -> entry.setType(EntryTypeFactory.parse(values[2]));
+                case REMOVE -> {
+                    database.removeEntry(entry);
+                    entries.remove(number);
+                }
+                default -> throw new IOException("Unknown record %s in journal %s".formatted(values[0], journalPath));
+            }
+        }
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case '\t' -> escaped.append("\\t");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c != '\\') || (i + 1 == value.length())) {
+                unescaped.append(c);
+                continue;
+            }
+            char next = value.charAt(++i);
+            switch (next) {
+                case 't' -> unescaped.append('\t');
+                case 'n' -> unescaped.append('\n');
+                case 'r' -> unescaped.append('\r');
+                default -> unescaped.append(next);
+            }
+        }
+        return unescaped.toString();
+    }
+}
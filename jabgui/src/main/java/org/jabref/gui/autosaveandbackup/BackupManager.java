@@ -8,8 +8,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
@@ -18,6 +22,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javafx.scene.control.TableColumn;
 
@@ -26,9 +31,12 @@ import org.jabref.gui.maintable.BibEntryTableViewModel;
 import org.jabref.gui.maintable.columns.MainTableColumn;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
 import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.CoarseChangeFilter;
@@ -41,7 +49,10 @@ import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
 import com.google.common.eventbus.Subscribe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +62,11 @@ import org.slf4j.LoggerFactory;
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks. This class does not manage the .bak file which is created when opening a
  * database.
+ * <p>
+ * The library is not serialized completely on each backup. A full backup ("snapshot") is written only periodically
+ * and in case of changes which cannot be journaled (e.g., of the metadata). In between, the changes of the entries are
+ * appended to a {@link BackupJournal} next to the snapshot. The journal is replayed when restoring the backup.
+ * It is truncated when the library is saved, and a new snapshot is written instead of it when the library is closed.
  */
 public class BackupManager {
 
@@ -60,6 +76,10 @@ public class BackupManager {
 
     private static final int DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS = 19;
 
+    private static final int MAXIMUM_JOURNAL_RECORD_COUNT = 1000;
+
+    private static final Duration MAXIMUM_SNAPSHOT_AGE = Duration.ofMinutes(10);
+
     private static final Set<BackupManager> RUNNING_INSTANCES = new HashSet<>();
 
     private final BibDatabaseContext bibDatabaseContext;
@@ -74,6 +94,12 @@ public class BackupManager {
     private final Queue<Path> backupFilesQueue = new LinkedBlockingQueue<>();
     private boolean needsBackup = false;
 
+    // Journal of the changes since the last snapshot. Empty as long as no snapshot was written in this session.
+    private Optional<BackupJournal> journal = Optional.empty();
+    private boolean needsSnapshot = true;
+    private Instant lastSnapshotTime = Instant.MIN;
+    private int lastSnapshotStringsHash;
+
     BackupManager(LibraryTab libraryTab, BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, CliPreferences preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.entryTypesManager = entryTypesManager;
@@ -123,6 +149,15 @@ public class BackupManager {
         RUNNING_INSTANCES.stream().filter(instance -> instance.bibDatabaseContext == bibDatabaseContext).forEach(backupManager -> backupManager.discardBackup(backupDir));
     }
 
+    /**
+     * Informs the BackupManager which is associated with the given {@link BibDatabaseContext} that the library was saved successfully.
+     *
+     * @param bibDatabaseContext Associated {@link BibDatabaseContext}
+     */
+    public static void librarySaved(BibDatabaseContext bibDatabaseContext) {
+        RUNNING_INSTANCES.stream().filter(instance -> instance.bibDatabaseContext == bibDatabaseContext).forEach(BackupManager::librarySaved);
+    }
+
     /**
      * Shuts down the BackupManager which is associated with the given {@link BibDatabaseContext}.
      *
@@ -141,13 +176,16 @@ public class BackupManager {
      *
      * In case a discarded file is present, the method also returns <code>false</code>, See also {@link #discardBackup(Path)}.
      *
+     * In case changes were journaled after the snapshot, the journal is replayed onto the snapshot and the result is compared with the content of the original.
+     * The changes might have been saved before the journal was written, e.g., when the library was saved and closed afterwards.
+     *
      * @param originalPath Path to the file a backup should be checked for. Example: jabref.bib.
      *
      * @return <code>true</code> if backup file exists AND differs from originalPath. <code>false</code> is the
      * "default" return value in the good case. In case a discarded file exists, <code>false</code> is returned, too.
      * In the case of an exception <code>true</code> is returned to ensure that the user checks the output.
      */
-    public static boolean backupFileDiffers(Path originalPath, Path backupDir) {
+    public static boolean backupFileDiffers(Path originalPath, Path backupDir, ImportFormatPreferences importFormatPreferences) {
         Path discardedFile = determineDiscardedFile(originalPath, backupDir);
         if (Files.exists(discardedFile)) {
             try {
@@ -162,6 +200,13 @@ public class BackupManager {
             FileTime latestBackupFileLastModifiedTime;
             try {
                 latestBackupFileLastModifiedTime = Files.getLastModifiedTime(latestBackupPath);
+                Path journalPath = BackupJournal.getJournalPath(latestBackupPath);
+                if (Files.exists(journalPath)) {
+                    FileTime journalLastModifiedTime = Files.getLastModifiedTime(journalPath);
+                    if (journalLastModifiedTime.compareTo(latestBackupFileLastModifiedTime) > 0) {
+                        latestBackupFileLastModifiedTime = journalLastModifiedTime;
+                    }
+                }
             } catch (IOException e) {
                 LOGGER.debug("Could not get timestamp of backup file {}", latestBackupPath, e);
                 // If we cannot get the timestamp, we do show any warning
@@ -181,7 +226,14 @@ public class BackupManager {
                 return false;
             }
             try {
-                boolean result = Files.mismatch(originalPath, latestBackupPath) != -1L;
+                boolean result;
+                if (BackupJournal.hasRecords(latestBackupPath)) {
+                    BibDatabaseContext backupDatabaseContext = loadBackup(latestBackupPath, importFormatPreferences);
+                    BibDatabaseContext originalDatabaseContext = OpenDatabase.loadDatabase(originalPath, importFormatPreferences, new DummyFileUpdateMonitor()).getDatabaseContext();
+                    result = !haveSameContent(originalDatabaseContext, backupDatabaseContext);
+                } else {
+                    result = Files.mismatch(originalPath, latestBackupPath) != -1L;
+                }
                 if (result) {
                     LOGGER.info("Backup file {} differs from current file {}", latestBackupPath, originalPath);
                 }
@@ -195,44 +247,119 @@ public class BackupManager {
     }
 
     /**
-     * Restores the backup file by copying and overwriting the original one.
+     * Compares the content of two libraries. The order of the entries and the formatting of the files are ignored.
+     */
+    private static boolean haveSameContent(BibDatabaseContext original, BibDatabaseContext backup) {
+        return getEntryContents(original).equals(getEntryContents(backup))
+                && getStringContents(original).equals(getStringContents(backup))
+                && original.getDatabase().getPreamble().equals(backup.getDatabase().getPreamble())
+                && original.getMetaData().equals(backup.getMetaData());
+    }
+
+    private static Multiset<List<Object>> getEntryContents(BibDatabaseContext bibDatabaseContext) {
+        return bibDatabaseContext.getDatabase().getEntries().stream()
+                                 .map(entry -> List.<Object>of(entry.getType(), Map.copyOf(entry.getFieldMap())))
+                                 .collect(Collectors.toCollection(HashMultiset::create));
+    }
+
+    private static Map<String, String> getStringContents(BibDatabaseContext bibDatabaseContext) {
+        return bibDatabaseContext.getDatabase().getStringValues().stream()
+                                 .collect(Collectors.toMap(BibtexString::getName, BibtexString::getContent, (first, _) -> first));
+    }
+
+    /**
+     * Restores the backup by overwriting the original file.
+     * The latest snapshot is copied. In case changes were journaled after the snapshot, the journal is replayed onto the snapshot and the result is written.
      *
      * @param originalPath Path to the file which should be equalized to the backup file.
      */
-    public static void restoreBackup(Path originalPath, Path backupDir) {
+    public static void restoreBackup(Path originalPath, Path backupDir, CliPreferences preferences, BibEntryTypesManager entryTypesManager) {
         Optional<Path> backupPath = getLatestBackupPath(originalPath, backupDir);
         if (backupPath.isEmpty()) {
             LOGGER.error("There is no backup file");
             return;
         }
         try {
-            Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+            if (!BackupJournal.hasRecords(backupPath.get())) {
+                Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+                return;
+            }
+            BibDatabaseContext backupDatabaseContext = loadBackup(backupPath.get(), preferences.getImportFormatPreferences());
+            SelfContainedSaveOrder saveOrder = backupDatabaseContext.getMetaData().getSaveOrder()
+                                                                    .filter(so -> so.getOrderType() != SaveOrder.OrderType.TABLE || !so.getSortCriteria().isEmpty())
+                                                                    .map(SelfContainedSaveOrder::of)
+                                                                    .orElse(SaveOrder.getDefaultSaveOrder());
+            writeDatabase(originalPath, backupDatabaseContext, saveOrder, preferences, entryTypesManager);
         } catch (IOException e) {
             LOGGER.error("Error while restoring the backup file.", e);
         }
     }
 
+    /**
+     * Loads the latest backup of the given file, including the changes of its journal
+     */
+    public static Optional<BibDatabaseContext> loadLatestBackup(Path originalPath, Path backupDir, ImportFormatPreferences importFormatPreferences) throws IOException {
+        Optional<Path> backupPath = getLatestBackupPath(originalPath, backupDir);
+        if (backupPath.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(loadBackup(backupPath.get(), importFormatPreferences));
+    }
+
+    private static BibDatabaseContext loadBackup(Path backupPath, ImportFormatPreferences importFormatPreferences) throws IOException {
+        BibDatabaseContext backupDatabaseContext = OpenDatabase.loadDatabase(backupPath, importFormatPreferences, new DummyFileUpdateMonitor()).getDatabaseContext();
+        BackupJournal.replay(backupPath, backupDatabaseContext.getDatabase());
+        return backupDatabaseContext;
+    }
+
     Optional<Path> determineBackupPathForNewBackup(Path backupDir) {
         return bibDatabaseContext.getDatabasePath().map(path -> BackupManager.getBackupPathForNewBackup(path, backupDir));
     }
 
     /**
      * This method is called as soon as the scheduler says: "Do the backup"
+     * <p>
+     * Either the journaled changes are appended to the journal of the last snapshot, or a new snapshot is written.
      *
-     * <em>SIDE EFFECT: Deletes oldest backup file</em>
+     * <em>SIDE EFFECT: Deletes oldest backup file when writing a snapshot</em>
      *
-     * @param backupPath the full path to the file where the library should be backed up to
+     * @param backupPath the full path to the file where the library should be backed up to in case a snapshot is written
      */
     void performBackup(Path backupPath) {
-        if (!needsBackup) {
-            return;
+        synchronized (this) {
+            boolean hasJournaledChanges = journal.map(BackupJournal::hasPendingRecords).orElse(false);
+            if (!needsBackup && !hasJournaledChanges) {
+                return;
+            }
+            if (!needsNewSnapshot()) {
+                try {
+                    journal.get().flush();
+                    this.needsBackup = false;
+                } catch (IOException e) {
+                    LOGGER.error("Could not write backup journal of {}", backupPath, e);
+                    needsSnapshot = true;
+                }
+                return;
+            }
         }
+        performSnapshot(backupPath);
+    }
+
+    private boolean needsNewSnapshot() {
+        return needsSnapshot
+                || journal.isEmpty()
+                || (journal.get().size() >= MAXIMUM_JOURNAL_RECORD_COUNT)
+                || Duration.between(lastSnapshotTime, Instant.now()).compareTo(MAXIMUM_SNAPSHOT_AGE) > 0
+                || (getStringsHash() != lastSnapshotStringsHash);
+    }
 
+    private void performSnapshot(Path backupPath) {
         // We opted for "while" to delete backups in case there are more than 10
         while (backupFilesQueue.size() >= MAXIMUM_BACKUP_FILE_COUNT) {
             Path oldestBackupFile = backupFilesQueue.poll();
             try {
                 Files.delete(oldestBackupFile);
+                Files.deleteIfExists(BackupJournal.getJournalPath(oldestBackupFile));
             } catch (IOException e) {
                 LOGGER.error("Could not delete backup file {}", oldestBackupFile, e);
             }
@@ -257,29 +384,76 @@ public class BackupManager {
                     }
                 })
                 .orElse(SaveOrder.getDefaultSaveOrder());
+
+        BibDatabaseContext bibDatabaseContextClone;
+        BackupJournal newJournal;
+        synchronized (this) {
+            // "Clone" the database context
+            // We "know" that "only" the BibEntries might be changed during writing (see [org.jabref.logic.exporter.BibDatabaseWriter.savePartOfDatabase])
+            List<BibEntry> entries = bibDatabaseContext.getDatabase().getEntries();
+            Map<BibEntry, BibEntry> originalOfClone = new IdentityHashMap<>(entries.size());
+            List<BibEntry> list = entries.stream()
+                                         .map(entry -> {
+                                             BibEntry clone = (BibEntry) entry.clone();
+                                             originalOfClone.put(clone, entry);
+                                             return clone;
+                                         })
+                                         .toList();
+            BibDatabase bibDatabaseClone = new BibDatabase(list);
+            bibDatabaseContext.getDatabase().getStringValues().stream().map(BibtexString::clone)
+                              .map(BibtexString.class::cast)
+                              .forEach(bibDatabaseClone::addString);
+            bibDatabaseContextClone = new BibDatabaseContext(bibDatabaseClone, bibDatabaseContext.getMetaData());
+
+            // The journal references the entries by their position in the snapshot, which is the order they are written in
+            List<BibEntry> snapshotEntries = BibDatabaseWriter.getSortedEntries(list, saveOrder).stream()
+                                                              .map(originalOfClone::get)
+                                                              .toList();
+            try {
+                // A journal of a former snapshot at the same path does not belong to the new snapshot
+                Files.deleteIfExists(BackupJournal.getJournalPath(backupPath));
+            } catch (IOException e) {
+                LOGGER.error("Could not delete backup journal of {}", backupPath, e);
+                return;
+            }
+            newJournal = new BackupJournal(backupPath, snapshotEntries);
+            journal = Optional.of(newJournal);
+            needsSnapshot = false;
+            lastSnapshotTime = Instant.now();
+            lastSnapshotStringsHash = getStringsHash();
+        }
+
+        try {
+            writeDatabase(backupPath, bibDatabaseContextClone, saveOrder, preferences, entryTypesManager);
+            backupFilesQueue.add(backupPath);
+
+            // We wrote the file successfully
+            // Thus, we currently do not need any new backup
+            this.needsBackup = false;
+        } catch (IOException e) {
+            logIfCritical(backupPath, e);
+            synchronized (this) {
+                // The journal must not be continued without its snapshot
+                if (journal.orElse(null) == newJournal) {
+                    journal = Optional.empty();
+                }
+                needsSnapshot = true;
+            }
+        }
+    }
+
+    private static void writeDatabase(Path path, BibDatabaseContext bibDatabaseContext, SelfContainedSaveOrder saveOrder, CliPreferences preferences, BibEntryTypesManager entryTypesManager) throws IOException {
         SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
                 .withMakeBackup(false)
                 .withSaveOrder(saveOrder)
                 .withReformatOnSave(preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
 
-        // "Clone" the database context
-        // We "know" that "only" the BibEntries might be changed during writing (see [org.jabref.logic.exporter.BibDatabaseWriter.savePartOfDatabase])
-        List<BibEntry> list = bibDatabaseContext.getDatabase().getEntries().stream()
-                                                .map(BibEntry::clone)
-                                                .map(BibEntry.class::cast)
-                                                .toList();
-        BibDatabase bibDatabaseClone = new BibDatabase(list);
-        bibDatabaseContext.getDatabase().getStringValues().stream().map(BibtexString::clone)
-                          .map(BibtexString.class::cast)
-                          .forEach(bibDatabaseClone::addString);
-        BibDatabaseContext bibDatabaseContextClone = new BibDatabaseContext(bibDatabaseClone, bibDatabaseContext.getMetaData());
-
         Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
         // We want to have successful backups only
         // Thus, we do not use a plain "FileWriter", but the "AtomicFileWriter"
         // Example: What happens if one hard powers off the machine (or kills the jabref process) during writing of the backup?
         //          This MUST NOT create a broken backup file that then jabref wants to "restore" from?
-        try (Writer writer = new AtomicFileWriter(backupPath, encoding, false)) {
+        try (Writer writer = new AtomicFileWriter(path, encoding, false)) {
             BibWriter bibWriter = new BibWriter(writer, bibDatabaseContext.getDatabase().getNewLineSeparator());
             new BibtexDatabaseWriter(
                     bibWriter,
@@ -288,17 +462,21 @@ public class BackupManager {
                     preferences.getCitationKeyPatternPreferences(),
                     entryTypesManager)
                     // we save the clone to prevent the original database (and thus the UI) from being changed
-                    .saveDatabase(bibDatabaseContextClone);
-            backupFilesQueue.add(backupPath);
-
-            // We wrote the file successfully
-            // Thus, we currently do not need any new backup
-            this.needsBackup = false;
-        } catch (IOException e) {
-            logIfCritical(backupPath, e);
+                    .saveDatabase(bibDatabaseContext);
         }
     }
 
+    /**
+     * Changes of the strings are not posted as events. Thus, we detect them by comparing a hash.
+     */
+    private int getStringsHash() {
+        return bibDatabaseContext.getDatabase().getStringValues().stream()
+                                 .map(string -> string.getName() + "=" + string.getContent())
+                                 .sorted()
+                                 .toList()
+                                 .hashCode();
+    }
+
     private static Path determineDiscardedFile(Path file, Path backupDir) {
         return backupDir.resolve(BackupFileUtil.getUniqueFilePrefix(file) + "--" + file.getFileName() + "--discarded");
     }
@@ -331,11 +509,32 @@ public class BackupManager {
         }
     }
 
+    /**
+     * The changes journaled so far are contained in the saved library. Thus, the journal is truncated and the next backup is a new snapshot.
+     * Otherwise, the journal would be replayed on each opening of the library to compare the backup with the library.
+     */
+    synchronized void librarySaved() {
+        try {
+            if (journal.isPresent()) {
+                journal.get().delete();
+            }
+        } catch (IOException e) {
+            LOGGER.error("Could not delete backup journal", e);
+        }
+        journal = Optional.empty();
+        needsSnapshot = true;
+        needsBackup = false;
+    }
+
     @Subscribe
-    public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
+    public synchronized void listen(BibDatabaseContextChangedEvent event) {
         if (!event.isFilteredOut()) {
             this.needsBackup = true;
         }
+        // Filtered out events are journaled, too, because the journal collapses subsequent changes of a field on its own
+        if (!journal.map(backupJournal -> backupJournal.record(event)).orElse(false)) {
+            needsSnapshot = true;
+        }
     }
 
     private void startBackupTask(Path backupDir) {
@@ -360,6 +559,8 @@ public class BackupManager {
                 List<Path> allSavFiles = Files.list(backupDir)
                                               // just list the .sav belonging to the given targetFile
                                               .filter(p -> p.getFileName().toString().startsWith(prefix))
+                                              // the journals are deleted together with their snapshot
+                                              .filter(p -> !p.getFileName().toString().endsWith(BackupJournal.EXTENSION))
                                               .sorted().toList();
                 backupFilesQueue.addAll(allSavFiles);
             } catch (IOException e) {
@@ -375,12 +576,19 @@ public class BackupManager {
      * @param backupDir The backup directory
      * @param createBackup If the backup manager should still perform a backup
      */
-    private void shutdown(Path backupDir, boolean createBackup) {
+    void shutdown(Path backupDir, boolean createBackup) {
         changeFilter.unregisterListener(this);
         changeFilter.shutdown();
         executor.shutdown();
 
         if (createBackup) {
+            synchronized (this) {
+                // A snapshot can be compared with the library on the next opening without replaying a journal
+                if (journal.map(BackupJournal::size).orElse(0) > 0) {
+                    needsBackup = true;
+                    needsSnapshot = true;
+                }
+            }
             // Ensure that backup is a recent one
             determineBackupPathForNewBackup(backupDir).ifPresent(this::performBackup);
         }
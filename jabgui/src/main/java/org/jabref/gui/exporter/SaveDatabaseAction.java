@@ -242,6 +242,7 @@ public class SaveDatabaseAction {
             if (success) {
                 libraryTab.getUndoManager().markUnchanged();
                 libraryTab.resetChangedProperties();
+                BackupManager.librarySaved(libraryTab.getBibDatabaseContext());
             }
             dialogService.notify(Localization.lang("Library saved"));
             return success;
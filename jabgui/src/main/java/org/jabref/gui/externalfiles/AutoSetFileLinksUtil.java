@@ -14,6 +14,7 @@ import org.jabref.gui.externalfiletype.UnknownExternalFileType;
 import org.jabref.gui.frame.ExternalApplicationsPreferences;
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.util.io.AutoLinkPreferences;
+import org.jabref.logic.util.io.FileDirectoryIndex;
 import org.jabref.logic.util.io.FileFinder;
 import org.jabref.logic.util.io.FileFinders;
 import org.jabref.logic.util.io.FileUtil;
@@ -71,11 +72,23 @@ public class AutoSetFileLinksUtil {
     public LinkFilesResult linkAssociatedFiles(List<BibEntry> entries, BiConsumer<LinkedFile, BibEntry> onAddLinkedFile) {
         LinkFilesResult result = new LinkFilesResult();
 
+        // The directories are walked once for all entries
+        FileDirectoryIndex index;
+        try {
+            index = new FileDirectoryIndex(directories);
+        } catch (IOException e) {
+            result.addFileException(e);
+            LOGGER.error("Problem finding files", e);
+            return result;
+        }
+        FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
+        List<String> extensions = getExtensions();
+
         for (BibEntry entry : entries) {
             List<LinkedFile> linkedFiles = new ArrayList<>();
 
             try {
-                linkedFiles = findAssociatedNotLinkedFiles(entry);
+                linkedFiles = getNotLinkedFiles(entry, fileFinder.findAssociatedFiles(entry, index, extensions));
             } catch (IOException e) {
                 result.addFileException(e);
                 LOGGER.error("Problem finding files", e);
@@ -92,15 +105,21 @@ public class AutoSetFileLinksUtil {
     }
 
     public List<LinkedFile> findAssociatedNotLinkedFiles(BibEntry entry) throws IOException {
-        List<LinkedFile> linkedFiles = new ArrayList<>();
-
-        List<String> extensions = externalApplicationsPreferences.getExternalFileTypes().stream().map(ExternalFileType::getExtension).toList();
+        List<String> extensions = getExtensions();
 
         LOGGER.debug("Searching for extensions {} in directories {}", extensions, directories);
 
         // Run the search operation
         FileFinder fileFinder = FileFinders.constructFromConfiguration(autoLinkPreferences);
-        List<Path> result = fileFinder.findAssociatedFiles(entry, directories, extensions);
+        return getNotLinkedFiles(entry, fileFinder.findAssociatedFiles(entry, directories, extensions));
+    }
+
+    private List<String> getExtensions() {
+        return externalApplicationsPreferences.getExternalFileTypes().stream().map(ExternalFileType::getExtension).toList();
+    }
+
+    private List<LinkedFile> getNotLinkedFiles(BibEntry entry, List<Path> result) {
+        List<LinkedFile> linkedFiles = new ArrayList<>();
 
         // Collect the found files that are not yet linked
         for (Path foundFile : result) {
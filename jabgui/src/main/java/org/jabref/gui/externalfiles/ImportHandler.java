@@ -26,6 +26,7 @@ import org.jabref.gui.util.DragDrop;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.database.DuplicateCandidateIndex;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.logic.externalfiles.ExternalFilesContentImporter;
 import org.jabref.logic.importer.CompositeIdFetcher;
@@ -47,6 +48,7 @@ import org.jabref.logic.util.URLUtil;
 import org.jabref.logic.util.UpdateField;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.FieldChange;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.KeyCollisionException;
 import org.jabref.model.entry.BibEntry;
@@ -249,9 +251,16 @@ public class ImportHandler {
     }
 
     private void importEntryWithDuplicateCheck(BibDatabaseContext bibDatabaseContext, BibEntry entry, DuplicateResolverDialog.DuplicateResolverResult decision) {
+        importEntryWithDuplicateCheck(bibDatabaseContext, entry, decision, new DuplicateFinder(bibDatabaseContext, false));
+    }
+
+    /**
+     * @param duplicateFinder finds duplicates in the library, shared across the entries of one import. The imported entry is added to it.
+     */
+    private void importEntryWithDuplicateCheck(BibDatabaseContext bibDatabaseContext, BibEntry entry, DuplicateResolverDialog.DuplicateResolverResult decision, DuplicateFinder duplicateFinder) {
         BibEntry entryToInsert = cleanUpEntry(bibDatabaseContext, entry);
 
-        BackgroundTask.wrap(() -> findDuplicate(bibDatabaseContext, entryToInsert))
+        BackgroundTask.wrap(() -> duplicateFinder.findDuplicate(entryToInsert))
                       .onFailure(e -> LOGGER.error("Error in duplicate search"))
                       .onSuccess(existingDuplicateInLibrary -> {
                           BibEntry finalEntry = entryToInsert;
@@ -263,6 +272,7 @@ public class ImportHandler {
                               finalEntry = duplicateHandledEntry.get();
                           }
                           importCleanedEntries(bibDatabaseContext, List.of(finalEntry));
+                          duplicateFinder.addImportedEntry(finalEntry);
                           downloadLinkedFiles(finalEntry);
                           BibEntry entryToFocus = finalEntry;
                           stateManager.activeTabProperty().get().ifPresent(tab -> tab.clearAndSelect(entryToFocus));
@@ -363,7 +373,7 @@ public class ImportHandler {
                                                                                .getKeyPatterns()),
                 bibDatabaseContext.getDatabase(),
                 preferences.getCitationKeyPatternPreferences());
-        entries.forEach(keyGenerator::generateAndSetKey);
+        keyGenerator.generateAndSetKeys(entries);
     }
 
     public List<BibEntry> handleBibTeXData(String entries) {
@@ -443,21 +453,23 @@ public class ImportHandler {
     }
 
     public void importEntriesWithDuplicateCheck(BibDatabaseContext database, List<BibEntry> entriesToAdd) {
+        // The library is indexed once for all entries to import
+        DuplicateFinder duplicateFinder = new DuplicateFinder(database, entriesToAdd.size() > 1);
         boolean firstEntry = true;
         for (BibEntry entry : entriesToAdd) {
             if (firstEntry) {
                 LOGGER.debug("First entry to import, we use BREAK (\"Ask every time\") as decision");
-                importEntryWithDuplicateCheck(database, entry, BREAK);
+                importEntryWithDuplicateCheck(database, entry, BREAK, duplicateFinder);
                 firstEntry = false;
                 continue;
             }
             if (preferences.getMergeDialogPreferences().shouldMergeApplyToAllEntries()) {
                 DuplicateResolverDialog.DuplicateResolverResult decision = preferences.getMergeDialogPreferences().getAllEntriesDuplicateResolverDecision();
                 LOGGER.debug("Not first entry, pref flag is true, we use {}", decision);
-                importEntryWithDuplicateCheck(database, entry, decision);
+                importEntryWithDuplicateCheck(database, entry, decision, duplicateFinder);
             } else {
                 LOGGER.debug("not first entry, not pref flag, break will  be used");
-                importEntryWithDuplicateCheck(database, entry);
+                importEntryWithDuplicateCheck(database, entry, BREAK, duplicateFinder);
             }
         }
     }
@@ -501,4 +513,44 @@ public class ImportHandler {
             return List.of();
         }
     }
+
+    /**
+     * Finds duplicates of imported entries in a library.
+     * In case several entries are imported, the library is indexed by a {@link DuplicateCandidateIndex} on the first check, i.e., on a background thread, and the imported entries are added to the index.
+     * Otherwise, the entries of the library are compared one by one.
+     */
+    private static class DuplicateFinder {
+        private final BibDatabaseContext databaseContext;
+        private final DuplicateCheck duplicateCheck;
+        private final boolean indexed;
+        private DuplicateCandidateIndex candidateIndex;
+
+        DuplicateFinder(BibDatabaseContext databaseContext, boolean indexed) {
+            this.databaseContext = databaseContext;
+            this.duplicateCheck = new DuplicateCheck(Injector.instantiateModelOrService(BibEntryTypesManager.class));
+            this.indexed = indexed;
+        }
+
+        Optional<BibEntry> findDuplicate(BibEntry entryToCheck) {
+            BibDatabase database = databaseContext.getDatabase();
+            if (!indexed) {
+                return duplicateCheck.containsDuplicate(database, entryToCheck, databaseContext.getMode());
+            }
+            return duplicateCheck.containsDuplicate(getCandidateIndex(), database, entryToCheck, databaseContext.getMode());
+        }
+
+        private synchronized DuplicateCandidateIndex getCandidateIndex() {
+            if (candidateIndex == null) {
+                candidateIndex = new DuplicateCandidateIndex(databaseContext.getDatabase().getEntries());
+            }
+            return candidateIndex;
+        }
+
+        synchronized void addImportedEntry(BibEntry entry) {
+            // An index built later contains the entry, because it is part of the library then
+            if (candidateIndex != null) {
+                candidateIndex.add(entry);
+            }
+        }
+    }
 }
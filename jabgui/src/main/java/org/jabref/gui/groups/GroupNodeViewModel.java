@@ -1,5 +1,6 @@
 package org.jabref.gui.groups;
 
+import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -12,8 +13,9 @@ import javafx.beans.binding.BooleanBinding;
 import javafx.beans.binding.IntegerBinding;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
 import javafx.collections.FXCollections;
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableSet;
 import javafx.scene.input.Dragboard;
@@ -41,12 +43,14 @@ import org.jabref.model.groups.AutomaticKeywordGroup;
 import org.jabref.model.groups.AutomaticPersonsGroup;
 import org.jabref.model.groups.ExplicitGroup;
 import org.jabref.model.groups.GroupEntryChanger;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.LastNameGroup;
 import org.jabref.model.groups.RegexKeywordGroup;
 import org.jabref.model.groups.SearchGroup;
 import org.jabref.model.groups.TexGroup;
+import org.jabref.model.groups.event.GroupMembershipChangedEvent;
 import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
 import org.jabref.model.search.event.IndexClosedEvent;
 import org.jabref.model.search.event.IndexRemovedEvent;
@@ -75,10 +79,11 @@ public class GroupNodeViewModel {
     private final TaskExecutor taskExecutor;
     private final CustomLocalDragboard localDragBoard;
     private final GuiPreferences preferences;
-    @SuppressWarnings("FieldCanBeLocal")
-    private final ObservableList<BibEntry> entriesList;
+    private final GroupMembershipIndex membershipIndex;
     @SuppressWarnings("FieldCanBeLocal")
     private final InvalidationListener onInvalidatedGroup = listener -> refreshGroup();
+    @SuppressWarnings("FieldCanBeLocal")
+    private final ChangeListener<Boolean> onDisplayGroupCountChanged = (_, _, _) -> updateMatchedEntries();
 
     public GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, GroupTreeNode groupNode, CustomLocalDragboard localDragBoard, GuiPreferences preferences) {
         this.databaseContext = Objects.requireNonNull(databaseContext);
@@ -87,6 +92,7 @@ public class GroupNodeViewModel {
         this.groupNode = Objects.requireNonNull(groupNode);
         this.localDragBoard = Objects.requireNonNull(localDragBoard);
         this.preferences = preferences;
+        this.membershipIndex = databaseContext.getGroupMembershipIndex();
 
         displayName = new SimpleObjectProperty<>(new LatexToUnicodeFormatter().format(groupNode.getName()));
         isRoot = groupNode.isRoot();
@@ -111,21 +117,22 @@ public class GroupNodeViewModel {
 
         hasChildren = new SimpleBooleanProperty();
         hasChildren.bind(Bindings.isNotEmpty(children));
-        EasyBind.subscribe(preferences.getGroupsPreferences().displayGroupCountProperty(), shouldDisplay -> updateMatchedEntries());
+        // The preferences outlive the view models, which are recreated on each rebuild of the group tree
+        preferences.getGroupsPreferences().displayGroupCountProperty().addListener(new WeakChangeListener<>(onDisplayGroupCountChanged));
+        updateMatchedEntries();
         expandedProperty.set(groupNode.getGroup().isExpanded());
         expandedProperty.addListener((observable, oldValue, newValue) -> groupNode.getGroup().setExpanded(newValue));
 
-        // Register listener
-        // The wrapper created by the FXCollections will set a weak listener on the wrapped list. This weak listener gets garbage collected. Hence, we need to maintain a reference to this list.
-        entriesList = databaseContext.getDatabase().getEntries();
-        entriesList.addListener(this::onDatabaseChanged);
+        membershipIndex.registerListener(new GroupMembershipListener(this));
 
-        EasyObservableList<Boolean> selectedEntriesMatchStatus = EasyBind.map(stateManager.getSelectedEntries(), groupNode::matches);
+        EasyObservableList<Boolean> selectedEntriesMatchStatus = EasyBind.map(stateManager.getSelectedEntries(), entry -> membershipIndex.matches(groupNode, entry));
         anySelectedEntriesMatched = selectedEntriesMatchStatus.anyMatch(matched -> matched);
         // 'all' returns 'true' for empty streams, so this has to be checked explicitly
         allSelectedEntriesMatched = selectedEntriesMatchStatus.isEmptyBinding().not().and(selectedEntriesMatchStatus.allMatch(matched -> matched));
 
-        this.databaseContext.getDatabase().registerListener(new SearchIndexListener());
+        if (groupNode.getGroup() instanceof SearchGroup) {
+            this.databaseContext.getDatabase().registerListener(new SearchIndexListener());
+        }
     }
 
     public GroupNodeViewModel(BibDatabaseContext databaseContext, StateManager stateManager, TaskExecutor taskExecutor, AbstractGroup group, CustomLocalDragboard localDragboard, GuiPreferences preferences) {
@@ -250,43 +257,6 @@ public class GroupNodeViewModel {
         return groupNode;
     }
 
-    /**
-     * Gets invoked if an entry in the current database changes.
-     *
-     * @implNote Search groups are updated in {@link SearchIndexListener}.
-     */
-    private void onDatabaseChanged(ListChangeListener.Change<? extends BibEntry> change) {
-        if (groupNode.getGroup() instanceof SearchGroup) {
-            return;
-        }
-        while (change.next()) {
-            if (change.wasPermutated()) {
-                // Nothing to do, as permutation doesn't change matched entries
-            } else if (change.wasUpdated()) {
-                for (BibEntry changedEntry : change.getList().subList(change.getFrom(), change.getTo())) {
-                    if (groupNode.matches(changedEntry)) {
-                        // ADR-0038
-                        matchedEntries.add(changedEntry.getId());
-                    } else {
-                        // ADR-0038
-                        matchedEntries.remove(changedEntry.getId());
-                    }
-                }
-            } else {
-                for (BibEntry removedEntry : change.getRemoved()) {
-                    // ADR-0038
-                    matchedEntries.remove(removedEntry.getId());
-                }
-                for (BibEntry addedEntry : change.getAddedSubList()) {
-                    if (groupNode.matches(addedEntry)) {
-                        // ADR-0038
-                        matchedEntries.add(addedEntry.getId());
-                    }
-                }
-            }
-        }
-    }
-
     private void refreshGroup() {
         UiTaskExecutor.runInJavaFXThread(() -> {
             updateMatchedEntries(); // Update the entries matched by the group
@@ -298,13 +268,17 @@ public class GroupNodeViewModel {
         });
     }
 
+    /**
+     * Determines all entries matched by the group. Afterwards, the matched entries are kept up to date by {@link #onMembershipChanged(List)}.
+     */
     private void updateMatchedEntries() {
-        // We calculate the new hit value
-        // We could be more intelligent and try to figure out the new number of hits based on the entry change
-        // for example, a previously matched entry gets removed -> hits = hits - 1
+        if (groupNode.getGroup() instanceof SearchGroup || groupNode.getGroup() instanceof TexGroup) {
+            // The matches of these groups change without a change of the entries
+            membershipIndex.invalidate(groupNode.getGroup());
+        }
         if (preferences.getGroupsPreferences().shouldDisplayGroupCount()) {
             BackgroundTask
-                    .wrap(() -> groupNode.findMatches(databaseContext.getDatabase()))
+                    .wrap(() -> membershipIndex.getMatches(groupNode))
                     .onSuccess(entries -> {
                         matchedEntries.clear();
                         // ADR-0038
@@ -506,34 +480,66 @@ public class GroupNodeViewModel {
         };
     }
 
+    /**
+     * Gets invoked after the groups containing some entries of the current database may have changed.
+     * Only the given entries are evaluated again. Their group memberships are read from the {@link GroupMembershipIndex}.
+     */
+    private void onMembershipChanged(List<BibEntry> entries) {
+        UiTaskExecutor.runInJavaFXThread(() -> {
+            for (BibEntry entry : entries) {
+                if (membershipIndex.matches(groupNode, entry)) {
+                    // ADR-0038
+                    matchedEntries.add(entry.getId());
+                } else {
+                    // ADR-0038
+                    matchedEntries.remove(entry.getId());
+                }
+            }
+        });
+    }
+
+    /**
+     * Forwards the changes of the {@link GroupMembershipIndex} to the view model as long as the view model is in use.
+     * The index lives as long as the library, whereas the view models are recreated on each rebuild of the group tree without being disposed.
+     * Thus, the index references the view model weakly. The listener unregisters itself on the first event after the view model was collected.
+     */
+    static class GroupMembershipListener {
+        private final WeakReference<GroupNodeViewModel> viewModel;
+        private final GroupMembershipIndex membershipIndex;
+
+        GroupMembershipListener(GroupNodeViewModel viewModel) {
+            this.viewModel = new WeakReference<>(viewModel);
+            this.membershipIndex = viewModel.membershipIndex;
+        }
+
+        @Subscribe
+        public void listen(GroupMembershipChangedEvent event) {
+            GroupNodeViewModel groupNodeViewModel = viewModel.get();
+            if (groupNodeViewModel == null) {
+                membershipIndex.unregisterListener(this);
+                return;
+            }
+            groupNodeViewModel.onMembershipChanged(event.entries());
+        }
+    }
+
+    /**
+     * The matches of the search groups are updated by the {@link org.jabref.logic.search.SearchGroupsEvaluator} of the index manager before the events are posted.
+     */
     class SearchIndexListener {
         @Subscribe
         public void listen(IndexStartedEvent event) {
-            if (groupNode.getGroup() instanceof SearchGroup searchGroup) {
-                stateManager.getIndexManager(databaseContext).ifPresent(indexManager -> {
-                    searchGroup.setMatchedEntries(indexManager.search(searchGroup.getSearchQuery()).getMatchedEntries());
-                    refreshGroup();
-                    databaseContext.getMetaData().groupsBinding().invalidate();
-                });
+            if (groupNode.getGroup() instanceof SearchGroup) {
+                refreshGroup();
+                databaseContext.getMetaData().groupsBinding().invalidate();
             }
         }
 
         @Subscribe
         public void listen(IndexAddedOrUpdatedEvent event) {
             if (groupNode.getGroup() instanceof SearchGroup searchGroup) {
-                stateManager.getIndexManager(databaseContext).ifPresent(indexManager -> BackgroundTask.wrap(() -> {
-                    for (BibEntry entry : event.entries()) {
-                        searchGroup.updateMatches(entry, indexManager.isEntryMatched(entry, searchGroup.getSearchQuery()));
-                    }
-                }).onFinished(() -> {
-                    for (BibEntry entry : event.entries()) {
-                        if (groupNode.matches(entry)) {
-                            matchedEntries.add(entry.getId());
-                        } else {
-                            matchedEntries.remove(entry.getId());
-                        }
-                    }
-                }).executeWith(taskExecutor));
+                // Posts a GroupMembershipChangedEvent for the entries whose membership changed
+                membershipIndex.update(searchGroup, event.entries());
             }
         }
 
@@ -542,8 +548,8 @@ public class GroupNodeViewModel {
             if (groupNode.getGroup() instanceof SearchGroup searchGroup) {
                 for (BibEntry entry : event.entries()) {
                     searchGroup.updateMatches(entry, false);
-                    matchedEntries.remove(entry.getId());
                 }
+                membershipIndex.update(searchGroup, event.entries());
             }
         }
 
@@ -19,13 +19,16 @@ import org.jabref.gui.search.MatchCategory;
 import org.jabref.gui.util.BindingsHelper;
 import org.jabref.gui.util.FilteredListProxy;
 import org.jabref.gui.util.OptionalObjectProperty;
+import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.search.IndexManager;
 import org.jabref.logic.search.SearchPreferences;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.event.GroupMembershipChangedEvent;
 import org.jabref.model.search.SearchDisplayMode;
 import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
 import org.jabref.model.search.event.IndexStartedEvent;
@@ -60,6 +63,8 @@ public class MainTableDataModel {
     private final Subscription selectedGroupsSubscription;
     private final Subscription groupViewModeSubscription;
     private final SearchIndexListener indexUpdatedListener;
+    private final GroupMembershipListener groupMembershipListener;
+    private final GroupMembershipIndex membershipIndex;
     private final OptionalObjectProperty<SearchQuery> searchQueryProperty;
     @Nullable private final IndexManager indexManager;
 
@@ -80,9 +85,12 @@ public class MainTableDataModel {
         this.bibDatabaseContext = context;
         this.searchQueryProperty = searchQueryProperty;
         this.indexUpdatedListener = new SearchIndexListener();
+        this.groupMembershipListener = new GroupMembershipListener();
+        this.membershipIndex = context.getGroupMembershipIndex();
         this.groupsMatcher = createGroupMatcher(selectedGroupsProperty.get(), groupsPreferences);
 
         this.bibDatabaseContext.getDatabase().registerListener(indexUpdatedListener);
+        this.membershipIndex.registerListener(groupMembershipListener);
         resetFieldFormatter();
 
         ObservableList<BibEntry> allEntries = BindingsHelper.forUI(context.getDatabase().getEntries());
@@ -168,7 +176,10 @@ public class MainTableDataModel {
         }
     }
 
-    private static Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups, GroupsPreferences groupsPreferences) {
+    /**
+     * The memberships are read from the {@link GroupMembershipIndex}, so that checking an entry does not evaluate the groups again
+     */
+    private Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups, GroupsPreferences groupsPreferences) {
         if ((selectedGroups == null) || selectedGroups.isEmpty()) {
             // No selected group, show all entries
             return Optional.empty();
@@ -180,7 +191,7 @@ public class MainTableDataModel {
                         : MatcherSets.MatcherType.OR);
 
         for (GroupTreeNode node : selectedGroups) {
-            searchRules.addRule(node.getSearchMatcher());
+            searchRules.addRule(entry -> membershipIndex.matches(node, entry));
         }
         return Optional.of(searchRules);
     }
@@ -192,6 +203,7 @@ public class MainTableDataModel {
         groupViewModeSubscription.unsubscribe();
 
         bibDatabaseContext.getDatabase().unregisterListener(indexUpdatedListener);
+        membershipIndex.unregisterListener(groupMembershipListener);
     }
 
     public SortedList<BibEntryTableViewModel> getEntriesFilteredAndSorted() {
@@ -210,6 +222,30 @@ public class MainTableDataModel {
         this.fieldValueFormatter.setValue(new MainTableFieldValueFormatter(nameDisplayPreferences, bibDatabaseContext));
     }
 
+    /**
+     * Updates the group match of the entries whose group memberships changed, instead of matching all entries again
+     */
+    class GroupMembershipListener {
+        @Subscribe
+        public void listen(GroupMembershipChangedEvent event) {
+            UiTaskExecutor.runInJavaFXThread(() -> {
+                boolean isInvertMode = groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT);
+                boolean isFloatingMode = !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER);
+                for (BibEntry entry : event.entries()) {
+                    if (bibDatabaseContext.getDatabase().getEntryById(entry.getId()) != entry) {
+                        // Removed entries are no longer shown
+                        continue;
+                    }
+                    int index = bibDatabaseContext.getDatabase().indexOf(entry);
+                    if ((index >= 0) && (index < entriesViewModel.size())) {
+                        updateEntryGroupMatch(entriesViewModel.get(index), groupsMatcher, isInvertMode, isFloatingMode);
+                        FilteredListProxy.refilterListReflection(entriesFiltered, index, index + 1);
+                    }
+                }
+            });
+        }
+    }
+
     class SearchIndexListener {
         @Subscribe
         public void listen(IndexAddedOrUpdatedEvent indexAddedOrUpdatedEvent) {
@@ -1,6 +1,5 @@
 package org.jabref.gui.search;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -10,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.jabref.logic.search.PostgreConnectionPool;
 import org.jabref.logic.search.PostgreServer;
 import org.jabref.logic.search.query.SearchQueryConversion;
 import org.jabref.model.entry.field.Field;
@@ -36,7 +36,6 @@ public class Highlighter {
      */
     private static final String REGEXP_MARK = "SELECT regexp_mark(?, ?)";
     private static final String REGEXP_POSITIONS = "SELECT * FROM regexp_positions(?, ?)";
-    private static Connection connection;
 
     public static String highlightHtml(String htmlText, SearchQuery searchQuery) {
         Optional<String> searchTermsPattern = buildSearchPattern(searchQuery);
@@ -67,19 +66,20 @@ public class Highlighter {
     }
 
     private static String highlightNode(String text, String searchPattern) {
-        if (connection == null) {
-            connection = Injector.instantiateModelOrService(PostgreServer.class).getConnection();
-        }
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(REGEXP_MARK)) {
-            preparedStatement.setString(1, text);
-            preparedStatement.setString(2, searchPattern);
-
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                if (resultSet.next()) {
-                    return resultSet.getString(1);
+        try {
+            return getReaderPool().withConnection(connection -> {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(REGEXP_MARK)) {
+                    preparedStatement.setString(1, text);
+                    preparedStatement.setString(2, searchPattern);
+
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        if (resultSet.next()) {
+                            return resultSet.getString(1);
+                        }
+                    }
                 }
-            }
+                return text;
+            });
         } catch (SQLException e) {
             LOGGER.error("Error highlighting search terms in text", e);
         }
@@ -87,27 +87,31 @@ public class Highlighter {
     }
 
     public static List<Range> findMatchPositions(String text, String pattern) {
-        if (connection == null) {
-            connection = Injector.instantiateModelOrService(PostgreServer.class).getConnection();
-        }
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(REGEXP_POSITIONS)) {
-            preparedStatement.setString(1, text);
-            preparedStatement.setString(2, pattern);
-
-            try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                List<Range> positions = new ArrayList<>();
-                while (resultSet.next()) {
-                    positions.add(new Range(resultSet.getInt(1), resultSet.getInt(2)));
+        try {
+            return getReaderPool().withConnection(connection -> {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(REGEXP_POSITIONS)) {
+                    preparedStatement.setString(1, text);
+                    preparedStatement.setString(2, pattern);
+
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        List<Range> positions = new ArrayList<>();
+                        while (resultSet.next()) {
+                            positions.add(new Range(resultSet.getInt(1), resultSet.getInt(2)));
+                        }
+                        return positions;
+                    }
                 }
-                return positions;
-            }
+            });
         } catch (SQLException e) {
             LOGGER.error("Error getting match positions in text", e);
         }
         return List.of();
     }
 
+    private static PostgreConnectionPool getReaderPool() {
+        return Injector.instantiateModelOrService(PostgreServer.class).getReaderPool();
+    }
+
     public static Map<Optional<Field>, List<String>> groupTermsByField(SearchQuery searchQuery) {
         if (!searchQuery.isValid()) {
             return Map.of();
@@ -0,0 +1,97 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BackupJournalTest {
+
+    private Path snapshotPath;
+    private BibDatabase database;
+    private BackupJournal journal;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) {
+        snapshotPath = tempDir.resolve("test.bib--2025-01-01--00.00.00.bak");
+        database = new BibDatabase(List.of(
+                new BibEntry(StandardEntryType.Article).withCitationKey("first").withField(StandardField.TITLE, "First"),
+                new BibEntry(StandardEntryType.Book).withCitationKey("second").withField(StandardField.TITLE, "Second")));
+        journal = new BackupJournal(snapshotPath, database.getEntries());
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(BibDatabaseContextChangedEvent event) {
+                journal.record(event);
+            }
+        });
+    }
+
+    private BibDatabase getSnapshot() {
+        return new BibDatabase(List.of(
+                new BibEntry(StandardEntryType.Article).withCitationKey("first").withField(StandardField.TITLE, "First"),
+                new BibEntry(StandardEntryType.Book).withCitationKey("second").withField(StandardField.TITLE, "Second")));
+    }
+
+    @Test
+    void noJournalWithoutChanges() throws IOException {
+        journal.flush();
+
+        assertFalse(BackupJournal.hasRecords(snapshotPath));
+    }
+
+    @Test
+    void replayAppliesChanges() throws IOException {
+        BibEntry first = database.getEntries().getFirst();
+        BibEntry second = database.getEntries().get(1);
+        first.setField(StandardField.TITLE, "F");
+        first.setField(StandardField.TITLE, "First title\twith tab\nand new line");
+        first.setType(StandardEntryType.InProceedings);
+        second.clearField(StandardField.TITLE);
+        journal.flush();
+        database.removeEntry(second);
+        BibEntry added = new BibEntry(StandardEntryType.Misc).withCitationKey("third").withField(StandardField.NOTE, "back\\slash");
+        database.insertEntry(added);
+        added.setField(StandardField.YEAR, "2025");
+        journal.flush();
+
+        assertTrue(BackupJournal.hasRecords(snapshotPath));
+
+        BibDatabase snapshot = getSnapshot();
+        BackupJournal.replay(snapshotPath, snapshot);
+
+        assertEquals(database.getEntries(), snapshot.getEntries());
+    }
+
+    @Test
+    void subsequentChangesOfAFieldAreCollapsed() {
+        BibEntry first = database.getEntries().getFirst();
+        first.setField(StandardField.TITLE, "F");
+        first.setField(StandardField.TITLE, "Fi");
+        first.setField(StandardField.TITLE, "Fir");
+
+        assertEquals(1, journal.size());
+    }
+
+    @Test
+    void replayRejectsJournalOfOtherSnapshot() throws IOException {
+        database.getEntries().getFirst().setField(StandardField.TITLE, "Changed");
+        journal.flush();
+
+        assertThrows(IOException.class, () -> BackupJournal.replay(snapshotPath, new BibDatabase()));
+    }
+}
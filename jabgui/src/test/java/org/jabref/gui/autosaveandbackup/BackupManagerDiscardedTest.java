@@ -5,6 +5,7 @@ import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import org.jabref.gui.LibraryTab;
 import org.jabref.logic.exporter.AtomicFileWriter;
@@ -12,6 +13,7 @@ import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
@@ -39,6 +41,7 @@ class BackupManagerDiscardedTest {
     private Path testBib;
     private SelfContainedSaveConfiguration saveConfiguration;
     private CliPreferences preferences;
+    private ImportFormatPreferences importFormatPreferences;
     private BibEntryTypesManager bibEntryTypesManager;
     private Path backupDir;
 
@@ -55,6 +58,7 @@ class BackupManagerDiscardedTest {
         bibEntryTypesManager = new BibEntryTypesManager();
         saveConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, false);
         preferences = mock(CliPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
 
         saveDatabase();
 
@@ -88,7 +92,7 @@ class BackupManagerDiscardedTest {
     void noDiscardingAChangeLeadsToNewerBackupBeReported() {
         databaseModification();
         makeBackup();
-        assertTrue(BackupManager.backupFileDiffers(testBib, backupDir));
+        assertTrue(BackupManager.backupFileDiffers(testBib, backupDir, importFormatPreferences));
     }
 
     @Test
@@ -96,7 +100,7 @@ class BackupManagerDiscardedTest {
         databaseModification();
         makeBackup();
         saveDatabase();
-        assertFalse(BackupManager.backupFileDiffers(testBib, backupDir));
+        assertFalse(BackupManager.backupFileDiffers(testBib, backupDir, importFormatPreferences));
     }
 
     @Test
@@ -104,6 +108,34 @@ class BackupManagerDiscardedTest {
         databaseModification();
         makeBackup();
         backupManager.discardBackup(backupDir);
-        assertFalse(BackupManager.backupFileDiffers(testBib, backupDir));
+        assertFalse(BackupManager.backupFileDiffers(testBib, backupDir, importFormatPreferences));
+    }
+
+    @Test
+    void savingAndClosingDoesNotLeadToBackupBeReported() throws IOException {
+        databaseModification();
+        makeBackup();
+        // Journaled in addition to the snapshot
+        databaseModification();
+        saveDatabase();
+        backupManager.shutdown(backupDir, true);
+        // Ensure that the file is not regarded as newer than the journal
+        Files.setLastModifiedTime(testBib, FileTime.fromMillis(0));
+
+        Path backupPath = BackupManager.getLatestBackupPath(testBib, backupDir).orElseThrow();
+        assertTrue(BackupJournal.hasRecords(backupPath));
+        assertFalse(BackupManager.backupFileDiffers(testBib, backupDir, importFormatPreferences));
+    }
+
+    @Test
+    void closingWithoutSavingLeadsToJournaledChangeBeReported() throws IOException {
+        databaseModification();
+        makeBackup();
+        saveDatabase();
+        databaseModification();
+        backupManager.shutdown(backupDir, true);
+        Files.setLastModifiedTime(testBib, FileTime.fromMillis(0));
+
+        assertTrue(BackupManager.backupFileDiffers(testBib, backupDir, importFormatPreferences));
     }
 }
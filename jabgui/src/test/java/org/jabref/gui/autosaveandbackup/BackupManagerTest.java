@@ -11,13 +11,17 @@ import java.util.Optional;
 
 import org.jabref.gui.LibraryTab;
 import org.jabref.logic.FilePreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.groups.event.GroupUpdatedEvent;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
@@ -32,15 +36,18 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class BackupManagerTest {
 
     Path backupDir;
+    ImportFormatPreferences importFormatPreferences;
 
     @BeforeEach
     void setup(@TempDir Path tempDir) {
         backupDir = tempDir.resolve("backup");
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
     }
 
     @Test
@@ -56,7 +63,7 @@ class BackupManagerTest {
     @Test
     void backupFileIsEqualForNonExistingBackup() throws URISyntaxException {
         Path originalFile = Path.of(BackupManagerTest.class.getResource("no-autosave.bib").toURI());
-        assertFalse(BackupManager.backupFileDiffers(originalFile, backupDir));
+        assertFalse(BackupManager.backupFileDiffers(originalFile, backupDir, importFormatPreferences));
     }
 
     @Test
@@ -67,7 +74,7 @@ class BackupManagerTest {
         Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
 
         Path originalFile = Path.of(BackupManagerTest.class.getResource("no-changes.bib").toURI());
-        assertFalse(BackupManager.backupFileDiffers(originalFile, backupDir));
+        assertFalse(BackupManager.backupFileDiffers(originalFile, backupDir, importFormatPreferences));
     }
 
     @Test
@@ -78,7 +85,7 @@ class BackupManagerTest {
         Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
 
         Path originalFile = Path.of(BackupManagerTest.class.getResource("changes.bib").toURI());
-        assertTrue(BackupManager.backupFileDiffers(originalFile, backupDir));
+        assertTrue(BackupManager.backupFileDiffers(originalFile, backupDir, importFormatPreferences));
     }
 
     @Test
@@ -102,7 +109,7 @@ class BackupManagerTest {
         }
 
         Path originalFile = noChangesBib;
-        assertFalse(BackupManager.backupFileDiffers(originalFile, backupDir));
+        assertFalse(BackupManager.backupFileDiffers(originalFile, backupDir, importFormatPreferences));
     }
 
     @Test
@@ -113,7 +120,7 @@ class BackupManagerTest {
         Path target = BackupFileUtil.getPathForNewBackupFileAndCreateDirectory(changesBib, BackupFileType.BACKUP, backupDir);
         Files.copy(changesBibBak, target, StandardCopyOption.REPLACE_EXISTING);
 
-        assertTrue(BackupManager.backupFileDiffers(changesBib, backupDir));
+        assertTrue(BackupManager.backupFileDiffers(changesBib, backupDir, importFormatPreferences));
     }
 
     @Test
@@ -127,7 +134,7 @@ class BackupManagerTest {
         // Make .bak file very old
         Files.setLastModifiedTime(target, FileTime.fromMillis(0));
 
-        assertFalse(BackupManager.backupFileDiffers(changesBib, backupDir));
+        assertFalse(BackupManager.backupFileDiffers(changesBib, backupDir, importFormatPreferences));
     }
 
     @Test
@@ -189,4 +196,67 @@ class BackupManagerTest {
         // due to timing issues we cannot test that reliable
         assertEquals(fullBackupPath.get(), files.getFirst());
     }
+
+    @Test
+    void savedLibraryIsNotComparedWithJournal(@TempDir Path customDir) throws IOException {
+        Path backupDir = customDir.resolve("subBackupDir");
+        Files.createDirectories(backupDir);
+        Path libraryPath = customDir.resolve("Bibfile.bib");
+
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Smith");
+        var database = new BibDatabaseContext(new BibDatabase(List.of(entry)));
+        database.setDatabasePath(libraryPath);
+
+        var preferences = mock(CliPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        BackupManager manager = BackupManager.start(
+                mock(LibraryTab.class),
+                database,
+                mock(BibEntryTypesManager.class, Answers.RETURNS_DEEP_STUBS),
+                preferences);
+        Path snapshotPath = manager.determineBackupPathForNewBackup(backupDir).orElseThrow();
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        manager.performBackup(snapshotPath);
+
+        entry.setField(StandardField.TITLE, "Journaled title");
+        manager.performBackup(snapshotPath);
+        assertTrue(BackupJournal.hasRecords(snapshotPath));
+
+        Files.writeString(libraryPath, "@Article{, author = {Smith}, title = {Journaled title}}");
+        BackupManager.librarySaved(database);
+        BackupManager.shutdown(database, backupDir, true);
+
+        assertFalse(BackupJournal.hasRecords(snapshotPath));
+        assertFalse(BackupManager.backupFileDiffers(libraryPath, backupDir, importFormatPreferences));
+        // Neither the backup nor the library was parsed
+        verifyNoInteractions(importFormatPreferences);
+    }
+
+    @Test
+    void closedLibraryIsBackedUpWithoutJournal(@TempDir Path customDir) throws IOException {
+        Path backupDir = customDir.resolve("subBackupDir");
+        Files.createDirectories(backupDir);
+
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "Smith");
+        var database = new BibDatabaseContext(new BibDatabase(List.of(entry)));
+        database.setDatabasePath(customDir.resolve("Bibfile.bib"));
+
+        var preferences = mock(CliPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        BackupManager manager = BackupManager.start(
+                mock(LibraryTab.class),
+                database,
+                mock(BibEntryTypesManager.class, Answers.RETURNS_DEEP_STUBS),
+                preferences);
+        Path snapshotPath = manager.determineBackupPathForNewBackup(backupDir).orElseThrow();
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        manager.performBackup(snapshotPath);
+
+        entry.setField(StandardField.TITLE, "Journaled title");
+        manager.performBackup(snapshotPath);
+        assertTrue(BackupJournal.hasRecords(snapshotPath));
+
+        BackupManager.shutdown(database, backupDir, true);
+
+        Path latestBackupPath = BackupManager.getLatestBackupPath(database.getDatabasePath().get(), backupDir).orElseThrow();
+        assertFalse(BackupJournal.hasRecords(latestBackupPath));
+    }
 }
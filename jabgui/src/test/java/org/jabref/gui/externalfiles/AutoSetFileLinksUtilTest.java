@@ -3,6 +3,7 @@ package org.jabref.gui.externalfiles;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.TreeSet;
 
@@ -64,4 +65,18 @@ class AutoSetFileLinksUtilTest {
         List<LinkedFile> actual = util.findAssociatedNotLinkedFiles(entry);
         assertEquals(List.of(), actual);
     }
+
+    @Test
+    void linkAssociatedFilesOfSeveralEntries() throws IOException {
+        when(databaseContext.getFileDirectories(any())).thenReturn(List.of(path.getParent()));
+        Files.createFile(path.getParent().resolve("OtherKey.pdf"));
+        BibEntry otherEntry = new BibEntry(StandardEntryType.Article).withCitationKey("OtherKey");
+        List<LinkedFile> linkedFiles = new ArrayList<>();
+        AutoSetFileLinksUtil util = new AutoSetFileLinksUtil(databaseContext, externalApplicationsPreferences, filePreferences, autoLinkPrefs);
+
+        AutoSetFileLinksUtil.LinkFilesResult result = util.linkAssociatedFiles(List.of(entry, otherEntry), (linkedFile, _) -> linkedFiles.add(linkedFile));
+
+        assertEquals(List.of(new LinkedFile("", Path.of("CiteKey.pdf"), "PDF"), new LinkedFile("", Path.of("OtherKey.pdf"), "PDF")), linkedFiles);
+        assertEquals(List.of(entry, otherEntry), result.getChangedEntries());
+    }
 }
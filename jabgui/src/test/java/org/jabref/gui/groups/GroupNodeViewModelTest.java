@@ -19,6 +19,7 @@ import org.jabref.model.groups.AbstractGroup;
 import org.jabref.model.groups.AutomaticKeywordGroup;
 import org.jabref.model.groups.ExplicitGroup;
 import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.WordKeywordGroup;
 
@@ -73,6 +74,23 @@ class GroupNodeViewModelTest {
         assertTrue(viewModel.isMatchedBy("est"));
     }
 
+    @Test
+    void rebuiltViewModelsDoNotAccumulateMembershipListeners() {
+        GroupMembershipIndex membershipIndex = databaseContext.getGroupMembershipIndex();
+        int numberOfListeners = membershipIndex.getNumberOfListeners();
+        for (int i = 0; i < 10; i++) {
+            getViewModelForGroup(new WordKeywordGroup("Rebuilt group", GroupHierarchyType.INDEPENDENT, StandardField.TITLE, "search", true, ',', false));
+        }
+
+        // The listeners of collected view models are unregistered on the next event
+        for (int attempt = 0; (attempt < 10) && (membershipIndex.getNumberOfListeners() != numberOfListeners); attempt++) {
+            System.gc();
+            databaseContext.getDatabase().insertEntry(new BibEntry());
+        }
+
+        assertEquals(numberOfListeners, membershipIndex.getNumberOfListeners());
+    }
+
     @Test
     void treeOfAutomaticKeywordGroupIsCombined() {
         BibEntry entryOne = new BibEntry().withField(StandardField.KEYWORDS, "A > B > B1, A > C");
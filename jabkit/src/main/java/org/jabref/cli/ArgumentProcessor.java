@@ -37,6 +37,8 @@ import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.logic.importer.WebFetchers;
 import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.net.URLDownload;
@@ -276,6 +278,10 @@ public class ArgumentProcessor {
         if (cli.isCheckConsistency()) {
             checkConsistency(cliPreferences, entryTypesManager);
         }
+
+        if (cli.isCheckIntegrity()) {
+            checkIntegrity(cliPreferences);
+        }
     }
 
     private void checkConsistency(CliPreferences cliPreferences,
@@ -333,6 +339,38 @@ public class ArgumentProcessor {
         }
     }
 
+    private void checkIntegrity(CliPreferences cliPreferences) {
+        Optional<String> fileName = Optional.ofNullable(cli.getCheckIntegrity());
+
+        if (fileName.isEmpty()) {
+            System.out.println(Localization.lang("No file specified for integrity check."));
+            return;
+        }
+
+        Path filePath = Path.of(fileName.get());
+        ParserResult pr;
+        try {
+            pr = OpenDatabase.loadDatabase(filePath, cliPreferences.getImportFormatPreferences(), fileUpdateMonitor);
+        } catch (IOException ex) {
+            LOGGER.error("Error reading '{}'.", filePath, ex);
+            return;
+        }
+
+        IntegrityCheck integrityCheck = new IntegrityCheck(
+                pr.getDatabaseContext(),
+                cliPreferences.getFilePreferences(),
+                cliPreferences.getCitationKeyPatternPreferences(),
+                Injector.instantiateModelOrService(JournalAbbreviationRepository.class),
+                false);
+        List<IntegrityMessage> messages = integrityCheck.check(cli.isParallel(), () -> {
+        }, () -> false);
+
+        messages.forEach(System.out::println);
+        if (!cli.isPorcelainOutputMode()) {
+            System.out.println(Localization.lang("Integrity check completed"));
+        }
+    }
+
     private static void writeMetadataToPdf(List<ParserResult> loaded,
                                     String filesAndCiteKeys,
                                     XmpPreferences xmpPreferences,
@@ -772,9 +810,7 @@ public class ArgumentProcessor {
             CitationKeyGenerator keyGenerator = new CitationKeyGenerator(
                     parserResult.getDatabaseContext(),
                     cliPreferences.getCitationKeyPatternPreferences());
-            for (BibEntry entry : database.getEntries()) {
-                keyGenerator.generateAndSetKey(entry);
-            }
+            keyGenerator.generateAndSetKeys(database.getEntries());
         }
     }
 
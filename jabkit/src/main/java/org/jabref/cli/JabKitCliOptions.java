@@ -65,6 +65,18 @@ public class JabKitCliOptions {
         return commandLine.getOptionValue("output-format");
     }
 
+    public boolean isCheckIntegrity() {
+        return commandLine.hasOption("check-integrity");
+    }
+
+    public String getCheckIntegrity() {
+        return commandLine.getOptionValue("check-integrity");
+    }
+
+    public boolean isParallel() {
+        return commandLine.hasOption("parallel");
+    }
+
     public boolean isPorcelainOutputMode() {
         return commandLine.hasOption("porcelain");
     }
@@ -306,6 +318,20 @@ public class JabKitCliOptions {
                 .argName("FORMAT")
                 .build());
 
+        options.addOption(Option
+                .builder("ci")
+                .longOpt("check-integrity")
+                .desc(Localization.lang("Check integrity of BibTeX file"))
+                .hasArg()
+                .argName("FILE")
+                .build());
+
+        options.addOption(Option
+                .builder()
+                .longOpt("parallel")
+                .desc(Localization.lang("Check the entries in parallel"))
+                .build());
+
         options.addOption(Option
                 .builder("porcelain")
                 .longOpt("porcelain")
@@ -0,0 +1,94 @@
+package org.jabref.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures the throughput of indexing bib fields into the embedded Postgres server in entries per second.
+ * <p>
+ * {@link #indexEntryByEntry()} adds the entries one at a time (the way the indexer worked before bulk loading),
+ * {@link #indexBulk()} uses the <code>COPY</code> based bulk load of {@link BibFieldsIndexer#updateOnStart(BackgroundTask)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BibFieldsIndexerBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 5000;
+
+    private final BibDatabase database = new BibDatabase();
+    private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+    private PostgreServer postgreServer;
+    private BibDatabaseContext databaseContext;
+    private BibFieldsIndexer indexer;
+
+    @Setup(Level.Trial)
+    public void init() {
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setCitationKey("id" + i);
+            entry.setField(StandardField.TITLE, "This is my title " + i);
+            entry.setField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
+            entry.setField(StandardField.JOURNAL, "Journal Title " + i);
+            entry.setField(StandardField.KEYWORDS, "testkeyword, keyword" + i);
+            entry.setField(StandardField.YEAR, "1" + i);
+            database.insertEntry(entry);
+        }
+        databaseContext = new BibDatabaseContext(database);
+        postgreServer = new PostgreServer();
+    }
+
+    @Setup(Level.Invocation)
+    public void createIndexer() {
+        indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection());
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeIndexer() {
+        indexer.closeAndWait();
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        postgreServer.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_ENTRIES)
+    public void indexEntryByEntry() {
+        BackgroundTask<?> task = BackgroundTask.wrap(() -> { });
+        for (BibEntry entry : database.getEntries()) {
+            indexer.addToIndex(List.of(entry), task);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_ENTRIES)
+    public void indexBulk() {
+        indexer.updateOnStart(BackgroundTask.wrap(() -> { }));
+    }
+}
@@ -0,0 +1,83 @@
+package org.jabref.benchmarks;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.bst.BstVM;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures rendering entries with a bst style, as done by the bst preview for each selected entry.
+ * <p>
+ * <code>renderEntries</code> renders all entries at once, <code>renderEntriesOneByOne</code> renders each entry on its own like the preview.
+ * <code>loadStyle</code> measures creating the VM of a style file, which reuses the compiled program of the file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BstBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 1000;
+
+    /**
+     * The styles of the tests, abbrv.bst is plain.bst with abbreviated first names
+     */
+    @Param({"abbrv.bst", "IEEEtran.bst"})
+    public String style;
+
+    private Path stylePath;
+    private BstVM bstVM;
+    private List<BibEntry> entries;
+
+    @Setup(Level.Trial)
+    public void init() throws Exception {
+        stylePath = Path.of(BstBenchmarks.class.getResource("/org/jabref/logic/bst/" + style).toURI());
+        bstVM = new BstVM(stylePath);
+
+        entries = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            entries.add(new BibEntry(i % 2 == 0 ? StandardEntryType.Article : StandardEntryType.InProceedings)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname" + i + " and FirstnameA LastnameA and FirstnameB LastnameB")
+                    .withField(StandardField.TITLE, "This is my title " + i)
+                    .withField(StandardField.JOURNAL, "Journal Title " + (i % 100))
+                    .withField(StandardField.BOOKTITLE, "Proceedings of the Conference " + (i % 100))
+                    .withField(StandardField.VOLUME, String.valueOf(i % 50))
+                    .withField(StandardField.PAGES, i + "--" + (i + 10))
+                    .withField(StandardField.YEAR, String.valueOf(1900 + (i % 125))));
+        }
+    }
+
+    @Benchmark
+    public String renderEntries() {
+        return bstVM.render(entries);
+    }
+
+    @Benchmark
+    public int renderEntriesOneByOne() {
+        int length = 0;
+        for (BibEntry entry : entries) {
+            length += bstVM.render(List.of(entry)).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public BstVM loadStyle() throws Exception {
+        return new BstVM(stylePath);
+    }
+}
@@ -0,0 +1,101 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.ai.ingestion.HnswIndex;
+
+import org.h2.mvstore.MVStore;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the latency and the recall of the approximate nearest neighbour search of {@link HnswIndex} compared to the exact search.
+ * <p>
+ * The embeddings are clustered (as the embeddings of the chunks of one paper are) random vectors with the dimension of the default embedding model.
+ * The recall of {@link #searchGraph(Recall)} is <code>foundNeighbours / exactNeighbours</code> of the reported counters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmbeddingIndexBenchmarks {
+
+    private static final int NUMBER_OF_EMBEDDINGS = 20_000;
+    private static final int NUMBER_OF_CLUSTERS = 200;
+    private static final int DIMENSION = 384;
+    private static final int NUMBER_OF_QUERIES = 100;
+    private static final int MAX_RESULTS = 10;
+
+    private final Random random = new Random(42);
+    private final float[][] centers = new float[NUMBER_OF_CLUSTERS][];
+    private final float[][] queries = new float[NUMBER_OF_QUERIES][];
+    private final List<Set<String>> exactNeighbours = new ArrayList<>();
+    private MVStore mvStore;
+    private HnswIndex index;
+    private int nextQuery;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Recall {
+        public long foundNeighbours;
+        public long exactNeighbours;
+    }
+
+    @Setup(Level.Trial)
+    public void init() {
+        for (int i = 0; i < NUMBER_OF_CLUSTERS; i++) {
+            centers[i] = randomVector(new float[DIMENSION]);
+        }
+        mvStore = new MVStore.Builder().open();
+        index = new HnswIndex(mvStore, "benchmark");
+        for (int i = 0; i < NUMBER_OF_EMBEDDINGS; i++) {
+            index.add(String.valueOf(i), randomVector(centers[random.nextInt(NUMBER_OF_CLUSTERS)]));
+        }
+        for (int i = 0; i < NUMBER_OF_QUERIES; i++) {
+            queries[i] = randomVector(centers[random.nextInt(NUMBER_OF_CLUSTERS)]);
+            Set<String> ids = new HashSet<>();
+            index.searchExact(queries[i], MAX_RESULTS).forEach(neighbour -> ids.add(neighbour.id()));
+            exactNeighbours.add(ids);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        mvStore.close();
+    }
+
+    private float[] randomVector(float[] center) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = center[i] + (float) random.nextGaussian() * 0.5f;
+        }
+        return vector;
+    }
+
+    @Benchmark
+    public List<HnswIndex.Neighbour> searchGraph(Recall recall) {
+        int query = nextQuery++ % NUMBER_OF_QUERIES;
+        List<HnswIndex.Neighbour> neighbours = index.search(queries[query], MAX_RESULTS, _ -> true);
+        Set<String> exact = exactNeighbours.get(query);
+        recall.foundNeighbours += neighbours.stream().filter(neighbour -> exact.contains(neighbour.id())).count();
+        recall.exactNeighbours += exact.size();
+        return neighbours;
+    }
+
+    @Benchmark
+    public List<HnswIndex.Neighbour> searchExact() {
+        return index.searchExact(queries[nextQuery++ % NUMBER_OF_QUERIES], MAX_RESULTS);
+    }
+}
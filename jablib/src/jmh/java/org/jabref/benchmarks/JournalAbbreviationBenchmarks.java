@@ -0,0 +1,66 @@
+package org.jabref.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.journals.Abbreviation;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures loading the built-in journal abbreviations, as done at startup, and looking up abbreviations.
+ * Looking up an unknown name falls back to fuzzy matching against all full names, as happens for most journals when abbreviating a library.
+ * <p>
+ * Run with <code>-prof gc</code> to see the memory allocated while loading.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JournalAbbreviationBenchmarks {
+
+    private JournalAbbreviationRepository repository;
+
+    @Setup(Level.Trial)
+    public void init() {
+        repository = JournalAbbreviationLoader.loadBuiltInRepository();
+    }
+
+    @Benchmark
+    public JournalAbbreviationRepository loadRepository() {
+        return JournalAbbreviationLoader.loadBuiltInRepository();
+    }
+
+    @Benchmark
+    public Optional<Abbreviation> getByFullName() {
+        return repository.get("Physical Review Letters");
+    }
+
+    @Benchmark
+    public Optional<Abbreviation> getByAbbreviation() {
+        return repository.get("Phys. Rev. Lett.");
+    }
+
+    @Benchmark
+    public boolean isKnownName() {
+        return repository.isKnownName("2D Materials");
+    }
+
+    @Benchmark
+    public Optional<Abbreviation> getUnknownName() {
+        return repository.get("Journal of Unknown Research in Benchmarking");
+    }
+
+    @Benchmark
+    public Optional<Abbreviation> getMisspelledName() {
+        return repository.get("Physical Reviw Leters");
+    }
+}
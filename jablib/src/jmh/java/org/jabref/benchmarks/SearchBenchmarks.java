@@ -0,0 +1,112 @@
+package org.jabref.benchmarks;
+
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javafx.beans.property.SimpleBooleanProperty;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.search.IndexManager;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load test of searching a library from concurrent threads, as done by the http server for concurrent requests.
+ * <p>
+ * The sample time mode reports the percentiles of the latency, e.g., <code>p0.50</code> and <code>p0.99</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class SearchBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 10000;
+
+    private static final List<String> SEARCH_EXPRESSIONS = List.of(
+            "title=title",
+            "author=LastnameB and year=1500",
+            "keywords=keyword42",
+            "journal=\"Journal Title 7\"",
+            "unknown");
+
+    private PostgreServer postgreServer;
+    private IndexManager indexManager;
+
+    /**
+     * The queries of a thread. Each thread needs its own queries, because the search stores the results in the query.
+     */
+    @State(Scope.Thread)
+    public static class Queries {
+        private final List<SearchQuery> queries = SEARCH_EXPRESSIONS.stream().map(SearchQuery::new).toList();
+        private int next;
+
+        SearchQuery next() {
+            return queries.get(next++ % queries.size());
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void init() throws Exception {
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setCitationKey("id" + i);
+            entry.setField(StandardField.TITLE, "This is my title " + i);
+            entry.setField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
+            entry.setField(StandardField.JOURNAL, "Journal Title " + (i % 100));
+            entry.setField(StandardField.KEYWORDS, "testkeyword, keyword" + (i % 1000));
+            entry.setField(StandardField.YEAR, String.valueOf(1000 + (i % 1000)));
+            database.insertEntry(entry);
+        }
+
+        CliPreferences preferences = mock(CliPreferences.class);
+        BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+        when(preferences.getBibEntryPreferences()).thenReturn(bibEntryPreferences);
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        FilePreferences filePreferences = mock(FilePreferences.class);
+        when(preferences.getFilePreferences()).thenReturn(filePreferences);
+        when(filePreferences.fulltextIndexLinkedFilesProperty()).thenReturn(new SimpleBooleanProperty(false));
+
+        BibDatabaseContext databaseContext = spy(new BibDatabaseContext(database));
+        when(databaseContext.getFulltextIndexPath()).thenReturn(Files.createTempDirectory("search-benchmark"));
+
+        postgreServer = new PostgreServer();
+        indexManager = new IndexManager(databaseContext, new CurrentThreadTaskExecutor(), preferences, postgreServer);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        indexManager.closeAndWait();
+        postgreServer.shutdown();
+    }
+
+    @Benchmark
+    public SearchResults search(Queries queries) {
+        return indexManager.search(queries.next());
+    }
+}
@@ -47,6 +47,7 @@ open module org.jabref.jablib {
     exports org.jabref.model.search.matchers;
     exports org.jabref.model.entry.identifier;
     exports org.jabref.model.entry.types;
+    exports org.jabref.model.paging;
     exports org.jabref.logic.importer.util;
     exports org.jabref.logic.database;
     exports org.jabref.logic.externalfiles;
@@ -70,6 +70,18 @@ public class JournalListMvGenerator {
                     fullToAbbreviation.putAll(abbreviationMap);
                 }
             }));
+
+            // Secondary maps allow looking up abbreviated names without loading all abbreviations
+            MVMap<String, String> abbreviationToFull = store.openMap("AbbreviationToFull");
+            MVMap<String, String> dotlessToFull = store.openMap("DotlessToFull");
+            MVMap<String, String> shortestUniqueToFull = store.openMap("ShortestUniqueToFull");
+            fullToAbbreviation.forEach((name, storedAbbreviation) -> {
+                // The name and the dotless abbreviation are not serialized
+                Abbreviation abbreviation = new Abbreviation(name, storedAbbreviation.getAbbreviation(), storedAbbreviation.getShortestUniqueAbbreviation());
+                abbreviationToFull.put(abbreviation.getAbbreviation(), name);
+                dotlessToFull.put(abbreviation.getDotlessAbbreviation(), name);
+                shortestUniqueToFull.put(abbreviation.getShortestUniqueAbbreviation(), name);
+            });
         }
     }
 }
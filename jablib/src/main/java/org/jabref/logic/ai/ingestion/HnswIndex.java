@@ -0,0 +1,499 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import jakarta.annotation.Nullable;
+import org.h2.mvstore.FileStore;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Comparator.comparingDouble;
+
+/**
+ * Approximate nearest neighbour index for embeddings based on a hierarchical navigable small world (HNSW) graph
+ * (Malkov and Yashunin, "Efficient and robust approximate nearest neighbor search using Hierarchical Navigable Small World graphs").
+ * <p>
+ * The graph is kept in maps of the given {@link MVStore}. Thus, it is persisted (and committed) together with the embeddings.
+ * The vectors are stored in a {@link VectorColumn} next to the store file only. The row of a vector is its node number,
+ * so that the store holds the norms of the vectors only. The column is written before the store is committed.
+ * As the graph refers to the rows, clearing the index starts a new column file. The file of the former generation is deleted on the next opening.
+ * <p>
+ * Removed embeddings stay in the graph as "tombstones" to keep it navigable, but are never returned.
+ * The graph is rebuilt as soon as there are more tombstones than live nodes.
+ * <p>
+ * Searches may run concurrently, as long as no change runs at the same time. {@link MVStoreEmbeddingStore} guards the index by a read/write lock.
+ */
+public class HnswIndex implements AutoCloseable {
+
+    public record Neighbour(String id, double cosineSimilarity) {
+    }
+
+    private record Candidate(int node, double similarity) {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HnswIndex.class);
+
+    // Maximum number of links of a node on the upper levels. Level 0 allows twice as many.
+    private static final int M = 16;
+    private static final int EF_CONSTRUCTION = 100;
+    private static final int EF_SEARCH = 64;
+    private static final int MAXIMUM_LEVEL = 16;
+    private static final double LEVEL_MULTIPLIER = 1 / Math.log(M);
+    private static final int MINIMUM_TOMBSTONES_FOR_REBUILD = 1000;
+
+    private static final String ENTRY_POINT = "entryPoint";
+    private static final String TOP_LEVEL = "topLevel";
+    private static final String NEXT_NODE = "nextNode";
+    private static final String TOMBSTONES = "tombstones";
+    private static final String GENERATION = "generation";
+
+    private static final String VECTORS_EXTENSION = ".vectors";
+
+    private static final int[] NO_LINKS = new int[0];
+
+    // Live nodes only
+    private final MVMap<Integer, String> nodes;
+    private final MVMap<String, Integer> nodesById;
+    // Norms of the vectors of live nodes and tombstones
+    private final MVMap<Integer, Float> norms;
+    // Key: node and level, see {@link #linksKey(int, int)}
+    private final MVMap<Long, int[]> links;
+    private final MVMap<String, Integer> state;
+
+    // Prefix of the paths of the column files, null for in-memory stores
+    @Nullable private final String columnPathPrefix;
+    // Original (not normalized) vectors of live nodes and tombstones
+    private VectorColumn column;
+    // Indexed by node. Multiplied with the dot product of a normalized query and a row, it yields the cosine similarity.
+    private float[] inverseNorms = new float[0];
+    private final BitSet liveNodes = new BitSet();
+    private final Random random = new Random();
+
+    public HnswIndex(MVStore mvStore, String name) {
+        this.nodes = mvStore.openMap(name + "-hnsw-nodes");
+        this.nodesById = mvStore.openMap(name + "-hnsw-ids");
+        this.norms = mvStore.openMap(name + "-hnsw-norms");
+        this.links = mvStore.openMap(name + "-hnsw-links");
+        this.state = mvStore.openMap(name + "-hnsw-state");
+
+        // In-memory stores have no file name
+        FileStore<?> fileStore = mvStore.getFileStore();
+        boolean persistent = (fileStore != null) && (fileStore.getFileName() != null);
+        this.columnPathPrefix = persistent ? fileStore.getFileName() + "." + name + "-" : null;
+
+        int generation = state.computeIfAbsent(GENERATION, _ -> random.nextInt());
+        this.column = openColumn(generation);
+        if (column.rows() < state.getOrDefault(NEXT_NODE, 0)) {
+            // E.g., the column file was deleted or could not be opened in the last session
+            LOGGER.warn("The vectors of the embeddings index {} are missing. The index is cleared.", name);
+            clear();
+        } else {
+            nodes.keySet().forEach(liveNodes::set);
+            norms.forEach(this::setNorm);
+        }
+        deleteObsoleteColumns(state.get(GENERATION));
+    }
+
+    private VectorColumn openColumn(int generation) {
+        VectorColumn newColumn = new VectorColumn(getColumnPath(generation));
+        if (newColumn.generation() != generation) {
+            newColumn.reset(generation);
+        }
+        return newColumn;
+    }
+
+    @Nullable
+    private Path getColumnPath(int generation) {
+        return columnPathPrefix == null ? null : Path.of(columnPathPrefix + Integer.toHexString(generation) + VECTORS_EXTENSION);
+    }
+
+    private void deleteObsoleteColumns(int generation) {
+        Path currentPath = getColumnPath(generation);
+        if (currentPath == null) {
+            return;
+        }
+        String prefix = Path.of(columnPathPrefix).getFileName().toString();
+        try (Stream<Path> files = Files.list(currentPath.getParent())) {
+            files.filter(file -> file.getFileName().toString().startsWith(prefix))
+                 .filter(file -> file.getFileName().toString().endsWith(VECTORS_EXTENSION))
+                 .filter(file -> !file.equals(currentPath))
+                 .forEach(file -> {
+                     try {
+                         Files.delete(file);
+                     } catch (IOException e) {
+                         LOGGER.warn("Could not delete obsolete vector file {}", file, e);
+                     }
+                 });
+        } catch (IOException e) {
+            LOGGER.warn("Could not list obsolete vector files", e);
+        }
+    }
+
+    private void setNorm(int node, float norm) {
+        if (node >= inverseNorms.length) {
+            inverseNorms = Arrays.copyOf(inverseNorms, Math.max(node + 1, 2 * inverseNorms.length));
+        }
+        inverseNorms[node] = norm == 0 ? 0 : 1 / norm;
+    }
+
+    /**
+     * @param normalizedVector a vector of length 1
+     * @return the cosine similarity of the given vector and the vector of the given node
+     */
+    private double similarity(float[] normalizedVector, int node) {
+        return column.dot(normalizedVector, node) * inverseNorms[node];
+    }
+
+    /**
+     * @return the number of live embeddings in the index
+     */
+    public int size() {
+        return nodesById.size();
+    }
+
+    /**
+     * Adds the given vector to the index. An embedding already indexed under the given id is replaced.
+     */
+    public void add(String id, float[] vector) {
+        remove(id);
+
+        float[] normalized = normalize(vector);
+        float norm = (float) Math.sqrt(dot(vector, vector));
+        int node = state.getOrDefault(NEXT_NODE, 0);
+        column.set(node, vector);
+        setNorm(node, norm);
+        state.put(NEXT_NODE, node + 1);
+        nodes.put(node, id);
+        nodesById.put(id, node);
+        norms.put(node, norm);
+        liveNodes.set(node);
+
+        int level = randomLevel();
+        int entryPoint = state.getOrDefault(ENTRY_POINT, -1);
+        if (entryPoint < 0) {
+            for (int l = 0; l <= level; l++) {
+                links.put(linksKey(node, l), NO_LINKS);
+            }
+            state.put(ENTRY_POINT, node);
+            state.put(TOP_LEVEL, level);
+            return;
+        }
+
+        int topLevel = state.get(TOP_LEVEL);
+        Candidate closest = new Candidate(entryPoint, similarity(normalized, entryPoint));
+        for (int l = topLevel; l > level; l--) {
+            closest = searchLayer(normalized, closest, 1, l, _ -> true).getFirst();
+        }
+        for (int l = Math.min(level, topLevel); l >= 0; l--) {
+            List<Candidate> candidates = searchLayer(normalized, closest, EF_CONSTRUCTION, l, _ -> true);
+            List<Candidate> selected = selectNeighbours(candidates, maximumLinks(l));
+            links.put(linksKey(node, l), selected.stream().mapToInt(Candidate::node).toArray());
+            for (Candidate neighbour : selected) {
+                addLink(neighbour.node(), node, neighbour.similarity(), l);
+            }
+            closest = candidates.getFirst();
+        }
+        for (int l = topLevel + 1; l <= level; l++) {
+            links.put(linksKey(node, l), NO_LINKS);
+        }
+        if (level > topLevel) {
+            state.put(ENTRY_POINT, node);
+            state.put(TOP_LEVEL, level);
+        }
+    }
+
+    public void remove(String id) {
+        Integer node = nodesById.remove(id);
+        if (node == null) {
+            return;
+        }
+        nodes.remove(node);
+        liveNodes.clear(node);
+        int tombstones = state.getOrDefault(TOMBSTONES, 0) + 1;
+        state.put(TOMBSTONES, tombstones);
+        if ((tombstones >= MINIMUM_TOMBSTONES_FOR_REBUILD) && (tombstones > nodes.size())) {
+            rebuild();
+        }
+    }
+
+    public void clear() {
+        int formerGeneration = state.getOrDefault(GENERATION, 0);
+        nodes.clear();
+        nodesById.clear();
+        norms.clear();
+        links.clear();
+        state.clear();
+        liveNodes.clear();
+        inverseNorms = new float[0];
+
+        // The committed graph refers to the rows of the former column until the store is committed. Thus, the former column is kept.
+        int generation;
+        do {
+            generation = random.nextInt();
+        } while (generation == formerGeneration);
+        state.put(GENERATION, generation);
+        column.close();
+        column = openColumn(generation);
+    }
+
+    /**
+     * @return the vector added under the given id, <code>null</code> if there is none
+     */
+    public float[] getVector(String id) {
+        Integer node = nodesById.get(id);
+        return node == null ? null : column.get(node);
+    }
+
+    /**
+     * Writes the vector column to disk. The graph itself is written by the commit of the store.
+     */
+    public void flush() {
+        column.flush();
+    }
+
+    @Override
+    public void close() {
+        column.close();
+    }
+
+    /**
+     * Searches the graph for the approximately nearest neighbours of the query.
+     *
+     * @param filter only embeddings whose id matches the filter are returned
+     * @return at most <code>maxResults</code> neighbours, the most similar first
+     */
+    public List<Neighbour> search(float[] query, int maxResults, Predicate<String> filter) {
+        int entryPoint = state.getOrDefault(ENTRY_POINT, -1);
+        if ((entryPoint < 0) || (maxResults <= 0)) {
+            return List.of();
+        }
+
+        float[] normalized = normalizeQuery(query);
+        Candidate closest = new Candidate(entryPoint, similarity(normalized, entryPoint));
+        for (int l = state.get(TOP_LEVEL); l > 0; l--) {
+            closest = searchLayer(normalized, closest, 1, l, _ -> true).getFirst();
+        }
+        List<Candidate> candidates = searchLayer(normalized, closest, Math.max(EF_SEARCH, maxResults), 0,
+                node -> liveNodes.get(node) && filter.test(nodes.get(node)));
+        return candidates.stream()
+                         .limit(maxResults)
+                         .map(candidate -> new Neighbour(nodes.get(candidate.node()), candidate.similarity()))
+                         .toList();
+    }
+
+    /**
+     * Computes the exact nearest neighbours of the query among all embeddings of the index
+     *
+     * @return at most <code>maxResults</code> neighbours, the most similar first
+     */
+    public List<Neighbour> searchExact(float[] query, int maxResults) {
+        float[] normalized = normalizeQuery(query);
+        PriorityQueue<Candidate> results = new PriorityQueue<>(comparingDouble(Candidate::similarity));
+        for (int node = liveNodes.nextSetBit(0); node >= 0; node = liveNodes.nextSetBit(node + 1)) {
+            offer(results, new Candidate(node, similarity(normalized, node)), maxResults);
+        }
+        return toNeighbours(results);
+    }
+
+    /**
+     * Computes the exact nearest neighbours of the query among the embeddings with the given ids
+     *
+     * @return at most <code>maxResults</code> neighbours, the most similar first
+     */
+    public List<Neighbour> searchExact(float[] query, int maxResults, Collection<String> ids) {
+        float[] normalized = normalizeQuery(query);
+        PriorityQueue<Candidate> results = new PriorityQueue<>(comparingDouble(Candidate::similarity));
+        for (String id : ids) {
+            Integer node = nodesById.get(id);
+            if (node != null) {
+                offer(results, new Candidate(node, similarity(normalized, node)), maxResults);
+            }
+        }
+        return toNeighbours(results);
+    }
+
+    private static void offer(PriorityQueue<Candidate> results, Candidate candidate, int maxResults) {
+        if (results.size() < maxResults) {
+            results.add(candidate);
+        } else if ((maxResults > 0) && (candidate.similarity() > results.peek().similarity())) {
+            results.poll();
+            results.add(candidate);
+        }
+    }
+
+    /**
+     * Resolves the ids of the given nodes. Only these nodes are looked up in the store.
+     */
+    private List<Neighbour> toNeighbours(PriorityQueue<Candidate> results) {
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(comparingDouble(Candidate::similarity).reversed());
+        return sorted.stream()
+                     .map(candidate -> new Neighbour(nodes.get(candidate.node()), candidate.similarity()))
+                     .toList();
+    }
+
+    /**
+     * Greedy beam search on one level of the graph.
+     *
+     * @param accept nodes which may be part of the result. All nodes are used for navigation.
+     * @return the (at most) <code>ef</code> accepted nodes closest to the query, the most similar first
+     */
+    private List<Candidate> searchLayer(float[] query, Candidate entryPoint, int ef, int level, IntPredicate accept) {
+        BitSet visited = new BitSet();
+        visited.set(entryPoint.node());
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(comparingDouble(Candidate::similarity).reversed());
+        PriorityQueue<Candidate> results = new PriorityQueue<>(comparingDouble(Candidate::similarity));
+        candidates.add(entryPoint);
+        if (accept.test(entryPoint.node())) {
+            results.add(entryPoint);
+        }
+
+        while (!candidates.isEmpty()) {
+            Candidate current = candidates.poll();
+            if ((results.size() >= ef) && (current.similarity() < results.peek().similarity())) {
+                break;
+            }
+            for (int neighbour : getLinks(current.node(), level)) {
+                if (visited.get(neighbour)) {
+                    continue;
+                }
+                visited.set(neighbour);
+                double similarity = similarity(query, neighbour);
+                if ((results.size() < ef) || (similarity > results.peek().similarity())) {
+                    Candidate candidate = new Candidate(neighbour, similarity);
+                    candidates.add(candidate);
+                    if (accept.test(neighbour)) {
+                        results.add(candidate);
+                        if (results.size() > ef) {
+                            results.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(comparingDouble(Candidate::similarity).reversed());
+        return sorted;
+    }
+
+    /**
+     * Selects the links of a node using the heuristic of the paper: a candidate is skipped if it is closer to an already
+     * selected neighbour than to the node itself. This keeps links to other clusters. Free slots are filled with the skipped candidates.
+     *
+     * @param candidates the candidates, the most similar to the node first
+     */
+    private List<Candidate> selectNeighbours(List<Candidate> candidates, int maximumLinks) {
+        List<Candidate> selected = new ArrayList<>(maximumLinks);
+        List<Candidate> skipped = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (selected.size() >= maximumLinks) {
+                break;
+            }
+            float[] vector = normalize(column.get(candidate.node()));
+            boolean diverse = true;
+            for (Candidate other : selected) {
+                if (similarity(vector, other.node()) > candidate.similarity()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                skipped.add(candidate);
+            }
+        }
+        Iterator<Candidate> iterator = skipped.iterator();
+        while ((selected.size() < maximumLinks) && iterator.hasNext()) {
+            selected.add(iterator.next());
+        }
+        return selected;
+    }
+
+    private void addLink(int node, int newNeighbour, double similarity, int level) {
+        int[] existing = getLinks(node, level);
+        if (existing.length < maximumLinks(level)) {
+            int[] updated = Arrays.copyOf(existing, existing.length + 1);
+            updated[existing.length] = newNeighbour;
+            links.put(linksKey(node, level), updated);
+            return;
+        }
+
+        float[] vector = normalize(column.get(node));
+        List<Candidate> candidates = new ArrayList<>(existing.length + 1);
+        for (int neighbour : existing) {
+            candidates.add(new Candidate(neighbour, similarity(vector, neighbour)));
+        }
+        candidates.add(new Candidate(newNeighbour, similarity));
+        candidates.sort(comparingDouble(Candidate::similarity).reversed());
+        links.put(linksKey(node, level), selectNeighbours(candidates, maximumLinks(level)).stream().mapToInt(Candidate::node).toArray());
+    }
+
+    private int[] getLinks(int node, int level) {
+        return links.getOrDefault(linksKey(node, level), NO_LINKS);
+    }
+
+    private void rebuild() {
+        List<Map.Entry<String, float[]>> live = new ArrayList<>(nodes.size());
+        nodes.forEach((node, id) -> live.add(Map.entry(id, column.get(node))));
+        clear();
+        live.forEach(entry -> add(entry.getKey(), entry.getValue()));
+    }
+
+    private int randomLevel() {
+        return Math.min(MAXIMUM_LEVEL, (int) (-Math.log(1 - random.nextDouble()) * LEVEL_MULTIPLIER));
+    }
+
+    private static int maximumLinks(int level) {
+        return level == 0 ? 2 * M : M;
+    }
+
+    private static long linksKey(int node, int level) {
+        return ((long) node << 5) | level;
+    }
+
+    private float[] normalizeQuery(float[] query) {
+        int dimension = column.dimension();
+        if ((dimension != 0) && (query.length != dimension)) {
+            throw new IllegalArgumentException("Query of dimension %d does not match embeddings of dimension %d".formatted(query.length, dimension));
+        }
+        return normalize(query);
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = Math.sqrt(dot(vector, vector));
+        if (norm == 0) {
+            return vector.clone();
+        }
+        float[] normalized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = (float) (vector[i] / norm);
+        }
+        return normalized;
+    }
+
+    private static double dot(float[] first, float[] second) {
+        double sum = 0;
+        for (int i = 0; i < first.length; i++) {
+            sum += first[i] * second[i];
+        }
+        return sum;
+    }
+}
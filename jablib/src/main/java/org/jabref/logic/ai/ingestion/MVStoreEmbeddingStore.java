@@ -4,15 +4,16 @@ import java.io.Serializable;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.UUID;
-import java.util.function.Predicate;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import org.jabref.logic.ai.util.MVStoreBase;
 import org.jabref.logic.l10n.Localization;
@@ -21,7 +22,6 @@ import org.jabref.logic.util.NotificationService;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
-import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
@@ -31,30 +31,63 @@ import dev.langchain4j.store.embedding.filter.Filter;
 import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
 import dev.langchain4j.store.embedding.filter.comparison.IsIn;
 import jakarta.annotation.Nullable;
+import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
 
-import static java.util.Comparator.comparingDouble;
 import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
 
 /**
  * A custom implementation of langchain4j's {@link EmbeddingStore} that uses a {@link MVStore} as an embedded database.
  * <p>
  * Every embedding has 3 fields: float array (the embedding itself), file where it was generated from, and the embedded
- * string (the content).
+ * string (the content). The fields are stored separately: the vectors in the {@link HnswIndex}, the contents and files
+ * in maps of strings. Thus, a search scores the vectors only and reads the contents of the best matches only.
  * <p>
+ * Searches use an approximate nearest neighbour index ({@link HnswIndex}) stored in the same file. For small stores and
+ * for filters matching only a few embeddings, the exact similarity of all (matching) embeddings is computed instead.
+ * The embeddings are additionally indexed by their file, so that filters do not need to read all embeddings.
+ * <p>
+ * Searches run in parallel. Changes are exclusive, because they modify the graph of the index.
  */
 public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore<TextSegment> {
+    // Format of older versions storing all fields of an embedding in one serialized record. Such records are migrated on first access.
     // `file` field is nullable, because {@link Optional} can't be serialized.
     private record EmbeddingRecord(@Nullable String file, String content, float[] embeddingVector) implements Serializable { }
 
-    private static final String EMBEDDINGS_MAP_NAME = "embeddings";
+    private static final String LEGACY_EMBEDDINGS_MAP_NAME = "embeddings";
+    private static final String CONTENTS_MAP_NAME = "embedding-contents";
+    private static final String FILES_MAP_NAME = "embedding-files";
+    private static final String IDS_BY_FILE_MAP_NAME = "embeddings-by-file";
+    private static final String INDEX_NAME = "embeddings";
+
+    // Below this number of candidates, computing the exact similarities is fast enough
+    private static final int EXACT_SEARCH_THRESHOLD = 10_000;
+    // A filter has to match at least this fraction of all embeddings to be used in the graph search
+    private static final int MINIMUM_FILTER_SELECTIVITY_DIVISOR = 10;
 
-    private final Map<String, EmbeddingRecord> embeddingsMap;
+    // Separates file and id in the keys of {@link #idsByFileMap}
+    private static final char FILE_ID_SEPARATOR = '\u0000';
+
+    private final MVMap<String, String> contentsMap;
+    private final MVMap<String, String> filesMap;
+    // Keys: file + separator + id
+    private final MVMap<String, String> idsByFileMap;
+    private final HnswIndex index;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
     public MVStoreEmbeddingStore(Path path, NotificationService dialogService) {
         super(path, dialogService);
 
-        this.embeddingsMap = this.mvStore.openMap(EMBEDDINGS_MAP_NAME);
+        this.contentsMap = this.mvStore.openMap(CONTENTS_MAP_NAME);
+        this.filesMap = this.mvStore.openMap(FILES_MAP_NAME);
+        this.idsByFileMap = this.mvStore.openMap(IDS_BY_FILE_MAP_NAME);
+        this.index = new HnswIndex(this.mvStore, INDEX_NAME);
+        if ((index.size() == 0) && !contentsMap.isEmpty()) {
+            // The index was cleared, because the vectors got lost. The segments cannot be found anymore.
+            contentsMap.clear();
+            filesMap.clear();
+            idsByFileMap.clear();
+        }
     }
 
     @Override
@@ -76,17 +109,40 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     public void add(String id, Embedding embedding) {
         // It does not make much sense to store single embedding vector, but this is a requirement from langchain4j's
         // {@link EmbeddingStore}.
-        embeddingsMap.put(id, new EmbeddingRecord(null, "", embedding.vector()));
+        put(id, null, "", embedding.vector());
     }
 
     @Override
     public String add(Embedding embedding, TextSegment textSegment) {
         String id = String.valueOf(UUID.randomUUID());
         String linkedFile = textSegment.metadata().getString(LINK_METADATA_KEY);
-        embeddingsMap.put(id, new EmbeddingRecord(linkedFile, textSegment.text(), embedding.vector()));
+        put(id, linkedFile, textSegment.text(), embedding.vector());
         return id;
     }
 
+    private void put(String id, @Nullable String file, String content, float[] vector) {
+        lock.writeLock().lock();
+        try {
+            migrateLegacyEmbeddings();
+            insert(id, file, content, vector);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void insert(String id, @Nullable String file, String content, float[] vector) {
+        // The index checks the dimension of the vector first
+        index.add(id, vector);
+        contentsMap.put(id, content);
+        String previousFile = file == null ? filesMap.remove(id) : filesMap.put(id, file);
+        if (previousFile != null) {
+            idsByFileMap.remove(fileKey(previousFile, id));
+        }
+        if (file != null) {
+            idsByFileMap.put(fileKey(file, id), id);
+        }
+    }
+
     @Override
     public List<String> addAll(List<Embedding> embeddings, List<TextSegment> embedded) {
         return IntStream.range(0, embeddings.size()).mapToObj(i -> add(embeddings.get(i), embedded.get(i))).toList();
@@ -94,18 +150,47 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
 
     @Override
     public void remove(String id) {
-        embeddingsMap.remove(id);
+        lock.writeLock().lock();
+        try {
+            migrateLegacyEmbeddings();
+            delete(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void delete(String id) {
+        contentsMap.remove(id);
+        String file = filesMap.remove(id);
+        if (file != null) {
+            idsByFileMap.remove(fileKey(file, id));
+        }
+        index.remove(id);
     }
 
     @Override
     public void removeAll(Filter filter) {
-        List<String> idsToRemove = applyFilter(filter).toList();
-        idsToRemove.forEach(this::remove);
+        lock.writeLock().lock();
+        try {
+            migrateLegacyEmbeddings();
+            applyFilter(filter).forEach(this::delete);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public void removeAll() {
-        embeddingsMap.clear();
+        lock.writeLock().lock();
+        try {
+            migrateLegacyEmbeddings();
+            contentsMap.clear();
+            filesMap.clear();
+            idsByFileMap.clear();
+            index.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -120,61 +205,153 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
      */
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
-        // Source: {@link InMemoryEmbeddingStore}.
-
-        Comparator<EmbeddingMatch<TextSegment>> comparator = comparingDouble(EmbeddingMatch::score);
-        PriorityQueue<EmbeddingMatch<TextSegment>> matches = new PriorityQueue<>(comparator);
-
-        applyFilter(request.filter()).forEach(id -> {
-            EmbeddingRecord eRecord = embeddingsMap.get(id);
-
-            double cosineSimilarity = CosineSimilarity.between(Embedding.from(eRecord.embeddingVector), request.queryEmbedding());
-            double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
-
-            if (score >= request.minScore()) {
-                matches.add(
-                        new EmbeddingMatch<>(
-                                score,
-                                id,
-                                Embedding.from(eRecord.embeddingVector),
-                                new TextSegment(
-                                        eRecord.content,
-                                        new Metadata(
-                                                eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file)))));
-
-                if (matches.size() > request.maxResults()) {
-                    matches.poll();
-                }
+        if (mvStore.hasMap(LEGACY_EMBEDDINGS_MAP_NAME)) {
+            lock.writeLock().lock();
+            try {
+                migrateLegacyEmbeddings();
+            } finally {
+                lock.writeLock().unlock();
             }
-        });
+        }
+
+        lock.readLock().lock();
+        try {
+            return searchIndex(request);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
 
-        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>(matches);
-        result.sort(comparator.reversed());
+    private EmbeddingSearchResult<TextSegment> searchIndex(EmbeddingSearchRequest request) {
+        float[] query = request.queryEmbedding().vector();
+        int maxResults = request.maxResults();
+        List<HnswIndex.Neighbour> neighbours;
+        if (request.filter() == null) {
+            neighbours = index.size() <= EXACT_SEARCH_THRESHOLD
+                         ? index.searchExact(query, maxResults)
+                         : searchGraph(query, maxResults, null);
+        } else {
+            Set<String> ids = applyFilter(request.filter());
+            boolean selective = (ids.size() <= EXACT_SEARCH_THRESHOLD) || (ids.size() < index.size() / MINIMUM_FILTER_SELECTIVITY_DIVISOR);
+            neighbours = selective
+                         ? index.searchExact(query, maxResults, ids)
+                         : searchGraph(query, maxResults, ids);
+        }
+
+        List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>(neighbours.size());
+        for (HnswIndex.Neighbour neighbour : neighbours) {
+            double score = RelevanceScore.fromCosineSimilarity(neighbour.cosineSimilarity());
+            if (score < request.minScore()) {
+                // Neighbours are sorted by similarity
+                break;
+            }
+            String file = filesMap.get(neighbour.id());
+            matches.add(
+                    new EmbeddingMatch<>(
+                            score,
+                            neighbour.id(),
+                            Embedding.from(index.getVector(neighbour.id())),
+                            new TextSegment(
+                                    contentsMap.get(neighbour.id()),
+                                    new Metadata(
+                                            file == null ? Map.of() : Map.of(LINK_METADATA_KEY, file)))));
+        }
+
+        return new EmbeddingSearchResult<>(matches);
+    }
 
-        return new EmbeddingSearchResult<>(result);
+    /**
+     * Searches the graph and falls back to the exact search if the graph search misses results (e.g., due to a restrictive filter)
+     *
+     * @param ids the ids of the embeddings to consider, <code>null</code> for all
+     */
+    private List<HnswIndex.Neighbour> searchGraph(float[] query, int maxResults, @Nullable Set<String> ids) {
+        List<HnswIndex.Neighbour> neighbours = index.search(query, maxResults, ids == null ? _ -> true : ids::contains);
+        int numberOfCandidates = ids == null ? index.size() : ids.size();
+        if (neighbours.size() >= Math.min(maxResults, numberOfCandidates)) {
+            return neighbours;
+        }
+        return ids == null ? index.searchExact(query, maxResults) : index.searchExact(query, maxResults, ids);
     }
 
     @Override
     public void removeAll(Collection ids) {
-        embeddingsMap.entrySet().removeIf(entry -> ids.contains(entry.getKey()));
+        lock.writeLock().lock();
+        try {
+            migrateLegacyEmbeddings();
+            for (Object id : ids) {
+                delete((String) id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Moves the records of stores written by older versions of JabRef into the current maps and the index.
+     * Requires the write lock.
+     */
+    private void migrateLegacyEmbeddings() {
+        if (!mvStore.hasMap(LEGACY_EMBEDDINGS_MAP_NAME)) {
+            return;
+        }
+        MVMap<String, EmbeddingRecord> legacyEmbeddingsMap = mvStore.openMap(LEGACY_EMBEDDINGS_MAP_NAME);
+        legacyEmbeddingsMap.forEach((id, eRecord) -> insert(id, eRecord.file, eRecord.content, eRecord.embeddingVector));
+        mvStore.removeMap(legacyEmbeddingsMap);
     }
 
-    private Stream<String> applyFilter(@Nullable Filter filter) {
+    private Set<String> applyFilter(@Nullable Filter filter) {
         return switch (filter) {
-            case null -> embeddingsMap.keySet().stream();
+            case null -> new HashSet<>(contentsMap.keySet());
 
-            case IsIn isInFilter when Objects.equals(isInFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isInFilter.comparisonValues().contains(entry.getValue().file));
+            case IsIn isInFilter when Objects.equals(isInFilter.key(), LINK_METADATA_KEY) -> {
+                Set<String> ids = new HashSet<>();
+                isInFilter.comparisonValues().forEach(file -> ids.addAll(getIdsOfFile(String.valueOf(file))));
+                yield ids;
+            }
 
             case IsEqualTo isEqualToFilter when Objects.equals(isEqualToFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isEqualToFilter.comparisonValue().equals(entry.getValue().file));
+                    new HashSet<>(getIdsOfFile(String.valueOf(isEqualToFilter.comparisonValue())));
 
             default -> throw new IllegalArgumentException("Wrong filter passed to MVStoreEmbeddingStore");
         };
     }
 
-    private Stream<String> filterEntries(Predicate<Map.Entry<String, EmbeddingRecord>> predicate) {
-        return embeddingsMap.entrySet().stream().filter(predicate).map(Map.Entry::getKey);
+    private List<String> getIdsOfFile(String file) {
+        String prefix = file + FILE_ID_SEPARATOR;
+        List<String> ids = new ArrayList<>();
+        Iterator<String> keys = idsByFileMap.keyIterator(prefix);
+        while (keys.hasNext()) {
+            String key = keys.next();
+            if (!key.startsWith(prefix)) {
+                break;
+            }
+            ids.add(idsByFileMap.get(key));
+        }
+        return ids;
+    }
+
+    private static String fileKey(String file, String id) {
+        return file + FILE_ID_SEPARATOR + id;
+    }
+
+    @Override
+    public void commit() {
+        // A change might remap the vector column while it is written
+        lock.readLock().lock();
+        try {
+            index.flush();
+        } finally {
+            lock.readLock().unlock();
+        }
+        super.commit();
+    }
+
+    @Override
+    public void close() {
+        // The vectors have to be written before the store refers to them
+        index.close();
+        super.close();
     }
 
     @Override
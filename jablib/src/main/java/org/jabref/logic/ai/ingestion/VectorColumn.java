@@ -0,0 +1,198 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import jakarta.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Column of float vectors of the same dimension, stored row after row in one memory-mapped file.
+ * <p>
+ * Scoring a query against a row reads the floats directly from the mapping. Neither deserialization nor copying is involved,
+ * and the vectors occupy the page cache of the operating system instead of the heap.
+ * <p>
+ * The file starts with a header consisting of a magic number, the generation, the dimension, and the number of rows.
+ * The owner compares the generation with its own to detect a column which does not belong to it.
+ * If the file cannot be used, the column is kept in memory.
+ */
+class VectorColumn implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VectorColumn.class);
+
+    private static final ValueLayout.OfFloat FLOAT = ValueLayout.JAVA_FLOAT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private static final int MAGIC = 0x4A525643;
+    private static final long MAGIC_OFFSET = 0;
+    private static final long GENERATION_OFFSET = 4;
+    private static final long DIMENSION_OFFSET = 8;
+    private static final long ROWS_OFFSET = 12;
+    private static final long HEADER_SIZE = 16;
+
+    private static final long MINIMUM_CAPACITY = 1 << 20;
+
+    @Nullable private FileChannel channel;
+    private Arena arena;
+    private MemorySegment segment;
+
+    VectorColumn(@Nullable Path path) {
+        long capacity = MINIMUM_CAPACITY;
+        if (path != null) {
+            try {
+                channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                capacity = Math.max(capacity, channel.size());
+            } catch (IOException e) {
+                LOGGER.error("Could not open vector file {}. Vectors are kept in memory.", path, e);
+                closeChannel();
+            }
+        }
+        map(capacity);
+        if (segment.get(INT, MAGIC_OFFSET) != MAGIC) {
+            segment.set(INT, MAGIC_OFFSET, MAGIC);
+            reset(0);
+        }
+    }
+
+    int generation() {
+        return segment.get(INT, GENERATION_OFFSET);
+    }
+
+    int dimension() {
+        return segment.get(INT, DIMENSION_OFFSET);
+    }
+
+    /**
+     * @return the number of rows written, including rows written after the last commit of the owner
+     */
+    int rows() {
+        return segment.get(INT, ROWS_OFFSET);
+    }
+
+    /**
+     * Removes all rows and marks the column with the given generation
+     */
+    void reset(int generation) {
+        segment.set(INT, GENERATION_OFFSET, generation);
+        segment.set(INT, DIMENSION_OFFSET, 0);
+        segment.set(INT, ROWS_OFFSET, 0);
+    }
+
+    void set(int row, float[] vector) {
+        int dimension = dimension();
+        if (dimension == 0) {
+            dimension = vector.length;
+            segment.set(INT, DIMENSION_OFFSET, dimension);
+        } else if (vector.length != dimension) {
+            throw new IllegalArgumentException("Vector of dimension %d does not fit into column of dimension %d".formatted(vector.length, dimension));
+        }
+        long offset = offset(row, dimension);
+        ensureCapacity(offset + ((long) dimension * Float.BYTES));
+        MemorySegment.copy(vector, 0, segment, FLOAT, offset, dimension);
+        if (row >= rows()) {
+            segment.set(INT, ROWS_OFFSET, row + 1);
+        }
+    }
+
+    float[] get(int row) {
+        int dimension = dimension();
+        float[] vector = new float[dimension];
+        MemorySegment.copy(segment, FLOAT, offset(row, dimension), vector, 0, dimension);
+        return vector;
+    }
+
+    /**
+     * Computes the dot product of the given vector and the given row
+     */
+    double dot(float[] vector, int row) {
+        int dimension = dimension();
+        long offset = offset(row, dimension);
+        // Independent sums allow the processor to execute the multiplications in parallel
+        float sum0 = 0;
+        float sum1 = 0;
+        float sum2 = 0;
+        float sum3 = 0;
+        int i = 0;
+        for (; (i + 3) < dimension; i += 4) {
+            long position = offset + ((long) i * Float.BYTES);
+            sum0 += vector[i] * segment.get(FLOAT, position);
+            sum1 += vector[i + 1] * segment.get(FLOAT, position + Float.BYTES);
+            sum2 += vector[i + 2] * segment.get(FLOAT, position + (2 * Float.BYTES));
+            sum3 += vector[i + 3] * segment.get(FLOAT, position + (3 * Float.BYTES));
+        }
+        for (; i < dimension; i++) {
+            sum0 += vector[i] * segment.get(FLOAT, offset + ((long) i * Float.BYTES));
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+
+    /**
+     * Writes the changes of the mapping to the file
+     */
+    void flush() {
+        if (channel != null) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        arena.close();
+        closeChannel();
+    }
+
+    private static long offset(int row, int dimension) {
+        return HEADER_SIZE + ((long) row * dimension * Float.BYTES);
+    }
+
+    private void ensureCapacity(long size) {
+        if (size > segment.byteSize()) {
+            map(Math.max(size, 2 * segment.byteSize()));
+        }
+    }
+
+    private void map(long capacity) {
+        Arena newArena = Arena.ofShared();
+        MemorySegment newSegment = null;
+        if (channel != null) {
+            try {
+                // Mapping beyond the end of the file extends the file
+                newSegment = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity, newArena);
+            } catch (IOException e) {
+                LOGGER.error("Could not map vector file. Vectors are kept in memory.", e);
+                closeChannel();
+            }
+        }
+        if (newSegment == null) {
+            newSegment = newArena.allocate(capacity);
+            if (segment != null) {
+                MemorySegment.copy(segment, 0, newSegment, 0, segment.byteSize());
+            }
+        }
+        if (arena != null) {
+            arena.close();
+        }
+        arena = newArena;
+        segment = newSegment;
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.error("Could not close vector file", e);
+        }
+        channel = null;
+    }
+}
@@ -0,0 +1,187 @@
+package org.jabref.logic.bst;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * A parsed and compiled bst program. The program does not change while rendering, thus it can be shared by all renderings of the same bst file.
+ * <p>
+ * Compiling turns each block (<code>{ ... }</code>) of the program into an array of {@link Instruction instructions}, which {@link BstVMVisitor} runs instead of walking the parse tree of the block.
+ * Thereby, the literals are converted and the kind of each identifier (e.g., entry field or function) is determined once instead of on each execution.
+ * <p>
+ * The programs of bst files are cached by path and modification time (see {@link #load(Path)}).
+ */
+final class BstProgram {
+
+    // The styles selected for the preview, which is re-rendered on each change of the selected entry
+    private static final int CACHE_SIZE = 10;
+
+    private static final Cache<CacheKey, BstProgram> CACHE = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
+    private final ParseTree tree;
+    private final Map<String, IdentifierKind> identifierKinds = new HashMap<>();
+    private final Map<BstParser.StackContext, Instruction[]> blocks = new IdentityHashMap<>();
+
+    private BstProgram(ParseTree tree) {
+        this.tree = tree;
+        declareIdentifiers();
+        ParseTreeWalker.DEFAULT.walk(new BstBaseListener() {
+            @Override
+            public void enterStack(BstParser.StackContext ctx) {
+                blocks.put(ctx, compileBlock(ctx));
+            }
+        }, tree);
+    }
+
+    static BstProgram compile(ParseTree tree) {
+        return new BstProgram(tree);
+    }
+
+    /**
+     * Returns the compiled program of the bst file. The program is parsed and compiled only if the file was not loaded before or was modified since.
+     */
+    static BstProgram load(Path path) throws IOException {
+        CacheKey key = new CacheKey(path.toAbsolutePath(), Files.getLastModifiedTime(path));
+        try {
+            return CACHE.get(key, () -> compile(BstVM.charStream2CommonTree(CharStreams.fromPath(path))));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Could not load " + path, e.getCause());
+        } catch (UncheckedExecutionException e) {
+            // Syntax errors of the bst file
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    ParseTree getTree() {
+        return tree;
+    }
+
+    /**
+     * @return the instructions of the block or null if the block is not part of this program
+     */
+    Instruction[] getInstructions(BstParser.StackContext block) {
+        return blocks.get(block);
+    }
+
+    /**
+     * Collects the identifiers declared by the commands of the program. If an identifier is declared several times, the kind looked up first by {@link BstVMVisitor#resolveIdentifier} wins.
+     */
+    private void declareIdentifiers() {
+        ParseTreeWalker.DEFAULT.walk(new BstBaseListener() {
+            @Override
+            public void enterStringsCommand(BstParser.StringsCommandContext ctx) {
+                declare(ctx.ids.identifier(), IdentifierKind.GLOBAL_STRING);
+            }
+
+            @Override
+            public void enterIntegersCommand(BstParser.IntegersCommandContext ctx) {
+                declare(ctx.ids.identifier(), IdentifierKind.GLOBAL_INTEGER);
+            }
+
+            @Override
+            public void enterFunctionCommand(BstParser.FunctionCommandContext ctx) {
+                declare(List.of(ctx.id), IdentifierKind.FUNCTION);
+            }
+
+            @Override
+            public void enterMacroCommand(BstParser.MacroCommandContext ctx) {
+                declare(List.of(ctx.id), IdentifierKind.FUNCTION);
+            }
+
+            @Override
+            public void enterEntryCommand(BstParser.EntryCommandContext ctx) {
+                declare(ctx.idListOpt(0).identifier(), IdentifierKind.ENTRY_FIELD);
+                declare(ctx.idListOpt(1).identifier(), IdentifierKind.ENTRY_INTEGER);
+                declare(ctx.idListOpt(2).identifier(), IdentifierKind.ENTRY_STRING);
+            }
+        }, tree);
+
+        // Declared by BstVMVisitor and BstVM instead of the program
+        declare(StandardField.CROSSREF.getName(), IdentifierKind.ENTRY_FIELD);
+        declare("sort.key$", IdentifierKind.ENTRY_STRING);
+        declare("entry.max$", IdentifierKind.GLOBAL_INTEGER);
+        declare("global.max$", IdentifierKind.GLOBAL_INTEGER);
+    }
+
+    private void declare(List<BstParser.IdentifierContext> identifiers, IdentifierKind kind) {
+        for (BstParser.IdentifierContext identifier : identifiers) {
+            declare(identifier.getText(), kind);
+        }
+    }
+
+    private void declare(String name, IdentifierKind kind) {
+        identifierKinds.merge(name, kind, (first, second) -> first.compareTo(second) <= 0 ? first : second);
+    }
+
+    private Instruction[] compileBlock(BstParser.StackContext block) {
+        return block.stackitem().stream().map(this::compileItem).toArray(Instruction[]::new);
+    }
+
+    private Instruction compileItem(BstParser.StackitemContext item) {
+        if (item.stack() != null) {
+            // Blocks are pushed as they are and run when called, e.g., by if$
+            BstParser.StackContext nestedBlock = item.stack();
+            return visitor -> visitor.push(nestedBlock);
+        }
+        if (item.bstFunction() != null) {
+            BstParser.BstFunctionContext function = item.bstFunction();
+            String name = function.getChild(0).getText();
+            // Identifiers not declared by the program are built-in functions
+            IdentifierKind kind = identifierKinds.getOrDefault(name, IdentifierKind.FUNCTION);
+            return visitor -> visitor.resolveIdentifier(name, kind, function);
+        }
+
+        TerminalNode token = (TerminalNode) item.getChild(0);
+        String text = token.getText();
+        Object value = switch (token.getSymbol().getType()) {
+            case BstParser.STRING -> text.substring(1, text.length() - 1);
+            case BstParser.INTEGER -> Integer.parseInt(text.substring(1));
+            case BstParser.QUOTED -> new BstVMVisitor.Identifier(text.substring(1));
+            default -> throw new BstVMException("Unexpected token " + text);
+        };
+        return visitor -> visitor.push(value);
+    }
+
+    /**
+     * The kinds of identifiers, in the order {@link BstVMVisitor#resolveIdentifier} looks them up
+     */
+    enum IdentifierKind {
+        ENTRY_FIELD,
+        ENTRY_STRING,
+        ENTRY_INTEGER,
+        GLOBAL_STRING,
+        GLOBAL_INTEGER,
+        FUNCTION
+    }
+
+    @FunctionalInterface
+    interface Instruction {
+        void execute(BstVMVisitor visitor);
+    }
+
+    private record CacheKey(Path path, FileTime lastModifiedTime) {
+    }
+}
@@ -26,13 +26,16 @@ public class BstVM {
     protected static final Integer FALSE = 0;
     protected static final Integer TRUE = 1;
 
-    protected final ParseTree tree;
+    final BstProgram program;
     protected BstVMContext latestContext; // for testing
 
     private Path path = null;
 
+    /**
+     * Creates a VM for the given bst file. The compiled program is shared with other VMs of the same file as long as the file is not modified.
+     */
     public BstVM(Path path) throws RecognitionException, IOException {
-        this(CharStreams.fromPath(path));
+        this(BstProgram.load(path));
         this.path = path;
     }
 
@@ -41,14 +44,14 @@ public class BstVM {
     }
 
     protected BstVM(CharStream bst) throws RecognitionException {
-        this(charStream2CommonTree(bst));
+        this(BstProgram.compile(charStream2CommonTree(bst)));
     }
 
-    private BstVM(ParseTree tree) {
-        this.tree = tree;
+    private BstVM(BstProgram program) {
+        this.program = program;
     }
 
-    private static ParseTree charStream2CommonTree(CharStream query) {
+    static ParseTree charStream2CommonTree(CharStream query) {
         BstLexer lexer = new BstLexer(query);
         lexer.removeErrorListeners();
         lexer.addErrorListener(ThrowingErrorListener.INSTANCE);
@@ -79,8 +82,8 @@ public class BstVM {
         bstVMContext.integers().put("entry.max$", Integer.MAX_VALUE);
         bstVMContext.integers().put("global.max$", Integer.MAX_VALUE);
 
-        BstVMVisitor bstVMVisitor = new BstVMVisitor(bstVMContext, resultBuffer);
-        bstVMVisitor.visit(tree);
+        BstVMVisitor bstVMVisitor = new BstVMVisitor(bstVMContext, resultBuffer, program);
+        bstVMVisitor.visit(program.getTree());
 
         latestContext = bstVMContext;
 
@@ -24,15 +24,17 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
 
     private final BstVMContext bstVMContext;
     private final StringBuilder bbl;
+    private final BstProgram program;
 
     private BstEntry selectedBstEntry = null;
 
     public record Identifier(String name) {
     }
 
-    public BstVMVisitor(BstVMContext bstVMContext, StringBuilder bbl) {
+    public BstVMVisitor(BstVMContext bstVMContext, StringBuilder bbl, BstProgram program) {
         this.bstVMContext = bstVMContext;
         this.bbl = bbl;
+        this.program = program;
     }
 
     @Override
@@ -242,6 +244,57 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         throw new BstVMException("No matching identifier found: " + name);
     }
 
+    /**
+     * Resolves an identifier whose kind was determined when compiling the program. Thereby, only the variables or functions of that kind are looked up.
+     */
+    void resolveIdentifier(String name, BstProgram.IdentifierKind kind, ParserRuleContext ctx) {
+        switch (kind) {
+            case ENTRY_FIELD -> {
+                if ((selectedBstEntry != null) && selectedBstEntry.fields.containsKey(name)) {
+                    push(selectedBstEntry.fields.get(name));
+                    return;
+                }
+            }
+            case ENTRY_STRING -> {
+                if ((selectedBstEntry != null) && selectedBstEntry.localStrings.containsKey(name)) {
+                    push(selectedBstEntry.localStrings.get(name));
+                    return;
+                }
+            }
+            case ENTRY_INTEGER -> {
+                if ((selectedBstEntry != null) && selectedBstEntry.localIntegers.containsKey(name)) {
+                    push(selectedBstEntry.localIntegers.get(name));
+                    return;
+                }
+            }
+            case GLOBAL_STRING -> {
+                if (bstVMContext.strings().containsKey(name)) {
+                    push(bstVMContext.strings().get(name));
+                    return;
+                }
+            }
+            case GLOBAL_INTEGER -> {
+                if (bstVMContext.integers().containsKey(name)) {
+                    push(bstVMContext.integers().get(name));
+                    return;
+                }
+            }
+            case FUNCTION -> {
+                BstFunctions.BstFunction function = bstVMContext.functions().get(name);
+                if (function != null) {
+                    function.execute(this, ctx, selectedBstEntry);
+                    return;
+                }
+            }
+        }
+        // Not (yet) declared as expected, e.g., an entry field used outside of ITERATE
+        resolveIdentifier(name, ctx);
+    }
+
+    void push(Object value) {
+        bstVMContext.stack().push(value);
+    }
+
     @Override
     public Integer visitBstFunction(BstParser.BstFunctionContext ctx) {
         String name = ctx.getChild(0).getText();
@@ -250,6 +303,28 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         return BstVM.TRUE;
     }
 
+    /**
+     * Runs the compiled instructions of the block. Blocks not compiled as part of the program are interpreted by {@link #visitStackitem}.
+     */
+    @Override
+    public Integer visitStack(BstParser.StackContext ctx) {
+        BstProgram.Instruction[] instructions = program.getInstructions(ctx);
+        if (instructions == null) {
+            return visitChildren(ctx);
+        }
+        try {
+            for (BstProgram.Instruction instruction : instructions) {
+                instruction.execute(this);
+            }
+        } catch (BstVMException e) {
+            bstVMContext.path().ifPresentOrElse(
+                    path -> LOGGER.error("{} ({})", e.getMessage(), path, e),
+                    () -> LOGGER.error("", e));
+            throw e;
+        }
+        return BstVM.TRUE;
+    }
+
     @Override
     public Integer visitStackitem(BstParser.StackitemContext ctx) {
         for (ParseTree childNode : ctx.children) {
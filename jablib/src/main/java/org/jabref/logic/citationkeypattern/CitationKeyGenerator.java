@@ -1,7 +1,10 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
@@ -101,23 +104,34 @@ public class CitationKeyGenerator extends BracketedPattern {
      * @return a citation key based on the user's preferences
      */
     public String generateKey(BibEntry entry) {
+        return generateKey(entry, new HashMap<>());
+    }
+
+    private String generateKey(BibEntry entry, Map<String, Integer> nextAppendices) {
         Objects.requireNonNull(entry);
         String currentKey = entry.getCitationKey().orElse(null);
 
         String newKey = createCitationKeyFromPattern(entry);
         newKey = replaceWithRegex(newKey);
-        newKey = appendLettersToKey(newKey, currentKey);
-        return cleanKey(newKey, unwantedCharacters);
+        String keyWithLetters = appendLettersToKey(newKey, currentKey, nextAppendices);
+        String cleanedKey = cleanKey(keyWithLetters, unwantedCharacters);
+        if (!cleanedKey.equals(keyWithLetters)) {
+            // The key checked for being unused is not the key returned, thus its appendix stays unused
+            nextAppendices.remove(newKey);
+        }
+        return cleanedKey;
     }
 
     /**
      * A letter will be appended to the key based on the user's preferences, either always or to prevent duplicated keys.
      *
-     * @param key    the new key
-     * @param oldKey the old key
+     * @param key             the new key
+     * @param oldKey          the old key
+     * @param nextAppendices  for each key, the number of the appendix to start searching for an unused appendix with. All appendices before are in use.
+     *                        Updated with the appendix chosen for the given key, assuming that the returned key will be set.
      * @return a key, if needed, with an appended letter
      */
-    private String appendLettersToKey(String key, String oldKey) {
+    private String appendLettersToKey(String key, String oldKey, Map<String, Integer> nextAppendices) {
         long occurrences = database.getNumberOfCitationKeyOccurrences(key);
 
         if ((occurrences > 0) && Objects.equals(oldKey, key)) {
@@ -133,6 +147,10 @@ public class CitationKeyGenerator extends BracketedPattern {
                     == CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_A;
 
             int number = !alwaysAddLetter && !firstLetterA ? 1 : 0;
+            // If the old key is one of the appendices, it can be kept. Thus, the appendices need to be checked from the start.
+            if ((oldKey == null) || !oldKey.startsWith(key)) {
+                number = Math.max(number, nextAppendices.getOrDefault(key, 0));
+            }
             String moddedKey;
 
             do {
@@ -146,6 +164,7 @@ public class CitationKeyGenerator extends BracketedPattern {
                 }
             } while (occurrences > 0);
 
+            nextAppendices.put(key, number);
             key = moddedKey;
         }
         return key;
@@ -215,4 +234,30 @@ public class CitationKeyGenerator extends BracketedPattern {
         String newKey = generateKey(entry);
         return entry.setCitationKey(newKey);
     }
+
+    /**
+     * Generates citation keys for the given entries, and sets the keys. The keys are the same as generated by calling {@link #generateAndSetKey(BibEntry)} for each entry.
+     * <p>
+     * Appendices found to be in use are remembered. Thus, for many entries resulting in the same key, the appendices are not checked from the start for each entry.
+     *
+     * @return the changes to the keys
+     */
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries) {
+        List<FieldChange> changes = new ArrayList<>();
+        Map<String, Integer> nextAppendices = new HashMap<>();
+        for (BibEntry entry : entries) {
+            Optional<String> oldKey = entry.getCitationKey();
+            String newKey = generateKey(entry, nextAppendices);
+            entry.setCitationKey(newKey).ifPresent(change -> {
+                changes.add(change);
+                // The old key is free again, so appendices of keys it starts with need to be checked again
+                oldKey.ifPresent(key -> {
+                    for (int length = 0; length <= key.length(); length++) {
+                        nextAppendices.remove(key.substring(0, length));
+                    }
+                });
+            });
+        }
+        return changes;
+    }
 }
@@ -0,0 +1,162 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.identifier.ISBN;
+
+/**
+ * Blocking index for duplicate detection.
+ * <p>
+ * Comparing an entry with every other entry by {@link DuplicateCheck#isDuplicate} is expensive. This index assigns blocking keys to each entry,
+ * and only entries sharing at least one key are considered as candidates for the field comparison:
+ * <ul>
+ *     <li>the exact value of each identifier field (DOI, eprint, ...) and the normalized ISBN,</li>
+ *     <li>the entry type together with each of the first words of the normalized title at its position
+ *     (the title comparison of {@link DuplicateCheck} correlates the words position by position),</li>
+ *     <li>the entry type together with the family name of the first author.</li>
+ * </ul>
+ * Entries without any key (e.g., without title and author) cannot be blocked and are candidates for all other entries.
+ * <p>
+ * Blocking is a heuristic: pairs sharing no key are not compared. Such pairs have different identifiers, differ in each of the first title words
+ * (e.g., a typo in each word), and have different first authors. {@link DuplicateCheck} accepts these only if most of the remaining fields are similar.
+ * <p>
+ * Entries are identified by their position in the index and not by {@link BibEntry#equals(Object)}, because equal entries are duplicates by definition.
+ */
+public class DuplicateCandidateIndex {
+
+    private static final int NUMBER_OF_TITLE_WORD_KEYS = 4;
+
+    private final List<BibEntry> entries = new ArrayList<>();
+    private final Map<String, BitSet> buckets = new HashMap<>();
+    private final BitSet unblockedEntries = new BitSet();
+
+    public DuplicateCandidateIndex(Collection<BibEntry> entries) {
+        entries.forEach(this::add);
+    }
+
+    public synchronized void add(BibEntry entry) {
+        int position = entries.size();
+        entries.add(entry);
+        Set<String> keys = getBlockingKeys(entry);
+        if (keys.isEmpty()) {
+            unblockedEntries.set(position);
+            return;
+        }
+        for (String key : keys) {
+            buckets.computeIfAbsent(key, _ -> new BitSet()).set(position);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized BibEntry get(int position) {
+        return entries.get(position);
+    }
+
+    /**
+     * Returns the entries of the index which might be duplicates of the given entry, in the order they were added to the index.
+     */
+    public synchronized List<BibEntry> getCandidates(BibEntry entry) {
+        List<BibEntry> candidates = new ArrayList<>();
+        forEachCandidate(getCandidatePositions(entry), position -> candidates.add(entries.get(position)));
+        return candidates;
+    }
+
+    /**
+     * Calls the consumer for the positions of all entries added after the entry at the given position which might be duplicates of it.
+     * Iterating over all positions thereby yields each candidate pair exactly once.
+     */
+    public void forEachCandidateAfter(int position, IntConsumer consumer) {
+        BitSet candidates;
+        synchronized (this) {
+            if (unblockedEntries.get(position)) {
+                candidates = new BitSet();
+                candidates.set(0, entries.size());
+            } else {
+                candidates = getCandidatePositions(entries.get(position));
+            }
+        }
+        candidates.clear(0, position + 1);
+        forEachCandidate(candidates, consumer);
+    }
+
+    private BitSet getCandidatePositions(BibEntry entry) {
+        Set<String> keys = getBlockingKeys(entry);
+        BitSet candidates = new BitSet();
+        if (keys.isEmpty()) {
+            candidates.set(0, entries.size());
+            return candidates;
+        }
+        for (String key : keys) {
+            BitSet bucket = buckets.get(key);
+            if (bucket != null) {
+                candidates.or(bucket);
+            }
+        }
+        candidates.or(unblockedEntries);
+        return candidates;
+    }
+
+    private static void forEachCandidate(BitSet candidates, IntConsumer consumer) {
+        for (int position = candidates.nextSetBit(0); position >= 0; position = candidates.nextSetBit(position + 1)) {
+            consumer.accept(position);
+        }
+    }
+
+    static Set<String> getBlockingKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+        for (Field field : entry.getFields()) {
+            if (field.getProperties().contains(FieldProperty.IDENTIFIER)) {
+                entry.getField(field).ifPresent(value -> keys.add("id:" + field.getName() + ":" + value));
+            }
+        }
+        entry.getISBN().map(ISBN::asString).ifPresent(isbn -> keys.add("isbn:" + isbn.toLowerCase(Locale.ROOT)));
+
+        String type = entry.getType().getName();
+        entry.getFieldLatexFree(StandardField.TITLE).ifPresent(title -> {
+            String[] words = title.toLowerCase(Locale.ROOT).trim().split("\\s");
+            for (int i = 0; i < Math.min(words.length, NUMBER_OF_TITLE_WORD_KEYS); i++) {
+                String word = normalizeWord(words[i]);
+                if (!word.isEmpty()) {
+                    keys.add("title:" + type + ":" + i + ":" + word);
+                }
+            }
+        });
+
+        Optional<String> firstAuthor = entry.getFieldLatexFree(StandardField.AUTHOR)
+                                            .map(AuthorList::parse)
+                                            .filter(authors -> !authors.isEmpty())
+                                            .flatMap(authors -> authors.getAuthor(0).getFamilyName())
+                                            .map(DuplicateCandidateIndex::normalizeWord)
+                                            .filter(name -> !name.isEmpty());
+        // The year is not part of the key, because DuplicateCheck accepts different years (e.g., of a preprint and the published version) if the other fields are similar
+        firstAuthor.ifPresent(author -> keys.add("author:" + type + ":" + author));
+        return keys;
+    }
+
+    private static String normalizeWord(String word) {
+        StringBuilder normalized = new StringBuilder(word.length());
+        word.codePoints()
+            .filter(Character::isLetterOrDigit)
+            .map(Character::toLowerCase)
+            .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+}
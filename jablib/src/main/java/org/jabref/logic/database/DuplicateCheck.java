@@ -3,12 +3,16 @@ package org.jabref.logic.database;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.os.OS;
 import org.jabref.logic.util.strings.StringSimilarity;
@@ -374,7 +378,51 @@ public class DuplicateCheck {
     public Optional<BibEntry> containsDuplicate(final BibDatabase database,
                                                 final BibEntry entry,
                                                 final BibDatabaseMode bibDatabaseMode) {
-
         return database.getEntries().stream().filter(other -> isDuplicate(entry, other, bibDatabaseMode)).findFirst();
     }
+
+    /**
+     * Checks the candidates of the given index for a duplicate of the given entry.
+     * Use this variant to check many entries against the same library, because the index needs to be built only once.
+     * Candidates which are not part of the library anymore (e.g., removed when resolving an earlier duplicate) are skipped before comparing.
+     *
+     * @param index    the index of the entries of the library
+     * @param database the library, which might have changed since the index was built
+     * @return The first duplicate entry found (in the order the entries were added to the index). Empty Optional if no duplicates are found.
+     */
+    public Optional<BibEntry> containsDuplicate(final DuplicateCandidateIndex index,
+                                                final BibDatabase database,
+                                                final BibEntry entry,
+                                                final BibDatabaseMode bibDatabaseMode) {
+        return index.getCandidates(entry).stream()
+                    .filter(candidate -> database.getEntryById(candidate.getId()) == candidate)
+                    .filter(other -> isDuplicate(entry, other, bibDatabaseMode))
+                    .findFirst();
+    }
+
+    /**
+     * Finds all pairs of duplicates among the given entries.
+     * Only pairs of candidates determined by a {@link DuplicateCandidateIndex} are compared, and the comparisons run in parallel on the common fork/join pool.
+     *
+     * @param duplicateConsumer gets each found pair of duplicates. It is called concurrently and thus needs to be thread-safe.
+     * @param isCancelled       is polled regularly; the search stops as soon as it returns true
+     */
+    public void findDuplicates(final List<BibEntry> entries,
+                               final BibDatabaseMode bibDatabaseMode,
+                               final BiConsumer<BibEntry, BibEntry> duplicateConsumer,
+                               final BooleanSupplier isCancelled) {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(entries);
+        IntStream.range(0, index.size()).parallel().forEach(position -> {
+            if (isCancelled.getAsBoolean()) {
+                return;
+            }
+            BibEntry first = index.get(position);
+            index.forEachCandidateAfter(position, candidate -> {
+                BibEntry second = index.get(candidate);
+                if (isDuplicate(first, second, bibDatabaseMode)) {
+                    duplicateConsumer.accept(first, second);
+                }
+            });
+        });
+    }
 }
@@ -5,24 +5,30 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.layout.ExportContext;
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.layout.LayoutHelper;
-import org.jabref.logic.layout.format.Number;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.util.FileType;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -45,6 +51,9 @@ public class TemplateExporter extends Exporter {
     private static final String BEGIN_INFIX = ".begin";
     private static final String END_INFIX = ".end";
 
+    // Below this number of entries, laying out the entries on the current thread is faster
+    private static final int MIN_ENTRIES_PER_CHUNK = 500;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
     private final String lfFileName;
@@ -252,48 +261,33 @@ public class TemplateExporter extends Exporter {
                     LOGGER.warn("Missing formatters found: {}", missingFormatters);
                 }
             }
+            // Read the layout of each entry type once; types without a type-specific layout use the default one
             Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
-
-            Number.serialExportNumber = 0;
             for (BibEntry entry : sorted) {
-                Number.serialExportNumber++; // Increment entry counter.
-                // Get the layout
                 EntryType type = entry.getType();
                 if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
-                    }
+                    continue;
                 }
-
-                // Write the entry
-                if (layout != null) {
-                    if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
-                        for (String line : lines) {
-                            if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
-                            }
-                        }
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
+                Layout layout;
+                try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
+                    // We try to get a type-specific layout for this entry.
+                    layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
+                    layout = layoutHelper.getLayoutFromText();
+                    if (layout != null) {
+                        missingFormatters.addAll(layout.getMissingFormatters());
                     }
+                } catch (IOException ex) {
+                    // The exception indicates that no type-specific layout
+                    // exists, so we
+                    // go with the default one.
+                    layout = defLayout;
                 }
+                layouts.put(type, layout);
             }
 
+            // Write the entries
+            writeEntries(ps, sorted, layouts, databaseContext);
+
             // Print footer
             Layout endLayout = null;
             try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
@@ -318,6 +312,71 @@ public class TemplateExporter extends Exporter {
         }
     }
 
+    /**
+     * Lays out the sorted entries and writes them. The entries are split into consecutive chunks, which are laid out in parallel, because the layouts do not change during the export.
+     * Each chunk is written as soon as it and the chunks before it are laid out, so only the chunks not written yet are kept in memory.
+     * The entries are numbered by their position in the sorted list (see {@link org.jabref.logic.layout.format.Number}).
+     * Group blocks depend on the previously laid out entry, thus layouts containing these are laid out one entry after another.
+     */
+    private void writeEntries(Writer writer, List<BibEntry> sorted, Map<EntryType, Layout> layouts, BibDatabaseContext databaseContext) throws IOException {
+        int chunkSize = Math.max(MIN_ENTRIES_PER_CHUNK, Math.ceilDiv(sorted.size(), Runtime.getRuntime().availableProcessors()));
+        boolean containsGroups = layouts.values().stream().anyMatch(layout -> (layout != null) && layout.containsGroups());
+        if (containsGroups || (sorted.size() <= chunkSize)) {
+            writer.write(layoutEntries(sorted, 0, sorted.size(), layouts, databaseContext));
+            return;
+        }
+
+        Deque<Future<String>> chunks = new ArrayDeque<>();
+        for (int start = 0; start < sorted.size(); start += chunkSize) {
+            int from = start;
+            int to = Math.min(start + chunkSize, sorted.size());
+            chunks.add(HeadlessExecutorService.INSTANCE.execute(() -> layoutEntries(sorted, from, to, layouts, databaseContext)));
+        }
+
+        try {
+            Future<String> chunk;
+            while ((chunk = chunks.poll()) != null) {
+                writer.write(chunk.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Export was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("Could not export entries", e.getCause());
+        } finally {
+            // Cancels the remaining chunks if laying out or writing a chunk failed
+            chunks.forEach(chunk -> chunk.cancel(true));
+        }
+    }
+
+    private String layoutEntries(List<BibEntry> sorted, int from, int to, Map<EntryType, Layout> layouts, BibDatabaseContext databaseContext) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            BibEntry entry = sorted.get(i);
+            Layout layout = layouts.get(entry.getType());
+            if (layout == null) {
+                continue;
+            }
+
+            // Entries are numbered starting with 1
+            String text = layout.doLayout(entry, databaseContext.getDatabase(), new ExportContext(i + 1));
+            if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
+                String[] lines = text.split(BLANK_LINE_PATTERN);
+                for (String line : lines) {
+                    if (!line.isBlank() && !line.isEmpty()) {
+                        builder.append(line).append(OS.NEWLINE);
+                    }
+                }
+            } else {
+                builder.append(text);
+            }
+        }
+        return builder.toString();
+    }
+
     /**
      * See if there is a name formatter file bundled with this export format.
      * If so, read all the name formatters so they can be used by the filter layouts.
@@ -0,0 +1,140 @@
+package org.jabref.logic.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.jabref.logic.util.FileType;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.logic.util.io.FileUtil;
+
+/**
+ * The beginning of a file or string to import in an unknown format.
+ * <p>
+ * The header is read once and shared by all importers, which check whether they recognize the format on the header instead of reading the whole file again.
+ * The importers recognizing the header are ranked by the {@link Signature} of the content (e.g., the XML root element, the RIS tags, or the <code>@</code> of BibTeX entries) and by the file extension.
+ */
+class ImportFormatHeader {
+
+    /**
+     * The maximum number of bytes (of a file) or characters (of a string) in the header. This is large enough to contain the first records of all formats.
+     */
+    static final int MAX_LENGTH = 64 * 1024;
+
+    private final String text;
+    private final boolean complete;
+    private final Optional<String> fileExtension;
+    private final Optional<Signature> signature;
+
+    private ImportFormatHeader(String text, boolean complete, Optional<String> fileExtension) {
+        this.text = text;
+        this.complete = complete;
+        this.fileExtension = fileExtension;
+        this.signature = Signature.of(text);
+    }
+
+    static ImportFormatHeader of(Path file) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            byte[] bytes = inputStream.readNBytes(MAX_LENGTH + 1);
+            boolean complete = bytes.length <= MAX_LENGTH;
+            // Recognizing the format only needs the ASCII characters, thus the encoding of the file does not matter
+            String text = new String(bytes, 0, Math.min(bytes.length, MAX_LENGTH), StandardCharsets.UTF_8);
+            return new ImportFormatHeader(text, complete, FileUtil.getFileExtension(file));
+        }
+    }
+
+    static ImportFormatHeader of(String data) {
+        boolean complete = data.length() <= MAX_LENGTH;
+        return new ImportFormatHeader(complete ? data : data.substring(0, MAX_LENGTH), complete, Optional.empty());
+    }
+
+    /**
+     * @return true if the header contains the whole file or string
+     */
+    boolean isComplete() {
+        return complete;
+    }
+
+    Optional<Signature> getSignature() {
+        return signature;
+    }
+
+    /**
+     * Checks whether the importer recognizes the format of the header.
+     * <p>
+     * If the header is not {@link #isComplete() complete}, an importer might recognize the format in the rest of the file only.
+     */
+    boolean isRecognizedBy(Importer importer) throws IOException {
+        try (Reader reader = Reader.of(text);
+             BufferedReader bufferedReader = new BufferedReader(reader)) {
+            return importer.isRecognizedFormat(bufferedReader);
+        }
+    }
+
+    /**
+     * Checks whether the importer should check the whole file if it does not recognize the header.
+     * This is the case for importers of the format the header looks like if the header cannot be read as text (e.g., a zip file) or is not complete.
+     */
+    boolean needsFullCheck(Importer importer) {
+        return (getRank(importer) > 0) && (!complete || text.indexOf('\0') >= 0);
+    }
+
+    /**
+     * Ranks the importer for the header: the higher the rank, the more likely the importer can import the file.
+     * <p>
+     * The signature of the content counts more than the file extension, because the extension is chosen by the user and is shared by many formats (e.g., <code>txt</code>).
+     */
+    int getRank(Importer importer) {
+        FileType fileType = importer.getFileType();
+        int rank = 0;
+        if (signature.filter(value -> value.isSignatureOf(fileType)).isPresent()) {
+            rank += 2;
+        }
+        if (fileExtension.filter(fileType.getExtensions()::contains).isPresent()) {
+            rank += 1;
+        }
+        return rank;
+    }
+
+    /**
+     * The characteristic start of the content of a format. If several signatures match, the first one is taken.
+     */
+    enum Signature {
+        PDF("\\A%PDF-", StandardFileType.PDF),
+        ZIP("\\APK\u0003\u0004", StandardFileType.CITAVI),
+        // Root element of MEDLINE XML, after the XML declaration, the document type, and comments
+        MEDLINE_XML("\\A\\uFEFF?(?:\\s*<[?!][^>]*>)*\\s*<Pubmed", StandardFileType.MEDLINE),
+        XML("\\A\\uFEFF?(?:\\s*<[?!][^>]*>)*\\s*<[A-Za-z]", StandardFileType.XML, StandardFileType.MEDLINE),
+        BIBTEX("^\\s*@[A-Za-z]+\\s*[{(]", StandardFileType.BIBTEX_DB),
+        RIS("^TY  - ", StandardFileType.RIS),
+        ENDNOTE("^%0 ", StandardFileType.ENDNOTE),
+        MEDLINE_PLAIN("^PMID- ", StandardFileType.MEDLINE_PLAIN),
+        CFF("^cff-version:", StandardFileType.CFF);
+
+        private final Pattern pattern;
+        private final List<FileType> fileTypes;
+
+        Signature(String regex, FileType... fileTypes) {
+            this.pattern = Pattern.compile(regex, Pattern.MULTILINE);
+            this.fileTypes = Arrays.asList(fileTypes);
+        }
+
+        static Optional<Signature> of(String text) {
+            return Arrays.stream(values())
+                         .filter(signature -> signature.pattern.matcher(text).find())
+                         .findFirst();
+        }
+
+        boolean isSignatureOf(FileType fileType) {
+            return fileTypes.contains(fileType);
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package org.jabref.logic.importer;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.importer.fileformat.BiblioscapeImporter;
@@ -33,14 +37,20 @@ import org.jabref.logic.importer.fileformat.pdf.PdfGrobidImporter;
 import org.jabref.logic.importer.fileformat.pdf.PdfVerbatimBibtexImporter;
 import org.jabref.logic.importer.fileformat.pdf.PdfXmpImporter;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.database.BibDatabases;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.util.FileUpdateMonitor;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class ImportFormatReader {
 
     public static final String BIBTEX_FORMAT = "BibTeX";
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ImportFormatReader.class);
+
     /**
      * All import formats.
      * Sorted accordingly to {@link Importer#compareTo}, which defaults to alphabetically by the name
@@ -141,10 +151,9 @@ public class ImportFormatReader {
     }
 
     /**
-     * Tries to import a file by iterating through the available import filters,
-     * and keeping the import that seems most promising.
+     * Tries to import a file by finding the import filter recognizing the format most likely.
      * <p/>
-     * This method first attempts to read this file as bibtex.
+     * If no import filter succeeds, this method reads the file as bibtex.
      *
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
@@ -152,10 +161,10 @@ public class ImportFormatReader {
         Objects.requireNonNull(filePath);
 
         try {
-            UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath), importer -> importer.isRecognizedFormat(filePath));
+            UnknownFormatImport unknownFormatImport = importUnknownFormat(ImportFormatHeader.of(filePath), importer -> importer.importDatabase(filePath), importer -> importer.isRecognizedFormat(filePath));
             unknownFormatImport.parserResult.setPath(filePath);
             return unknownFormatImport;
-        } catch (ImportException e) {
+        } catch (IOException | ImportException e) {
             // If all importers fail, try to read the file as BibTeX
             try {
                 ParserResult parserResult = OpenDatabase.loadDatabase(filePath, importFormatPreferences, fileMonitor);
@@ -173,50 +182,114 @@ public class ImportFormatReader {
     }
 
     /**
-     * Tries to import entries by iterating through the available import filters,
-     * and keeping the import that seems the most promising
+     * Tries to import entries by finding the import filter recognizing the format most likely.
+     * <p>
+     * The import filters check whether they recognize the {@link ImportFormatHeader header} of the data, which is read only once.
+     * Only the import filter ranked best for the header imports the data. The other import filters recognizing the header are tried if this import fails or finds no entries.
+     * If the header does not contain all data, the import filters not recognizing the header check the whole data as a last resort.
      *
+     * @param header             the header of the data to import
      * @param importDatabase     the function to import the entries with a formatter
-     * @param isRecognizedFormat the function to check whether the source is in the correct format for an importer
+     * @param isRecognizedFormat the function to check whether the whole data is in the correct format for an importer
      * @return an UnknownFormatImport with the imported entries and metadata
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
-    private UnknownFormatImport importUnknownFormat(CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat) throws ImportException {
-        // stores ref to best result, gets updated at the next loop
-        List<BibEntry> bestResult = null;
-        int bestResultCount = 0;
-        String bestFormatName = null;
-
-        // Cycle through all importers:
-        for (Importer imFo : formats) {
+    private UnknownFormatImport importUnknownFormat(ImportFormatHeader header, CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat) throws ImportException {
+        List<Importer> candidates = new ArrayList<>();
+        List<Importer> uncheckedImporters = new ArrayList<>();
+        for (Importer importer : formats) {
             try {
-                if (!isRecognizedFormat.apply(imFo)) {
-                    continue;
+                if (header.isRecognizedBy(importer)) {
+                    candidates.add(importer);
+                } else if (header.needsFullCheck(importer)) {
+                    if (isRecognizedFormat.apply(importer)) {
+                        candidates.add(importer);
+                    }
+                } else if (!header.isComplete()) {
+                    uncheckedImporters.add(importer);
                 }
+            } catch (IOException e) {
+                LOGGER.debug("Could not check the format with {}", importer.getName(), e);
+            }
+        }
 
-                ParserResult parserResult = importDatabase.apply(imFo);
-                List<BibEntry> entries = parserResult.getDatabase().getEntries();
-
-                BibDatabases.purgeEmptyEntries(entries);
-                int entryCount = entries.size();
+        // The sort is stable: importers of the same rank keep their order, which has the importers recognizing any data at the end
+        candidates.sort(Comparator.comparingInt(header::getRank).reversed());
+        Optional<UnknownFormatImport> result = importWithBestImporter(candidates, importDatabase);
+        if (result.isPresent()) {
+            return result.get();
+        }
 
-                if (entryCount > bestResultCount) {
-                    bestResult = entries;
-                    bestResultCount = entryCount;
-                    bestFormatName = imFo.getName();
+        List<Importer> fallbackCandidates = new ArrayList<>();
+        for (Importer importer : uncheckedImporters) {
+            try {
+                if (isRecognizedFormat.apply(importer)) {
+                    fallbackCandidates.add(importer);
                 }
-            } catch (IOException ex) {
-                // The import did not succeed. Go on.
+            } catch (IOException e) {
+                LOGGER.debug("Could not check the format with {}", importer.getName(), e);
             }
         }
+        fallbackCandidates.sort(Comparator.comparingInt(header::getRank).reversed());
+        return importWithBestImporter(fallbackCandidates, importDatabase)
+                .orElseThrow(() -> new ImportException(Localization.lang("Could not find a suitable import format.")));
+    }
+
+    /**
+     * Imports the data with the first of the ranked importers which finds entries.
+     * <p>
+     * The best importer is tried alone, since it usually succeeds. If it does not, the remaining importers are tried concurrently.
+     * As soon as an importer finds entries and all importers ranked higher failed, the trials of the importers ranked lower are cancelled.
+     * The cancelled importers stop reading the data (see {@link Importer#interruptible}).
+     */
+    private Optional<UnknownFormatImport> importWithBestImporter(List<Importer> rankedImporters, CheckedFunction<Importer, ParserResult> importDatabase) throws ImportException {
+        if (rankedImporters.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<UnknownFormatImport> result = tryImport(rankedImporters.getFirst(), importDatabase);
+        if (result.isPresent()) {
+            return result;
+        }
 
-        if (bestResult != null) {
-            // we found something
-            ParserResult parserResult = new ParserResult(bestResult);
-            return new UnknownFormatImport(bestFormatName, parserResult);
+        List<Future<Optional<UnknownFormatImport>>> trials = rankedImporters.subList(1, rankedImporters.size()).stream()
+                                                                            .map(importer -> HeadlessExecutorService.INSTANCE.execute(() -> tryImport(importer, importDatabase)))
+                                                                            .toList();
+        try {
+            for (Future<Optional<UnknownFormatImport>> trial : trials) {
+                result = trial.get();
+                if (result.isPresent()) {
+                    return result;
+                }
+            }
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImportException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ImportException(e);
+        } finally {
+            trials.forEach(trial -> trial.cancel(true));
         }
+    }
+
+    private Optional<UnknownFormatImport> tryImport(Importer importer, CheckedFunction<Importer, ParserResult> importDatabase) {
+        try {
+            ParserResult parserResult = importDatabase.apply(importer);
+            List<BibEntry> entries = parserResult.getDatabase().getEntries();
 
-        throw new ImportException(Localization.lang("Could not find a suitable import format."));
+            BibDatabases.purgeEmptyEntries(entries);
+            if (entries.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(new UnknownFormatImport(importer.getName(), new ParserResult(entries)));
+        } catch (IOException | UncheckedIOException e) {
+            // The import did not succeed (or was cancelled). Go on.
+            LOGGER.debug("Could not import with {}", importer.getName(), e);
+            return Optional.empty();
+        }
     }
 
     @FunctionalInterface
@@ -226,8 +299,7 @@ public class ImportFormatReader {
     }
 
     /**
-     * Tries to import a String by iterating through the available import filters,
-     * and keeping the import that seems the most promising
+     * Tries to import a String by finding the import filter recognizing the format most likely
      *
      * @param data the string to import
      * @return an UnknownFormatImport with the imported entries and metadata
@@ -236,6 +308,6 @@ public class ImportFormatReader {
     public UnknownFormatImport importUnknownFormat(String data) throws ImportException {
         Objects.requireNonNull(data);
 
-        return importUnknownFormat(importer -> importer.importDatabase(data), importer -> importer.isRecognizedFormat(data));
+        return importUnknownFormat(ImportFormatHeader.of(data), importer -> importer.importDatabase(data), importer -> importer.isRecognizedFormat(data));
     }
 }
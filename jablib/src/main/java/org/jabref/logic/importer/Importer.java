@@ -2,9 +2,11 @@ package org.jabref.logic.importer;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedReader;
+import java.io.FilterReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -100,7 +102,7 @@ public abstract class Importer implements Comparable<Importer> {
 
             Charset charset = StandardCharsets.UTF_8;
 
-            BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(bufferedInputStream, charset));
+            BufferedReader bufferedReader = new BufferedReader(interruptible(new InputStreamReader(bufferedInputStream, charset)));
             ParserResult parserResult = importDatabase(bufferedReader);
             parserResult.getMetaData().setEncoding(charset);
             parserResult.setPath(filePath);
@@ -152,12 +154,38 @@ public abstract class Importer implements Comparable<Importer> {
      * @throws IOException Signals that an I/O exception has occurred.
      */
     public ParserResult importDatabase(String data) throws IOException {
-        try (Reader reader = Reader.of(data);
+        try (Reader reader = interruptible(Reader.of(data));
              BufferedReader bufferedReader = new BufferedReader(reader)) {
             return importDatabase(bufferedReader);
         }
     }
 
+    /**
+     * Wraps the reader to stop reading with an {@link InterruptedIOException} as soon as the thread is interrupted.
+     * This lets an import be cancelled, e.g., the imports of the unknown formats which are not needed anymore (see {@link ImportFormatReader}).
+     */
+    protected static Reader interruptible(Reader reader) {
+        return new FilterReader(reader) {
+            @Override
+            public int read() throws IOException {
+                checkInterrupted();
+                return super.read();
+            }
+
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                checkInterrupted();
+                return super.read(buffer, offset, length);
+            }
+        };
+    }
+
+    private static void checkInterrupted() throws InterruptedIOException {
+        if (Thread.interrupted()) {
+            throw new InterruptedIOException("The import was interrupted");
+        }
+    }
+
     public static BufferedReader getReader(Path filePath) throws IOException {
         InputStream stream = Files.newInputStream(filePath, StandardOpenOption.READ);
 
@@ -64,7 +64,7 @@ public class BibtexImporter extends Importer {
         decoder.onMalformedInput(CodingErrorAction.REPLACE);
 
         try (InputStreamReader inputStreamReader = new InputStreamReader(Files.newInputStream(filePath), decoder);
-             BufferedReader reader = new BufferedReader(inputStreamReader)) {
+             BufferedReader reader = new BufferedReader(interruptible(inputStreamReader))) {
             ParserResult parserResult = this.importDatabase(reader);
             parserResult.getMetaData().setEncoding(result.encoding());
             parserResult.getMetaData().setEncodingExplicitlySupplied(result.encodingExplicitlySupplied());
@@ -3,24 +3,25 @@ package org.jabref.logic.importer.fileformat;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PushbackReader;
+import java.io.InterruptedIOException;
 import java.io.Reader;
-import java.io.StringWriter;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -94,13 +95,35 @@ public class BibtexParser implements Parser {
     private static final String BIB_DESK_ROOT_GROUP_NAME = "BibDeskGroups";
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
     private static final int INDEX_RELATIVE_PATH_IN_PLIST = 4;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    private static final int MINIMUM_ENTRIES_FOR_PARALLEL_PARSING = 1000;
+    private static final int ENTRIES_PER_PARALLEL_TASK = 256;
+    private static final Set<String> NON_ENTRY_TYPES = Set.of("preamble", "string", "comment");
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+
+    /**
+     * The complete input. The text read so far is not copied, but tracked as the range from {@link #textStart} to {@link #position}.
+     */
+    private char[] buffer;
+    private int length;
+    private int position;
+    private int textStart;
+    /**
+     * Stack of pushed back characters differing from the characters of the buffer before {@link #position}, e.g., the EOF character after peeking at the end of the input
+     */
+    private final StringBuilder pushedBack = new StringBuilder();
+    /**
+     * The text read so far, if it is no longer a range of the buffer. This is the case as long as there are pushed back characters.
+     */
+    private StringBuilder detachedText;
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
     private int line = 1;
+    /**
+     * Entries parsed in advance, by the position after their entry type
+     */
+    private Map<Integer, PreparsedEntry> preparsedEntries = Map.of();
     private ParserResult parserResult;
     private final MetaDataParser metaDataParser;
     private final Map<String, String> parsedBibdeskGroups;
@@ -162,13 +185,15 @@ public class BibtexParser implements Parser {
      */
     public ParserResult parse(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        readInput(in);
 
         String newLineSeparator = determineNewLineSeparator();
 
         // BibTeX related contents
         initializeParserResult(newLineSeparator);
 
+        preparsedEntries = preparseEntries();
+
         parseDatabaseID();
 
         skipWhitespace();
@@ -176,26 +201,103 @@ public class BibtexParser implements Parser {
         return parseFileContent();
     }
 
-    private String determineNewLineSeparator() throws IOException {
-        String newLineSeparator = OS.NEWLINE;
-        StringWriter stringWriter = new StringWriter(BibtexParser.LOOKAHEAD);
-        int i = 0;
-        int currentChar;
-        do {
-            currentChar = pushbackReader.read();
-            stringWriter.append((char) currentChar);
-            i++;
-        } while ((i < BibtexParser.LOOKAHEAD) && (currentChar != '\r') && (currentChar != '\n'));
-        if (currentChar == '\r') {
-            newLineSeparator = "\r\n";
-        } else if (currentChar == '\n') {
-            newLineSeparator = "\n";
+    /**
+     * Reads the complete input into the buffer. The parser works on the buffer only, which avoids recording each character read.
+     */
+    private void readInput(Reader in) throws IOException {
+        buffer = new char[INITIAL_BUFFER_SIZE];
+        length = 0;
+        int charactersRead;
+        while ((charactersRead = in.read(buffer, length, buffer.length - length)) != -1) {
+            length += charactersRead;
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+            }
         }
+        position = 0;
+        textStart = 0;
+        pushedBack.setLength(0);
+        detachedText = null;
+    }
 
-        // unread all sneaked characters
-        pushbackReader.unread(stringWriter.toString().toCharArray());
+    private String determineNewLineSeparator() {
+        int end = Math.min(length, BibtexParser.LOOKAHEAD);
+        for (int i = 0; i < end; i++) {
+            if (buffer[i] == '\r') {
+                return "\r\n";
+            } else if (buffer[i] == '\n') {
+                return "\n";
+            }
+        }
+        return OS.NEWLINE;
+    }
+
+    /**
+     * First phase of parsing large libraries: finds the entries starting at the beginning of a line and parses them in parallel.
+     * <p>
+     * The second phase is the usual sequential parsing. When it arrives at one of these entries, the entry is taken from the first phase.
+     * Strings, comments, the preamble, and the metadata are parsed in the second phase only. Thus, they are processed in file order and see the complete file.
+     * The text around the entries (and thus their parsed serialization) is determined in the second phase as well.
+     */
+    private Map<Integer, PreparsedEntry> preparseEntries() {
+        List<Integer> entryStarts = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            if ((buffer[i] == '@') && ((i == 0) || (buffer[i - 1] == '\n'))) {
+                entryStarts.add(i);
+            }
+        }
+        if (entryStarts.size() < MINIMUM_ENTRIES_FOR_PARALLEL_PARSING) {
+            return Map.of();
+        }
 
-        return newLineSeparator;
+        Map<Integer, PreparsedEntry> entries = new ConcurrentHashMap<>(entryStarts.size());
+        int numberOfTasks = ((entryStarts.size() - 1) / ENTRIES_PER_PARALLEL_TASK) + 1;
+        IntStream.range(0, numberOfTasks).parallel().forEach(task -> {
+            BibtexParser parser = new BibtexParser(importFormatPreferences);
+            parser.initializeParserResult(database.getNewLineSeparator());
+            parser.buffer = buffer;
+            parser.length = length;
+            int end = Math.min(entryStarts.size(), (task + 1) * ENTRIES_PER_PARALLEL_TASK);
+            for (int i = task * ENTRIES_PER_PARALLEL_TASK; i < end; i++) {
+                parser.preparseEntry(entryStarts.get(i)).ifPresent(entry -> entries.put(entry.start(), entry));
+            }
+        });
+        return entries;
+    }
+
+    /**
+     * Parses the entry at the given position in the same way as the sequential parsing would do after reading the <code>@</code>.
+     *
+     * @return the entry, if there is an entry at the given position which can be parsed without any warning
+     */
+    private Optional<PreparsedEntry> preparseEntry(int atPosition) {
+        position = atPosition + 1;
+        textStart = position;
+        pushedBack.setLength(0);
+        detachedText = null;
+        eof = false;
+        Optional<PreparsedEntry> preparsedEntry = Optional.empty();
+        try {
+            skipWhitespace();
+            String entryType = parseTextToken().toLowerCase(Locale.ROOT).trim();
+            if (!eof && pushedBack.isEmpty() && !NON_ENTRY_TYPES.contains(entryType)) {
+                int start = position;
+                BibEntry entry = parseEntry(entryType);
+                // Only EOF characters may be pushed back, as these are read again at the end of the input only
+                if (pushedBack.chars().allMatch(this::isEOFCharacter)) {
+                    preparsedEntry = Optional.of(new PreparsedEntry(entry, start, position, eof));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // The sequential parsing will report the problem
+            LOGGER.debug("Could not parse entry in advance", e);
+        }
+        if (parserResult.hasWarnings()) {
+            // Start over with an empty result for the next entry
+            initializeParserResult(database.getNewLineSeparator());
+            return Optional.empty();
+        }
+        return preparsedEntry;
     }
 
     private void initializeParserResult(String newLineSeparator) {
@@ -229,6 +331,10 @@ public class BibtexParser implements Parser {
         Map<String, String> meta = new HashMap<>();
 
         while (!eof) {
+            // Lets a cancelled import stop parsing the remaining entries
+            if (Thread.interrupted()) {
+                throw new InterruptedIOException("Parsing was interrupted");
+            }
             boolean found = consumeUncritically('@');
             if (!found) {
                 break;
@@ -321,7 +427,8 @@ public class BibtexParser implements Parser {
                 commentsAndEntryTypeDefinition = commentsAndEntryTypeDefinition.substring(1);
             }
 
-            BibEntry entry = parseEntry(type);
+            PreparsedEntry preparsedEntry = pushedBack.isEmpty() ? preparsedEntries.get(position) : null;
+            BibEntry entry = preparsedEntry == null ? parseEntry(type) : skipPreparsedEntry(preparsedEntry);
             // store comments collected without type definition
             entry.setCommentsBeforeEntry(
                     commentsAndEntryTypeDefinition.substring(0, commentsAndEntryTypeDefinition.lastIndexOf('@')));
@@ -341,6 +448,21 @@ public class BibtexParser implements Parser {
         }
     }
 
+    /**
+     * Continues after the given entry, as if it had been parsed
+     */
+    private BibEntry skipPreparsedEntry(PreparsedEntry preparsedEntry) {
+        for (int i = position; i < preparsedEntry.end(); i++) {
+            if (buffer[i] == '\n') {
+                line++;
+            }
+        }
+        position = preparsedEntry.end();
+        eof |= preparsedEntry.eof();
+        // The clone gets a new ID. This keeps the IDs in file order, which is required by BibDatabase#indexOf.
+        return (BibEntry) preparsedEntry.entry().clone();
+    }
+
     private void parseJabRefComment(Map<String, String> meta) {
         StringBuilder buffer;
         try {
@@ -509,12 +631,22 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
+        String text;
+        if (detachedText == null) {
+            text = new String(buffer, textStart, position - textStart);
+        } else {
+            text = detachedText.toString();
+            detachedText = pushedBack.isEmpty() ? null : new StringBuilder();
         }
+        textStart = position;
+        return text;
+    }
 
-        return entry.toString();
+    /**
+     * Continues recording the text read so far in {@link #detachedText}, starting with the text of the buffer up to the given position
+     */
+    private void detachText(int end) {
+        detachedText = new StringBuilder(end - textStart + 16).append(buffer, textStart, end - textStart);
     }
 
     /**
@@ -625,11 +757,26 @@ public class BibtexParser implements Parser {
         };
     }
 
-    private int read() throws IOException {
-        int character = pushbackReader.read();
+    private int read() {
+        int character;
+        boolean fromBuffer = pushedBack.isEmpty();
+        if (!fromBuffer) {
+            int last = pushedBack.length() - 1;
+            character = pushedBack.charAt(last);
+            pushedBack.setLength(last);
+        } else if (position < length) {
+            character = buffer[position++];
+        } else {
+            character = -1;
+        }
 
         if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+            if (detachedText != null) {
+                detachedText.append((char) character);
+            }
+        } else if (fromBuffer && (character != -1) && (detachedText == null)) {
+            // An EOF character inside the input is not part of the text read so far
+            detachText(position - 1);
         }
         if (character == '\n') {
             line++;
@@ -637,13 +784,28 @@ public class BibtexParser implements Parser {
         return character;
     }
 
-    private void unread(int character) throws IOException {
+    /**
+     * Pushes back the given character. In most cases, this is the character just read, which is pushed back by moving the position in the buffer.
+     */
+    private void unread(int character) {
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+        if (pushedBack.isEmpty() && (position > 0) && (buffer[position - 1] == character)) {
+            position--;
+            if (detachedText == null) {
+                textStart = Math.min(textStart, position);
+                return;
+            }
+        } else {
+            if (detachedText == null) {
+                detachText(position);
+            }
+            pushedBack.append((char) character);
+        }
+        int last = detachedText.length() - 1;
+        if ((last >= 0) && (detachedText.charAt(last) == character)) {
+            detachedText.setLength(last);
         }
     }
 
@@ -1152,4 +1314,12 @@ public class BibtexParser implements Parser {
                     + " but received " + (char) character);
         }
     }
+
+    /**
+     * @param start the position after the entry type
+     * @param end   the position after the entry, including the new line ending the entry
+     * @param eof   whether the end of the input was reached while parsing the entry
+     */
+    private record PreparsedEntry(BibEntry entry, int start, int end, boolean eof) {
+    }
 }
@@ -2,21 +2,48 @@ package org.jabref.logic.integrity;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
-import org.jabref.model.database.BibDatabase;
+import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
-
+import org.jabref.model.entry.identifier.DOI;
+import org.jabref.model.entry.types.EntryType;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+
+/**
+ * Checks the entries of a library with all {@link FieldChecker}s and {@link EntryChecker}s and for duplicate DOIs.
+ * <p>
+ * Most checkers only depend on the entry itself. Their results are cached by the id of the entry together with the content of the entry.
+ * Thus, checking the library again only checks the entries changed in the meantime with these checkers.
+ * The checkers depending on other entries or on the file system are run on each check.
+ */
 public class IntegrityCheck {
 
     private final BibDatabaseContext bibDatabaseContext;
-    private final FieldCheckers fieldCheckers;
-    private final List<EntryChecker> entryCheckers;
+    private final List<EntryChecker> entryCheckers = new ArrayList<>();
+    // Their results can change without a change of the entry, thus these are never cached
+    private final List<EntryChecker> contextDependentCheckers = new ArrayList<>();
+
+    // Only changed by check, thus read without synchronization while checking the entries in parallel
+    private final Map<String, CheckedEntry> checkedEntries = new HashMap<>();
+    // Ids of the entries using a DOI, updated for the entries checked again
+    private final SetMultimap<DOI, String> entriesByDoi = HashMultimap.create();
 
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
                           FilePreferences filePreferences,
@@ -25,22 +52,31 @@ public class IntegrityCheck {
                           boolean allowIntegerEdition) {
         this.bibDatabaseContext = bibDatabaseContext;
 
-        fieldCheckers = new FieldCheckers(bibDatabaseContext,
+        FieldCheckers fieldCheckers = new FieldCheckers(bibDatabaseContext,
                 filePreferences,
                 journalAbbreviationRepository,
                 allowIntegerEdition);
+        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
+            // Linked files can be moved or deleted without a change of the entry
+            if (fieldChecker.field == StandardField.FILE) {
+                contextDependentCheckers.add(fieldChecker);
+            } else {
+                entryCheckers.add(fieldChecker);
+            }
+        }
 
-        entryCheckers = new ArrayList<>(List.of(
+        entryCheckers.addAll(List.of(
                 new CitationKeyChecker(),
                 new TypeChecker(),
                 new BibStringChecker(),
                 new HTMLCharacterChecker(),
-                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
-                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
-                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()),
                 new AmpersandChecker(),
                 new LatexIntegrityChecker(),
                 new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository)));
+        contextDependentCheckers.addAll(List.of(
+                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
+                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
+                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase())));
 
         if (bibDatabaseContext.isBiblatexMode()) {
             entryCheckers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
@@ -55,16 +91,97 @@ public class IntegrityCheck {
     }
 
     List<IntegrityMessage> check() {
-        List<IntegrityMessage> result = new ArrayList<>();
+        return check(false, () -> {
+        }, () -> false);
+    }
 
-        BibDatabase database = bibDatabaseContext.getDatabase();
+    /**
+     * Checks all entries of the library, followed by the checks of the whole library.
+     *
+     * @param parallel       whether the entries are checked in parallel using the common fork/join pool
+     * @param onEntryChecked called after each checked entry, possibly from different threads
+     * @param isCancelled    polled before each entry. The remaining entries are skipped as soon as it returns <code>true</code>.
+     * @return the messages of the entries in the order of the entries, followed by the messages of the whole library
+     * @throws CancellationException if the check was cancelled. The results of the entries checked so far are not cached.
+     */
+    public synchronized List<IntegrityMessage> check(boolean parallel, Runnable onEntryChecked, BooleanSupplier isCancelled) {
+        List<BibEntry> entries = List.copyOf(bibDatabaseContext.getDatabase().getEntries());
+        Stream<BibEntry> entryStream = parallel ? entries.parallelStream() : entries.stream();
+        List<CheckResult> results = entryStream.map(entry -> {
+            if (isCancelled.getAsBoolean()) {
+                // Aborts the other tasks of a parallel stream, too
+                throw new CancellationException("Integrity check cancelled");
+            }
+            CheckedEntry checkedEntry = checkCached(entry);
+            List<IntegrityMessage> contextMessages = new ArrayList<>();
+            for (EntryChecker checker : contextDependentCheckers) {
+                contextMessages.addAll(checker.check(entry));
+            }
+            onEntryChecked.run();
+            return new CheckResult(checkedEntry, contextMessages);
+        }).toList();
+
+        List<IntegrityMessage> messages = new ArrayList<>();
+        Set<String> ids = new HashSet<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            String id = entries.get(i).getId();
+            CheckResult result = results.get(i);
+            ids.add(id);
+            CheckedEntry previous = checkedEntries.put(id, result.checkedEntry());
+            if (previous != result.checkedEntry()) {
+                updateDoi(id, previous, result.checkedEntry());
+            }
+            messages.addAll(result.checkedEntry().messages());
+            messages.addAll(result.contextMessages());
+        }
+        // Forget the removed entries
+        checkedEntries.entrySet().removeIf(checked -> {
+            boolean removed = !ids.contains(checked.getKey());
+            if (removed) {
+                updateDoi(checked.getKey(), checked.getValue(), null);
+            }
+            return removed;
+        });
+
+        messages.addAll(checkDoiDuplicates(entries));
+        return messages;
+    }
 
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
+    /**
+     * Returns the results of the cacheable checkers for the given entry, from the cache if the entry is unchanged.
+     * The cache itself is updated by {@link #check(boolean, Runnable, BooleanSupplier)} only.
+     */
+    private CheckedEntry checkCached(BibEntry entry) {
+        CheckedEntry checkedEntry = checkedEntries.get(entry.getId());
+        if ((checkedEntry != null) && checkedEntry.isUpToDate(entry)) {
+            return checkedEntry;
         }
-        result.addAll(checkDatabase(database));
+        EntryType type = entry.getType();
+        Map<Field, String> fields = Map.copyOf(entry.getFieldMap());
+        List<IntegrityMessage> messages = new ArrayList<>();
+        for (EntryChecker entryChecker : entryCheckers) {
+            messages.addAll(entryChecker.check(entry));
+        }
+        return new CheckedEntry(entry, type, fields, entry.getDOI(), messages);
+    }
 
-        return result;
+    private void updateDoi(String id, CheckedEntry previous, CheckedEntry current) {
+        if (previous != null) {
+            previous.doi().ifPresent(doi -> entriesByDoi.remove(doi, id));
+        }
+        if (current != null) {
+            current.doi().ifPresent(doi -> entriesByDoi.put(doi, id));
+        }
+    }
+
+    private List<IntegrityMessage> checkDoiDuplicates(List<BibEntry> entries) {
+        List<IntegrityMessage> messages = new ArrayList<>();
+        for (BibEntry entry : entries) {
+            checkedEntries.get(entry.getId()).doi()
+                          .filter(doi -> entriesByDoi.get(doi).size() > 1)
+                          .ifPresent(_ -> messages.add(new IntegrityMessage(Localization.lang("Same DOI used in multiple entries"), entry, StandardField.DOI)));
+        }
+        return messages;
     }
 
     public List<IntegrityMessage> checkEntry(BibEntry entry) {
@@ -73,18 +190,29 @@ public class IntegrityCheck {
             return result;
         }
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
-            result.addAll(fieldChecker.check(entry));
+        for (EntryChecker entryChecker : entryCheckers) {
+            result.addAll(entryChecker.check(entry));
         }
 
-        for (EntryChecker entryChecker : entryCheckers) {
+        for (EntryChecker entryChecker : contextDependentCheckers) {
             result.addAll(entryChecker.check(entry));
         }
 
         return result;
     }
 
-    public List<IntegrityMessage> checkDatabase(BibDatabase database) {
-        return new DoiDuplicationChecker().check(database);
+    private record CheckedEntry(
+            BibEntry entry,
+            EntryType type,
+            Map<Field, String> fields,
+            Optional<DOI> doi,
+            List<IntegrityMessage> messages) {
+
+        boolean isUpToDate(BibEntry entry) {
+            return (this.entry == entry) && type.equals(entry.getType()) && fields.equals(entry.getFieldMap());
+        }
+    }
+
+    private record CheckResult(CheckedEntry checkedEntry, List<IntegrityMessage> contextMessages) {
     }
 }
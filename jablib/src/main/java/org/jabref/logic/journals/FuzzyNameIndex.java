@@ -0,0 +1,147 @@
+package org.jabref.logic.journals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Index of items by name to find the items whose names might be within a given edit distance of a query, ignoring case.
+ * <p>
+ * The index uses the count filter of q-grams: if two strings are within edit distance <code>k</code>, they share at least
+ * <code>max(|a|, |b|) - q + 1 - k * q</code> of their q-grams (counted with multiplicity), because each edit operation destroys at most <code>q</code> q-grams.
+ * Additionally, the lengths of the strings differ by at most <code>k</code>.
+ * Thus, the candidates contain all items within the edit distance, but possibly others. The caller needs to verify the candidates.
+ * <p>
+ * The items are numbered by the length of their normalized name, so that the items of similar length form a range.
+ * For each trigram, the numbers of the items containing it are stored once per occurrence.
+ */
+class FuzzyNameIndex<T> {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int[] NO_ITEMS = new int[0];
+
+    private final List<T> items;
+    private final int[] lengths;
+    private final Map<String, int[]> itemsByGram;
+
+    FuzzyNameIndex(Collection<T> items, Function<T, String> nameFunction) {
+        List<NamedItem<T>> namedItems = items.stream()
+                                             .map(item -> new NamedItem<>(item, normalize(nameFunction.apply(item))))
+                                             .sorted(Comparator.comparingInt(namedItem -> namedItem.name().length()))
+                                             .toList();
+        this.items = namedItems.stream().map(NamedItem::item).toList();
+        List<String> names = namedItems.stream().map(NamedItem::name).toList();
+
+        lengths = new int[names.size()];
+        Map<String, Integer> sizes = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            lengths[i] = name.length();
+            for (int start = 0; (start + GRAM_LENGTH) <= name.length(); start++) {
+                sizes.merge(name.substring(start, start + GRAM_LENGTH), 1, Integer::sum);
+            }
+        }
+
+        itemsByGram = HashMap.newHashMap(sizes.size());
+        Map<String, Integer> filled = HashMap.newHashMap(sizes.size());
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            for (int start = 0; (start + GRAM_LENGTH) <= name.length(); start++) {
+                String gram = name.substring(start, start + GRAM_LENGTH);
+                int[] gramItems = itemsByGram.computeIfAbsent(gram, key -> new int[sizes.get(key)]);
+                // Items are added in increasing order, thus the occurrences of an item are adjacent
+                gramItems[filled.merge(gram, 1, Integer::sum) - 1] = i;
+            }
+        }
+    }
+
+    private static String normalize(String name) {
+        // Same normalization as in StringSimilarity
+        return name.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Returns the items whose names might be within the given edit distance of the given name, ignoring case.
+     * All items within the distance are contained.
+     */
+    List<T> getCandidates(String name, int maxDistance) {
+        String query = normalize(name);
+        int length = query.length();
+        int from = firstWithLengthAtLeast(length - maxDistance);
+        int to = firstWithLengthAtLeast(length + maxDistance + 1);
+        if (from >= to) {
+            return List.of();
+        }
+
+        int[] sharedGrams = countSharedGrams(query, from, to);
+        List<T> candidates = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            int requiredGrams = (Math.max(length, lengths[i]) - GRAM_LENGTH + 1) - (maxDistance * GRAM_LENGTH);
+            if (sharedGrams[i - from] >= requiredGrams) {
+                candidates.add(items.get(i));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Counts the q-grams of the query shared with the items in the given range, with multiplicity
+     */
+    private int[] countSharedGrams(String query, int from, int to) {
+        Map<String, Integer> queryGrams = new HashMap<>();
+        for (int start = 0; (start + GRAM_LENGTH) <= query.length(); start++) {
+            queryGrams.merge(query.substring(start, start + GRAM_LENGTH), 1, Integer::sum);
+        }
+
+        int[] sharedGrams = new int[to - from];
+        queryGrams.forEach((gram, queryCount) -> {
+            int[] gramItems = itemsByGram.getOrDefault(gram, NO_ITEMS);
+            int position = firstPosition(gramItems, from);
+            while ((position < gramItems.length) && (gramItems[position] < to)) {
+                int item = gramItems[position];
+                int itemCount = 0;
+                while ((position < gramItems.length) && (gramItems[position] == item)) {
+                    itemCount++;
+                    position++;
+                }
+                sharedGrams[item - from] += Math.min(queryCount, itemCount);
+            }
+        });
+        return sharedGrams;
+    }
+
+    private int firstWithLengthAtLeast(int length) {
+        int low = 0;
+        int high = lengths.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (lengths[middle] < length) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int firstPosition(int[] gramItems, int item) {
+        int position = Arrays.binarySearch(gramItems, item);
+        if (position < 0) {
+            return -position - 1;
+        }
+        // The item may occur multiple times
+        while ((position > 0) && (gramItems[position - 1] == item)) {
+            position--;
+        }
+        return position;
+    }
+
+    private record NamedItem<T>(T item, String name) {
+    }
+}
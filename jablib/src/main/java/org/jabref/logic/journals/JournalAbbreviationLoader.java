@@ -8,7 +8,10 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+import org.jabref.logic.journals.JournalAbbreviationRepository.BuiltInAbbreviations;
 import org.jabref.logic.journals.ltwa.LtwaRepository;
 
 import org.slf4j.Logger;
@@ -27,6 +30,9 @@ public class JournalAbbreviationLoader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationLoader.class);
 
+    // The built-in abbreviations are read-only. Thus, all repositories share them, and the MV file is copied and opened once per process.
+    private static BuiltInAbbreviations sharedBuiltInAbbreviations;
+
     public static Collection<Abbreviation> readAbbreviationsFromCsvFile(Path file) throws IOException {
         LOGGER.debug("Reading journal list from file {}", file);
         AbbreviationParser parser = new AbbreviationParser();
@@ -36,25 +42,67 @@ public class JournalAbbreviationLoader {
 
     public static JournalAbbreviationRepository loadRepository(JournalAbbreviationPreferences journalAbbreviationPreferences) {
         JournalAbbreviationRepository repository;
+        try {
+            repository = new JournalAbbreviationRepository(CompletableFuture.completedFuture(loadBuiltInAbbreviations()));
+        } catch (IOException e) {
+            LOGGER.error("Error while loading journal abbreviation repository", e);
+            return null;
+        }
+        addExternalLists(repository, journalAbbreviationPreferences);
+        return repository;
+    }
 
+    /**
+     * Loads the repository using the given executor, i.e., in the background if the executor runs tasks on another thread.
+     * The returned repository is available immediately. Its first lookup waits until the abbreviations are loaded.
+     */
+    public static JournalAbbreviationRepository loadRepository(JournalAbbreviationPreferences journalAbbreviationPreferences, Executor executor) {
+        CompletableFuture<BuiltInAbbreviations> builtInAbbreviations = new CompletableFuture<>();
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository(builtInAbbreviations);
+        executor.execute(() -> {
+            try {
+                BuiltInAbbreviations loaded;
+                try {
+                    loaded = loadBuiltInAbbreviations();
+                } catch (IOException e) {
+                    LOGGER.error("Error while loading journal abbreviation repository. We use a default journal list", e);
+                    loaded = BuiltInAbbreviations.demonstration();
+                }
+                // The external lists are added before the lookups stop waiting
+                addExternalLists(repository, journalAbbreviationPreferences);
+                builtInAbbreviations.complete(loaded);
+            } catch (RuntimeException e) {
+                builtInAbbreviations.completeExceptionally(e);
+            }
+        });
+        return repository;
+    }
+
+    private static synchronized BuiltInAbbreviations loadBuiltInAbbreviations() throws IOException {
+        if (sharedBuiltInAbbreviations == null) {
+            sharedBuiltInAbbreviations = readBuiltInAbbreviations();
+        }
+        return sharedBuiltInAbbreviations;
+    }
+
+    private static BuiltInAbbreviations readBuiltInAbbreviations() throws IOException {
         // Initialize with built-in list
         try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
             if (resourceAsStream == null) {
                 LOGGER.warn("There is no journal-list.mv. We use a default journal list");
-                repository = new JournalAbbreviationRepository();
-            } else {
-                Path tempDir = Files.createTempDirectory("jabref-journal");
-                Path tempJournalList = tempDir.resolve("journal-list.mv");
-                Files.copy(resourceAsStream, tempJournalList);
-                repository = new JournalAbbreviationRepository(tempJournalList, loadLtwaRepository());
-                tempDir.toFile().deleteOnExit();
-                tempJournalList.toFile().deleteOnExit();
+                return BuiltInAbbreviations.demonstration();
             }
-        } catch (IOException e) {
-            LOGGER.error("Error while loading journal abbreviation repository", e);
-            return null;
+            Path tempDir = Files.createTempDirectory("jabref-journal");
+            Path tempJournalList = tempDir.resolve("journal-list.mv");
+            Files.copy(resourceAsStream, tempJournalList);
+            BuiltInAbbreviations builtIn = BuiltInAbbreviations.open(tempJournalList, loadLtwaRepository());
+            tempDir.toFile().deleteOnExit();
+            tempJournalList.toFile().deleteOnExit();
+            return builtIn;
         }
+    }
 
+    private static void addExternalLists(JournalAbbreviationRepository repository, JournalAbbreviationPreferences journalAbbreviationPreferences) {
         // Read external lists
         List<String> lists = journalAbbreviationPreferences.getExternalJournalLists();
         // might produce NPE in tests
@@ -70,7 +118,6 @@ public class JournalAbbreviationLoader {
                 }
             }
         }
-        return repository;
     }
 
     private static LtwaRepository loadLtwaRepository() throws IOException {
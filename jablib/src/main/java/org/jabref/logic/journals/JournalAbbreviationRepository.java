@@ -1,6 +1,7 @@
 package org.jabref.logic.journals;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -10,6 +11,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -18,62 +20,68 @@ import org.jabref.logic.util.strings.StringSimilarity;
 
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * The built-in abbreviations are not loaded into memory. They are looked up in the MV file, which is opened once per process and shared by all repositories
+ * (see {@link JournalAbbreviationLoader}). Thus, reloading the repository, e.g., after a change of the preferences, does not open the file again.
+ * Besides the abbreviations by full name, the MV file contains maps from the abbreviated forms to the full name (see {@link org.jabref.generators.JournalListMvGenerator}).
+ * Only the custom abbreviations are held in memory.
  */
 public class JournalAbbreviationRepository {
     static final Pattern QUESTION_MARK = Pattern.compile("\\?");
 
-    private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject = new HashMap<>();
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationRepository.class);
+
+    // Done when the built-in abbreviations are loaded, see JournalAbbreviationLoader#loadRepository(JournalAbbreviationPreferences, Executor)
+    private final CompletableFuture<BuiltInAbbreviations> builtInAbbreviations;
     private final TreeSet<Abbreviation> customAbbreviations = new TreeSet<>();
     private final StringSimilarity similarity = new StringSimilarity();
-    private final LtwaRepository ltwaRepository;
+    // Built on the first fuzzy lookup
+    private FuzzyNameIndex<String> fullNameIndex;
+    // Built on the first fuzzy lookup after a change of the custom abbreviations
+    private FuzzyNameIndex<Abbreviation> customNameIndex;
 
     /**
-     * Initializes the internal data based on the abbreviations found in the given MV file
+     * Initializes the repository based on the abbreviations found in the given MV file
      *
      * @param journalList The path to the MV file containing the journal abbreviations.
      * @param ltwaRepository The LTWA repository to use for abbreviations.
      */
     public JournalAbbreviationRepository(Path journalList, LtwaRepository ltwaRepository) {
-        MVMap<String, Abbreviation> mvFullToAbbreviationObject;
-        try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open()) {
-            mvFullToAbbreviationObject = store.openMap("FullToAbbreviation");
-            mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
-                String abbrevationString = abbreviation.getAbbreviation();
-                String shortestUniqueAbbreviation = abbreviation.getShortestUniqueAbbreviation();
-                Abbreviation newAbbreviation = new Abbreviation(
-                        name,
-                        abbrevationString,
-                        shortestUniqueAbbreviation
-                );
-                fullToAbbreviationObject.put(name, newAbbreviation);
-                abbreviationToAbbreviationObject.put(abbrevationString, newAbbreviation);
-                dotlessToAbbreviationObject.put(newAbbreviation.getDotlessAbbreviation(), newAbbreviation);
-                shortestUniqueToAbbreviationObject.put(shortestUniqueAbbreviation, newAbbreviation);
-            });
-        }
-        this.ltwaRepository = ltwaRepository;
+        this(CompletableFuture.completedFuture(BuiltInAbbreviations.open(journalList, ltwaRepository)));
     }
 
     /**
      * Initializes the repository with demonstration data. Used if no abbreviation file is found.
      */
     public JournalAbbreviationRepository() {
-        Abbreviation newAbbreviation = new Abbreviation(
-                "Demonstration",
-                "Demo",
-                "Dem"
-        );
-        fullToAbbreviationObject.put("Demonstration", newAbbreviation);
-        abbreviationToAbbreviationObject.put("Demo", newAbbreviation);
-        dotlessToAbbreviationObject.put("Demo", newAbbreviation);
-        shortestUniqueToAbbreviationObject.put("Dem", newAbbreviation);
-        ltwaRepository = new LtwaRepository();
+        this(CompletableFuture.completedFuture(BuiltInAbbreviations.demonstration()));
+    }
+
+    /**
+     * Initializes the repository with the built-in abbreviations loaded in the background. All lookups wait until these are loaded.
+     * Adding custom abbreviations does not wait, so that the loader can add the abbreviations of the external lists before completing the future.
+     */
+    JournalAbbreviationRepository(CompletableFuture<BuiltInAbbreviations> builtInAbbreviations) {
+        this.builtInAbbreviations = builtInAbbreviations;
+    }
+
+    private BuiltInAbbreviations builtIn() {
+        return builtInAbbreviations.join();
+    }
+
+    private static Abbreviation getBuiltIn(String name, Abbreviation storedAbbreviation) {
+        return new Abbreviation(name, storedAbbreviation.getAbbreviation(), storedAbbreviation.getShortestUniqueAbbreviation());
+    }
+
+    private Optional<Abbreviation> getBuiltIn(String name) {
+        return Optional.ofNullable(name)
+                       .flatMap(fullName -> Optional.ofNullable(builtIn().fullToAbbreviationObject().get(fullName))
+                                                    .map(storedAbbreviation -> getBuiltIn(fullName, storedAbbreviation)));
     }
 
     private static boolean isMatched(String name, Abbreviation abbreviation) {
@@ -112,7 +120,7 @@ public class JournalAbbreviationRepository {
         if (QUESTION_MARK.matcher(journalName).find()) {
             return Optional.of(journalName);
         }
-        return ltwaRepository.abbreviate(journalName);
+        return builtIn().ltwaRepository().abbreviate(journalName);
     }
 
     /**
@@ -124,10 +132,11 @@ public class JournalAbbreviationRepository {
             return false;
         }
         String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
+        BuiltInAbbreviations builtIn = builtIn();
         return customAbbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
-                || abbreviationToAbbreviationObject.containsKey(journal)
-                || dotlessToAbbreviationObject.containsKey(journal)
-                || shortestUniqueToAbbreviationObject.containsKey(journal);
+                || builtIn.abbreviationToFullName().containsKey(journal)
+                || builtIn.dotlessToFullName().containsKey(journal)
+                || builtIn.shortestUniqueToFullName().containsKey(journal);
     }
 
     /**
@@ -139,6 +148,7 @@ public class JournalAbbreviationRepository {
     public Optional<Abbreviation> get(String input) {
         // Clean up input: trim and unescape ampersand
         String journal = input.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
+        BuiltInAbbreviations builtIn = builtIn();
 
         Optional<Abbreviation> customAbbreviation = customAbbreviations.stream()
                                                                        .filter(abbreviation -> isMatched(journal, abbreviation))
@@ -147,10 +157,10 @@ public class JournalAbbreviationRepository {
             return customAbbreviation;
         }
 
-        Optional<Abbreviation> abbreviation = Optional.ofNullable(fullToAbbreviationObject.get(journal))
-                .or(() -> Optional.ofNullable(abbreviationToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(dotlessToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(shortestUniqueToAbbreviationObject.get(journal)));
+        Optional<Abbreviation> abbreviation = getBuiltIn(journal)
+                .or(() -> getBuiltIn(builtIn.abbreviationToFullName().get(journal)))
+                .or(() -> getBuiltIn(builtIn.dotlessToFullName().get(journal)))
+                .or(() -> getBuiltIn(builtIn.shortestUniqueToFullName().get(journal)));
 
         if (abbreviation.isEmpty()) {
             abbreviation = findAbbreviationFuzzyMatched(journal);
@@ -160,12 +170,30 @@ public class JournalAbbreviationRepository {
     }
 
     private Optional<Abbreviation> findAbbreviationFuzzyMatched(String input) {
-        Optional<Abbreviation> customMatch = findBestFuzzyMatched(customAbbreviations, input);
+        Optional<Abbreviation> customMatch = findBestFuzzyMatched(getCustomNameIndex().getCandidates(input, similarity.getThreshold()), input);
         if (customMatch.isPresent()) {
             return customMatch;
         }
 
-        return findBestFuzzyMatched(fullToAbbreviationObject.values(), input);
+        // Only the abbreviations of near names are restored
+        List<Abbreviation> candidates = getFullNameIndex().getCandidates(input, similarity.getThreshold()).stream()
+                                                          .flatMap(name -> getBuiltIn(name).stream())
+                                                          .toList();
+        return findBestFuzzyMatched(candidates, input);
+    }
+
+    private synchronized FuzzyNameIndex<String> getFullNameIndex() {
+        if (fullNameIndex == null) {
+            fullNameIndex = new FuzzyNameIndex<>(builtIn().fullToAbbreviationObject().keySet(), name -> name);
+        }
+        return fullNameIndex;
+    }
+
+    private synchronized FuzzyNameIndex<Abbreviation> getCustomNameIndex() {
+        if (customNameIndex == null) {
+            customNameIndex = new FuzzyNameIndex<>(customAbbreviations, Abbreviation::getName);
+        }
+        return customNameIndex;
     }
 
     private Optional<Abbreviation> findBestFuzzyMatched(Collection<Abbreviation> abbreviations, String input) {
@@ -194,16 +222,19 @@ public class JournalAbbreviationRepository {
         return Optional.of(candidates.getFirst());
     }
 
-    public void addCustomAbbreviation(Abbreviation abbreviation) {
+    public synchronized void addCustomAbbreviation(Abbreviation abbreviation) {
         Objects.requireNonNull(abbreviation);
 
         // We do NOT want to keep duplicates
         // The set automatically "removes" duplicates
         // What is a duplicate? An abbreviation is NOT the same if any field is NOT equal (e.g., if the shortest unique differs, the abbreviation is NOT the same)
-        customAbbreviations.add(abbreviation);
+        if (customAbbreviations.add(abbreviation)) {
+            customNameIndex = null;
+        }
     }
 
     public Collection<Abbreviation> getCustomAbbreviations() {
+        builtInAbbreviations.join();
         return customAbbreviations;
     }
 
@@ -228,10 +259,60 @@ public class JournalAbbreviationRepository {
     }
 
     public Set<String> getFullNames() {
-        return fullToAbbreviationObject.keySet();
+        return builtIn().fullToAbbreviationObject().keySet();
     }
 
+    /**
+     * Returns all built-in abbreviations. These are restored from the MV file on each call.
+     */
     public Collection<Abbreviation> getAllLoaded() {
-        return fullToAbbreviationObject.values();
+        MVMap<String, Abbreviation> fullToAbbreviationObject = builtIn().fullToAbbreviationObject();
+        List<Abbreviation> abbreviations = new ArrayList<>(fullToAbbreviationObject.size());
+        fullToAbbreviationObject.forEach((name, abbreviation) -> abbreviations.add(getBuiltIn(name, abbreviation)));
+        return abbreviations;
+    }
+
+    /**
+     * The built-in abbreviations, which are looked up in the MV file.
+     * The name and the dotless abbreviation of the stored abbreviations are not serialized, thus these are restored by getBuiltIn
+     */
+    record BuiltInAbbreviations(MVMap<String, Abbreviation> fullToAbbreviationObject,
+                                Map<String, String> abbreviationToFullName,
+                                Map<String, String> dotlessToFullName,
+                                Map<String, String> shortestUniqueToFullName,
+                                LtwaRepository ltwaRepository) {
+
+        static BuiltInAbbreviations open(Path journalList, LtwaRepository ltwaRepository) {
+            MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open();
+            MVMap<String, Abbreviation> fullToAbbreviationObject = store.openMap("FullToAbbreviation");
+            if (store.hasMap("AbbreviationToFull") && store.hasMap("DotlessToFull") && store.hasMap("ShortestUniqueToFull")) {
+                return new BuiltInAbbreviations(fullToAbbreviationObject, store.openMap("AbbreviationToFull"), store.openMap("DotlessToFull"), store.openMap("ShortestUniqueToFull"), ltwaRepository);
+            }
+
+            LOGGER.debug("Journal list {} does not contain the maps of abbreviated names. These are built in memory.", journalList);
+            BuiltInAbbreviations builtInAbbreviations = new BuiltInAbbreviations(fullToAbbreviationObject, new HashMap<>(), new HashMap<>(), new HashMap<>(), ltwaRepository);
+            fullToAbbreviationObject.forEach((name, abbreviation) -> builtInAbbreviations.addAbbreviatedNames(getBuiltIn(name, abbreviation)));
+            return builtInAbbreviations;
+        }
+
+        static BuiltInAbbreviations demonstration() {
+            // Without a file name, the store is kept in memory
+            MVMap<String, Abbreviation> fullToAbbreviationObject = new MVStore.Builder().open().openMap("FullToAbbreviation");
+            BuiltInAbbreviations builtInAbbreviations = new BuiltInAbbreviations(fullToAbbreviationObject, new HashMap<>(), new HashMap<>(), new HashMap<>(), new LtwaRepository());
+            Abbreviation newAbbreviation = new Abbreviation(
+                    "Demonstration",
+                    "Demo",
+                    "Dem"
+            );
+            fullToAbbreviationObject.put("Demonstration", newAbbreviation);
+            builtInAbbreviations.addAbbreviatedNames(newAbbreviation);
+            return builtInAbbreviations;
+        }
+
+        private void addAbbreviatedNames(Abbreviation abbreviation) {
+            abbreviationToFullName.put(abbreviation.getAbbreviation(), abbreviation.getName());
+            dotlessToFullName.put(abbreviation.getDotlessAbbreviation(), abbreviation.getName());
+            shortestUniqueToFullName.put(abbreviation.getShortestUniqueAbbreviation(), abbreviation.getName());
+        }
     }
 }
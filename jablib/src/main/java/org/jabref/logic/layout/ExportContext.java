@@ -0,0 +1,16 @@
+package org.jabref.logic.layout;
+
+/**
+ * The position of the entry being laid out among all entries laid out together, e.g., exported to the same file.
+ * <p>
+ * The context is passed to the formatters (see {@link LayoutFormatter#format(String, ExportContext)}) instead of being kept in a global state, so that entries can be laid out concurrently.
+ *
+ * @param entryNumber the number of the entry in the order of the export, starting at 1
+ */
+public record ExportContext(int entryNumber) {
+
+    /**
+     * The context of an entry laid out on its own, e.g., in the preview
+     */
+    public static final ExportContext SINGLE_ENTRY = new ExportContext(1);
+}
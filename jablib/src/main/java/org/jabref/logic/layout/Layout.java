@@ -98,10 +98,19 @@ public class Layout {
      * recursive string references are resolved.
      */
     public String doLayout(BibEntry bibtex, BibDatabase database) {
+        return doLayout(bibtex, database, ExportContext.SINGLE_ENTRY);
+    }
+
+    /**
+     * Returns the processed bibtex entry laid out at the position given by the context, e.g., for numbering the exported entries.
+     *
+     * @see #doLayout(BibEntry, BibDatabase)
+     */
+    public String doLayout(BibEntry bibtex, BibDatabase database, ExportContext context) {
         StringBuilder builder = new StringBuilder(100);
 
         for (LayoutEntry layoutEntry : layoutEntries) {
-            String fieldText = layoutEntry.doLayout(bibtex, database);
+            String fieldText = layoutEntry.doLayout(bibtex, database, context);
 
             // The following change means we treat null fields as "". This is to fix the
             // problem of whitespace disappearing after missing fields.
@@ -138,6 +147,13 @@ public class Layout {
         return sb.toString();
     }
 
+    /**
+     * Checks whether the layout contains group blocks (<code>\begingroup</code>). These depend on the previously laid out entry, thus the entries have to be laid out one after another in their order.
+     */
+    public boolean containsGroups() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::containsGroups);
+    }
+
     public List<String> getMissingFormatters() {
         return new ArrayList<>(missingFormatters);
     }
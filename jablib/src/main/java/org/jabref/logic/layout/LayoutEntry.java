@@ -200,6 +200,10 @@ class LayoutEntry {
     }
 
     public String doLayout(BibEntry bibEntry, BibDatabase database) {
+        return doLayout(bibEntry, database, ExportContext.SINGLE_ENTRY);
+    }
+
+    public String doLayout(BibEntry bibEntry, BibDatabase database, ExportContext context) {
         switch (type) {
             case LayoutHelper.IS_LAYOUT_TEXT:
                 return text;
@@ -208,14 +212,14 @@ class LayoutEntry {
 
                 // If a post formatter has been set, call it:
                 if (postFormatter != null) {
-                    value = postFormatter.format(value);
+                    value = postFormatter.format(value, context);
                 }
                 return value;
             case LayoutHelper.IS_FIELD_START:
             case LayoutHelper.IS_GROUP_START:
-                return handleFieldOrGroupStart(bibEntry, database);
+                return handleFieldOrGroupStart(bibEntry, database, context);
             case LayoutHelper.IS_OPTION_FIELD:
-                return handleOptionField(bibEntry, database);
+                return handleOptionField(bibEntry, database, context);
             case LayoutHelper.IS_ENCODING_NAME:
                 // Printing the encoding name is not supported in entry layouts, only
                 // in begin/end layouts. This prevents breakage if some users depend
@@ -238,7 +242,7 @@ class LayoutEntry {
         return database.resolveForStrings(text);
     }
 
-    private String handleOptionField(BibEntry bibtex, BibDatabase database) {
+    private String handleOptionField(BibEntry bibtex, BibDatabase database, ExportContext context) {
         String fieldEntry;
 
         if (InternalField.TYPE_HEADER.getName().equals(text)) {
@@ -252,19 +256,19 @@ class LayoutEntry {
 
         if (option != null) {
             for (LayoutFormatter anOption : option) {
-                fieldEntry = anOption.format(fieldEntry);
+                fieldEntry = anOption.format(fieldEntry, context);
             }
         }
 
         // If a post formatter has been set, call it:
         if (postFormatter != null) {
-            fieldEntry = postFormatter.format(fieldEntry);
+            fieldEntry = postFormatter.format(fieldEntry, context);
         }
 
         return fieldEntry;
     }
 
-    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database) {
+    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database, ExportContext context) {
         Optional<String> field;
         boolean negated = false;
         if (type == LayoutHelper.IS_GROUP_START) {
@@ -305,11 +309,11 @@ class LayoutEntry {
             boolean previousSkipped = false;
 
             for (int i = 0; i < layoutEntries.size(); i++) {
-                fieldText = layoutEntries.get(i).doLayout(bibtex, database);
+                fieldText = layoutEntries.get(i).doLayout(bibtex, database, context);
 
                 if (fieldText == null) {
                     if ((i + 1) < layoutEntries.size()) {
-                        if (layoutEntries.get(i + 1).doLayout(bibtex, database).trim().isEmpty()) {
+                        if (layoutEntries.get(i + 1).doLayout(bibtex, database, context).trim().isEmpty()) {
                             i++;
                             previousSkipped = true;
                             continue;
@@ -341,6 +345,16 @@ class LayoutEntry {
         }
     }
 
+    /**
+     * Checks whether this entry is or contains a group block. Group blocks print their content only if the group differs from the one of the previously laid out entry.
+     */
+    public boolean containsGroups() {
+        if (type == LayoutHelper.IS_GROUP_START) {
+            return true;
+        }
+        return (layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::containsGroups);
+    }
+
     /**
      * Do layout for general formatters (no bibtex-entry fields).
      *
@@ -24,4 +24,15 @@ public interface LayoutFormatter {
      * @return The layouted text.
      */
     String format(String fieldText);
+
+    /**
+     * Formats the text of an entry laid out in the given context. Formatters depending on the position of the entry (e.g., {@link org.jabref.logic.layout.format.Number}) override this method.
+     *
+     * @param fieldText The text to layout.
+     * @param context   The position of the entry in the export.
+     * @return The layouted text.
+     */
+    default String format(String fieldText, ExportContext context) {
+        return format(fieldText);
+    }
 }
@@ -1,15 +1,14 @@
 package org.jabref.logic.layout.format;
 
+import org.jabref.logic.layout.ExportContext;
 import org.jabref.logic.layout.ParamLayoutFormatter;
 
 /**
  * Formatter that outputs a sequence number for the current entry. The sequence number is
- * tied to the entry's position in the order, not to the number of calls to this formatter.
+ * tied to the entry's position in the order (see {@link ExportContext#entryNumber()}), not to the number of calls to this formatter.
  */
 public class Number implements ParamLayoutFormatter {
 
-    public static int serialExportNumber;
-
     @Override
     public void setArgument(String arg) {
         // No effect currently.
@@ -17,6 +16,11 @@ public class Number implements ParamLayoutFormatter {
 
     @Override
     public String format(String fieldText) {
-        return String.valueOf(serialExportNumber);
+        return format(fieldText, ExportContext.SINGLE_ENTRY);
+    }
+
+    @Override
+    public String format(String fieldText, ExportContext context) {
+        return String.valueOf(context.entryNumber());
     }
 }
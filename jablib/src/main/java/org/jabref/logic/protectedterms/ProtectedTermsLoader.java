@@ -9,6 +9,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.jabref.logic.l10n.Localization;
@@ -23,6 +25,7 @@ public class ProtectedTermsLoader {
     private static final Logger LOGGER = LoggerFactory.getLogger(ProtectedTermsLoader.class);
 
     private final List<ProtectedTermsList> mainList = new ArrayList<>();
+    private final CompletableFuture<Void> loading;
 
     static {
         INTERNAL_LISTS.put("/protectedterms/months_weekdays.terms", () -> Localization.lang("Months and weekdays in English"));
@@ -32,7 +35,15 @@ public class ProtectedTermsLoader {
     }
 
     public ProtectedTermsLoader(ProtectedTermsPreferences preferences) {
-        update(preferences);
+        this(preferences, Runnable::run);
+    }
+
+    /**
+     * Loads the protected terms lists using the given executor, i.e., in the background if the executor runs tasks on another thread.
+     * The first access to the lists waits until these are loaded.
+     */
+    public ProtectedTermsLoader(ProtectedTermsPreferences preferences, Executor executor) {
+        loading = CompletableFuture.runAsync(() -> load(preferences), executor);
     }
 
     public static List<String> getInternalLists() {
@@ -40,6 +51,11 @@ public class ProtectedTermsLoader {
     }
 
     public void update(ProtectedTermsPreferences preferences) {
+        loading.join();
+        load(preferences);
+    }
+
+    private void load(ProtectedTermsPreferences preferences) {
         mainList.clear();
 
         // Read internal lists
@@ -89,21 +105,22 @@ public class ProtectedTermsLoader {
 
     public void reloadProtectedTermsList(ProtectedTermsList list) {
         ProtectedTermsList newList = readProtectedTermsListFromFile(Path.of(list.getLocation()), list.isEnabled());
-        int index = mainList.indexOf(list);
+        List<ProtectedTermsList> lists = getMainList();
+        int index = lists.indexOf(list);
         if (index >= 0) {
-            mainList.set(index, newList);
+            lists.set(index, newList);
         } else {
             LOGGER.warn("Problem reloading protected terms file");
         }
     }
 
     public List<ProtectedTermsList> getProtectedTermsLists() {
-        return mainList;
+        return getMainList();
     }
 
     public List<String> getProtectedTerms() {
         Set<String> result = new HashSet<>();
-        for (ProtectedTermsList list : mainList) {
+        for (ProtectedTermsList list : getMainList()) {
             if (list.isEnabled()) {
                 result.addAll(list.getTermList());
             }
@@ -113,7 +130,7 @@ public class ProtectedTermsLoader {
     }
 
     public void addProtectedTermsListFromFile(Path path, boolean enabled) {
-        mainList.add(readProtectedTermsListFromFile(path, enabled));
+        getMainList().add(readProtectedTermsListFromFile(path, enabled));
     }
 
     public static ProtectedTermsList readProtectedTermsListFromResource(String resource, String description, boolean enabled) {
@@ -131,7 +148,7 @@ public class ProtectedTermsLoader {
 
     public boolean removeProtectedTermsList(ProtectedTermsList termList) {
         termList.setEnabled(false);
-        return mainList.remove(termList);
+        return getMainList().remove(termList);
     }
 
     public ProtectedTermsList addNewProtectedTermsList(String newDescription, String newLocation, boolean enabled) {
@@ -140,11 +157,16 @@ public class ProtectedTermsLoader {
         ProtectedTermsList resultingList = new ProtectedTermsList(newDescription, new ArrayList<>(), newLocation);
         resultingList.setEnabled(enabled);
         resultingList.createAndWriteHeading(newDescription);
-        mainList.add(resultingList);
+        getMainList().add(resultingList);
         return resultingList;
     }
 
     public ProtectedTermsList addNewProtectedTermsList(String newDescription, String newLocation) {
         return addNewProtectedTermsList(newDescription, newLocation, true);
     }
+
+    private List<ProtectedTermsList> getMainList() {
+        loading.join();
+        return mainList;
+    }
 }
@@ -45,6 +45,7 @@ public class IndexManager {
     private final LuceneIndexer linkedFilesIndexer;
     private final BibFieldsSearcher bibFieldsSearcher;
     private final LinkedFilesSearcher linkedFilesSearcher;
+    private final SearchGroupsEvaluator searchGroupsEvaluator;
 
     public IndexManager(BibDatabaseContext databaseContext, TaskExecutor executor, CliPreferences preferences, PostgreServer postgreServer) {
         this.taskExecutor = executor;
@@ -53,7 +54,7 @@ public class IndexManager {
         this.preferencesListener = (observable, oldValue, newValue) -> bindToPreferences(newValue);
         this.shouldIndexLinkedFiles.addListener(preferencesListener);
 
-        bibFieldsIndexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer.getConnection());
+        bibFieldsIndexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer.getConnection(), postgreServer.isPersistent());
 
         LuceneIndexer indexer;
         try {
@@ -64,8 +65,9 @@ public class IndexManager {
         }
         linkedFilesIndexer = indexer;
 
-        this.bibFieldsSearcher = new BibFieldsSearcher(postgreServer.getConnection(), bibFieldsIndexer.getTable());
+        this.bibFieldsSearcher = new BibFieldsSearcher(postgreServer.getReaderPool(), bibFieldsIndexer.getTable());
         this.linkedFilesSearcher = new LinkedFilesSearcher(databaseContext, linkedFilesIndexer, preferences.getFilePreferences());
+        this.searchGroupsEvaluator = new SearchGroupsEvaluator(databaseContext, bibFieldsSearcher);
         updateOnStart();
     }
 
@@ -88,6 +90,7 @@ public class IndexManager {
             @Override
             public Object call() {
                 bibFieldsIndexer.updateOnStart(this);
+                searchGroupsEvaluator.evaluateAll();
                 return null;
             }
         }.willBeRecoveredAutomatically(true)
@@ -110,6 +113,7 @@ public class IndexManager {
             @Override
             public Object call() {
                 bibFieldsIndexer.addToIndex(entries, this);
+                searchGroupsEvaluator.evaluate(entries);
                 return null;
             }
         }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(entries)))
@@ -152,6 +156,7 @@ public class IndexManager {
             @Override
             public Object call() {
                 bibFieldsIndexer.updateEntry(event.getBibEntry(), event.getField());
+                searchGroupsEvaluator.evaluate(List.of(event.getBibEntry()));
                 return null;
             }
         }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(List.of(event.getBibEntry()))))
@@ -215,11 +220,4 @@ public class IndexManager {
         query.setSearchResults(searchResults);
         return searchResults;
     }
-
-    /**
-     * @implNote No need to check for full-text searches as this method only used by the search groups
-     */
-    public boolean isEntryMatched(BibEntry entry, SearchQuery query) {
-        return bibFieldsSearcher.isMatched(entry, query);
-    }
 }
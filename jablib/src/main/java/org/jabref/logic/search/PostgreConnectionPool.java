@@ -0,0 +1,163 @@
+package org.jabref.logic.search;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded pool of connections to the {@link PostgreServer} for reading the indexes, e.g., for searching.
+ * <p>
+ * The indexes are written using a dedicated connection per library (see {@link PostgreServer#getConnection()}), while the reads of all libraries share this pool.
+ * Thereby, searches run concurrently and do not wait for a running indexing batch.
+ * The connections are kept open, so that the prepared statements cached by the driver for each connection are reused by later searches.
+ * If all connections are in use, a read waits until a connection is returned.
+ */
+public class PostgreConnectionPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostgreConnectionPool.class);
+
+    // Waiting longer than this for a connection delays the search noticeably
+    private static final long SLOW_WAIT_MILLIS = 100;
+
+    private final Supplier<Connection> connectionFactory;
+    private final Semaphore permits;
+    private final Deque<Connection> idleConnections = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private final LongAdder borrowedConnections = new LongAdder();
+    private final LongAdder waitTime = new LongAdder();
+    private final LongAdder queryTime = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * @param maxSize           the maximum number of connections in use at the same time
+     * @param connectionFactory creates a new connection, returns null if the server cannot be connected
+     */
+    public PostgreConnectionPool(int maxSize, Supplier<Connection> connectionFactory) {
+        this.connectionFactory = connectionFactory;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Runs the query on a connection of the pool. The connection must not be closed or kept by the query.
+     *
+     * @return the result of the query
+     * @throws SQLException if the query fails or no connection could be obtained
+     */
+    public <T> T withConnection(Query<T> query) throws SQLException {
+        long waitStartTime = System.nanoTime();
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection to the Postgres server", e);
+        }
+
+        activeConnections.incrementAndGet();
+        Connection connection = null;
+        try {
+            connection = borrow();
+            // Opening a new connection counts as waiting for a connection
+            long queryStartTime = System.nanoTime();
+            recordWait(queryStartTime - waitStartTime);
+            try {
+                return query.run(connection);
+            } finally {
+                queryTime.add(System.nanoTime() - queryStartTime);
+            }
+        } finally {
+            release(connection);
+            activeConnections.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        borrowedConnections.increment();
+        waitTime.add(waitNanos);
+        if (TimeUnit.NANOSECONDS.toMillis(waitNanos) > SLOW_WAIT_MILLIS) {
+            LOGGER.debug("Waited {} ms for a connection to the Postgres server", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        }
+    }
+
+    private Connection borrow() throws SQLException {
+        Connection connection = idleConnections.pollFirst();
+        if (connection == null) {
+            connection = connectionFactory.get();
+            if (connection == null) {
+                throw new SQLException("Could not connect to the Postgres server");
+            }
+        }
+        return connection;
+    }
+
+    private void release(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            // The driver closes connections which failed irrecoverably, these are replaced on the next borrow
+            if (!closed && !connection.isClosed()) {
+                idleConnections.addFirst(connection);
+                return;
+            }
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.debug("Could not close connection to the Postgres server", e);
+        }
+    }
+
+    public Metrics getMetrics() {
+        return new Metrics(
+                activeConnections.get(),
+                idleConnections.size(),
+                borrowedConnections.sum(),
+                Duration.ofNanos(waitTime.sum()),
+                Duration.ofNanos(queryTime.sum()));
+    }
+
+    /**
+     * Closes the idle connections. Connections in use are closed as soon as they are returned.
+     */
+    public void close() {
+        closed = true;
+        Connection connection;
+        while ((connection = idleConnections.pollFirst()) != null) {
+            release(connection);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Query<T> {
+        T run(Connection connection) throws SQLException;
+    }
+
+    /**
+     * Usage statistics of the pool since its creation
+     *
+     * @param activeConnections   the number of connections currently in use
+     * @param idleConnections     the number of open connections currently not in use
+     * @param borrowedConnections the number of queries run using the pool
+     * @param totalWaitTime       the time all queries waited for a connection, including opening new connections
+     * @param totalQueryTime      the time all queries took to run on their connection
+     */
+    public record Metrics(int activeConnections, int idleConnections, long borrowedConnections, Duration totalWaitTime, Duration totalQueryTime) {
+
+        public Duration averageWaitTime() {
+            return borrowedConnections == 0 ? Duration.ZERO : totalWaitTime.dividedBy(borrowedConnections);
+        }
+
+        public Duration averageQueryTime() {
+            return borrowedConnections == 0 ? Duration.ZERO : totalQueryTime.dividedBy(borrowedConnections);
+        }
+    }
+}
@@ -1,8 +1,22 @@
 package org.jabref.logic.search;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import javax.sql.DataSource;
 
@@ -13,47 +27,223 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.jabref.model.search.PostgreConstants.BIB_FIELDS_SCHEME;
+import static org.jabref.model.search.PostgreConstants.CLEAN;
+import static org.jabref.model.search.PostgreConstants.FINGERPRINT_TABLE_SUFFIX;
+import static org.jabref.model.search.PostgreConstants.LIBRARY_FINGERPRINT;
+import static org.jabref.model.search.PostgreConstants.LIBRARY_PATH;
+import static org.jabref.model.search.PostgreConstants.LIBRARY_STATE_TABLE;
+import static org.jabref.model.search.PostgreConstants.SPLIT_TABLE_SUFFIX;
+import static org.jabref.model.search.PostgreConstants.TABLE_NAME;
 
+/**
+ * The embedded Postgres server holding the indexes of the bib fields.
+ * <p>
+ * The server can be started in the background (see {@link #PostgreServer(Path, Executor)}). Then, the first connection waits until the server is started.
+ * <p>
+ * Each library writes its index using its own connection ({@link #getConnection()}), while all reads share the {@link #getReaderPool() pool of reader connections}.
+ */
 public class PostgreServer {
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgreServer.class);
-    private final EmbeddedPostgres embeddedPostgres;
-    private final DataSource dataSource;
 
+    // Enough for the concurrent searches of the open libraries and the http server, while staying far below the connection limit of the server
+    private static final int READER_POOL_SIZE = Math.clamp(Runtime.getRuntime().availableProcessors(), 2, 8);
+
+    // Uses a server-side prepared statement from the first execution on, so that repeated searches on a pooled connection are not planned again
+    private static final Map<String, String> CONNECTION_PROPERTIES = Map.of("prepareThreshold", "1");
+
+    private final CompletableFuture<Server> server;
+
+    /**
+     * Starts a server whose data is discarded on shutdown.
+     */
     public PostgreServer() {
-        EmbeddedPostgres embeddedPostgres;
+        this(Optional.empty(), Runnable::run);
+    }
+
+    /**
+     * Starts a server keeping its data in the given directory. Thereby, the bib fields indexes of saved libraries survive restarts.
+     * In case the server cannot be started on that directory, a server with a temporary data directory is started.
+     */
+    public PostgreServer(Path dataDirectory) {
+        this(Optional.of(dataDirectory), Runnable::run);
+    }
+
+    /**
+     * Starts a server keeping its data in the given directory using the given executor, i.e., in the background if the executor runs tasks on another thread.
+     *
+     * @see #PostgreServer(Path)
+     */
+    public PostgreServer(Path dataDirectory, Executor executor) {
+        this(Optional.of(dataDirectory), executor);
+    }
+
+    private PostgreServer(Optional<Path> dataDirectory, Executor executor) {
+        this.server = CompletableFuture.supplyAsync(() -> start(dataDirectory), executor);
+    }
+
+    private static Server start(Optional<Path> dataDirectory) {
+        EmbeddedPostgres embeddedPostgres = dataDirectory.flatMap(PostgreServer::startPersistent).orElse(null);
+        boolean persistent = embeddedPostgres != null;
+        if (embeddedPostgres == null) {
+            try {
+                embeddedPostgres = EmbeddedPostgres.builder()
+                                                   .setOutputRedirector(ProcessBuilder.Redirect.DISCARD)
+                                                   .start();
+                LOGGER.info("Postgres server started, connection port: {}", embeddedPostgres.getPort());
+            } catch (IOException e) {
+                LOGGER.error("Could not start Postgres server", e);
+                return new Server(null, null, false);
+            }
+        }
+
+        Server server = new Server(embeddedPostgres, embeddedPostgres.getPostgresDatabase(CONNECTION_PROPERTIES), persistent);
+        addTrigramExtension(server);
+        createScheme(server);
+        addFunctions(server);
+        if (persistent) {
+            createLibraryStateTable(server);
+            dropStaleLibraryTables(server);
+        }
+        return server;
+    }
+
+    private static Optional<EmbeddedPostgres> startPersistent(Path dataDirectory) {
         try {
-            embeddedPostgres = EmbeddedPostgres.builder()
-                                               .setOutputRedirector(ProcessBuilder.Redirect.DISCARD)
-                                               .start();
-            LOGGER.info("Postgres server started, connection port: {}", embeddedPostgres.getPort());
+            Files.createDirectories(dataDirectory);
+            EmbeddedPostgres embeddedPostgres = EmbeddedPostgres.builder()
+                                                                .setOutputRedirector(ProcessBuilder.Redirect.DISCARD)
+                                                                .setDataDirectory(dataDirectory)
+                                                                .setCleanDataDirectory(false)
+                                                                .start();
+            LOGGER.info("Postgres server started on data directory {}, connection port: {}", dataDirectory, embeddedPostgres.getPort());
+            return Optional.of(embeddedPostgres);
         } catch (IOException e) {
-            LOGGER.error("Could not start Postgres server", e);
-            this.embeddedPostgres = null;
-            this.dataSource = null;
-            return;
+            LOGGER.warn("Could not start Postgres server on data directory {}, falling back to a temporary one", dataDirectory, e);
+            return Optional.empty();
         }
-
-        this.embeddedPostgres = embeddedPostgres;
-        this.dataSource = embeddedPostgres.getPostgresDatabase();
-        addTrigramExtension();
-        createScheme();
-        addFunctions();
     }
 
-    private void createScheme() {
-        try (Connection connection = getConnection()) {
+    private static void createScheme(Server server) {
+        try (Connection connection = server.getConnection()) {
             if (connection != null) {
                 LOGGER.debug("Creating scheme for bib fields");
-                connection.createStatement().execute("DROP SCHEMA IF EXISTS " + BIB_FIELDS_SCHEME);
-                connection.createStatement().execute("CREATE SCHEMA " + BIB_FIELDS_SCHEME);
+                // The scheme is kept if it exists, because a persistent server holds the indexes of the previous sessions
+                connection.createStatement().execute("CREATE SCHEMA IF NOT EXISTS " + BIB_FIELDS_SCHEME);
             }
         } catch (SQLException e) {
             LOGGER.error("Could not create scheme for bib fields", e);
         }
     }
 
-    private void addTrigramExtension() {
-        try (Connection connection = getConnection()) {
+    /**
+     * Creates the table recording the state of the persisted index of each library
+     */
+    private static void createLibraryStateTable(Server server) {
+        try (Connection connection = server.getConnection()) {
+            if (connection != null) {
+                connection.createStatement().execute("""
+                        CREATE TABLE IF NOT EXISTS %s (
+                            "%s" TEXT PRIMARY KEY,
+                            "%s" TEXT,
+                            "%s" TEXT NOT NULL,
+                            "%s" BOOLEAN NOT NULL
+                        )
+                        """.formatted(
+                        PostgreConstants.getLibraryStateTableSchemaReference(),
+                        TABLE_NAME,
+                        LIBRARY_PATH,
+                        LIBRARY_FINGERPRINT,
+                        CLEAN));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Could not create library state table", e);
+        }
+    }
+
+    /**
+     * Drops the persisted indexes of libraries which do not exist anymore, e.g., because they were deleted, moved, or renamed.
+     * Tables without a library state (e.g., of an unsaved library left behind by a crash) are dropped as well.
+     * This runs before any library connects to the server, thus no table is in use.
+     */
+    private static void dropStaleLibraryTables(Server server) {
+        try (Connection connection = server.getConnection()) {
+            if (connection == null) {
+                return;
+            }
+
+            Set<String> existingLibraryTables = new HashSet<>();
+            List<String> staleLibraryTables = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("""
+                         SELECT "%s", "%s" FROM %s
+                         """.formatted(TABLE_NAME, LIBRARY_PATH, PostgreConstants.getLibraryStateTableSchemaReference()))) {
+                while (resultSet.next()) {
+                    String table = resultSet.getString(TABLE_NAME.toString());
+                    if (libraryExists(resultSet.getString(LIBRARY_PATH.toString()))) {
+                        existingLibraryTables.add(table);
+                    } else {
+                        staleLibraryTables.add(table);
+                    }
+                }
+            }
+
+            List<String> tablesToDrop = new ArrayList<>();
+            try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                    SELECT table_name FROM information_schema.tables WHERE table_schema = ?
+                    """)) {
+                preparedStatement.setString(1, BIB_FIELDS_SCHEME.toString());
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        String table = resultSet.getString("table_name");
+                        if (!LIBRARY_STATE_TABLE.toString().equals(table) && !existingLibraryTables.contains(getLibraryTable(table))) {
+                            tablesToDrop.add(table);
+                        }
+                    }
+                }
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                for (String table : tablesToDrop) {
+                    statement.executeUpdate("DROP TABLE IF EXISTS " + PostgreConstants.getMainTableSchemaReference(table));
+                }
+            }
+            try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                    DELETE FROM %s WHERE "%s" = ANY (?)
+                    """.formatted(PostgreConstants.getLibraryStateTableSchemaReference(), TABLE_NAME))) {
+                preparedStatement.setArray(1, connection.createArrayOf("text", staleLibraryTables.toArray()));
+                preparedStatement.executeUpdate();
+            }
+            LOGGER.debug("Dropped {} tables of {} libraries which do not exist anymore", tablesToDrop.size(), staleLibraryTables.size());
+        } catch (SQLException e) {
+            LOGGER.error("Could not drop the indexes of libraries which do not exist anymore", e);
+        }
+    }
+
+    private static boolean libraryExists(String libraryPath) {
+        if (libraryPath == null) {
+            return false;
+        }
+        try {
+            return Files.exists(Path.of(libraryPath));
+        } catch (InvalidPathException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the main table of the library the given table belongs to
+     */
+    private static String getLibraryTable(String table) {
+        for (PostgreConstants suffix : List.of(SPLIT_TABLE_SUFFIX, FINGERPRINT_TABLE_SUFFIX)) {
+            if (table.endsWith(suffix.toString())) {
+                return table.substring(0, table.length() - suffix.toString().length());
+            }
+        }
+        return table;
+    }
+
+    private static void addTrigramExtension(Server server) {
+        try (Connection connection = server.getConnection()) {
             if (connection != null) {
                 LOGGER.debug("Adding trigram extension to Postgres server");
                 connection.createStatement().execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
@@ -63,8 +253,8 @@ public class PostgreServer {
         }
     }
 
-    private void addFunctions() {
-        try (Connection connection = getConnection()) {
+    private static void addFunctions(Server server) {
+        try (Connection connection = server.getConnection()) {
             if (connection != null) {
                 LOGGER.debug("Adding functions to Postgres server");
                 for (String function : PostgreConstants.POSTGRES_FUNCTIONS) {
@@ -76,18 +266,36 @@ public class PostgreServer {
         }
     }
 
+    /**
+     * Returns a new connection to the server, e.g., for writing the index of a library. Waits until the server is started.
+     * <p>
+     * For reading, use the {@link #getReaderPool() pool of reader connections}.
+     *
+     * @return null if the server could not be started or connected
+     */
     public Connection getConnection() {
-        if (dataSource != null) {
-            try {
-                return dataSource.getConnection();
-            } catch (SQLException e) {
-                LOGGER.error("Could not get connection to Postgres server", e);
-            }
-        }
-        return null;
+        return server.join().getConnection();
+    }
+
+    /**
+     * Returns the pool of connections for reading the indexes, e.g., for searching. Waits until the server is started.
+     */
+    public PostgreConnectionPool getReaderPool() {
+        return server.join().readerPool();
+    }
+
+    /**
+     * @return true if the data of the server survives a restart
+     */
+    public boolean isPersistent() {
+        return server.join().persistent();
     }
 
     public void shutdown() {
+        Server startedServer = server.join();
+        LOGGER.debug("Reader connections of Postgres server: {}", startedServer.readerPool().getMetrics());
+        startedServer.readerPool().close();
+        EmbeddedPostgres embeddedPostgres = startedServer.embeddedPostgres();
         if (embeddedPostgres != null) {
             try {
                 embeddedPostgres.close();
@@ -96,4 +304,26 @@ public class PostgreServer {
             }
         }
     }
+
+    private record Server(EmbeddedPostgres embeddedPostgres, DataSource dataSource, boolean persistent, PostgreConnectionPool readerPool) {
+
+        Server(EmbeddedPostgres embeddedPostgres, DataSource dataSource, boolean persistent) {
+            this(embeddedPostgres, dataSource, persistent, new PostgreConnectionPool(READER_POOL_SIZE, () -> connect(dataSource)));
+        }
+
+        Connection getConnection() {
+            return connect(dataSource);
+        }
+
+        private static Connection connect(DataSource dataSource) {
+            if (dataSource != null) {
+                try {
+                    return dataSource.getConnection();
+                } catch (SQLException e) {
+                    LOGGER.error("Could not get connection to Postgres server", e);
+                }
+            }
+            return null;
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package org.jabref.logic.search;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.jabref.logic.search.retrieval.BibFieldsSearcher;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.SearchGroup;
+import org.jabref.model.search.query.SearchResults;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Updates the matched entries of all search groups of a library.
+ * <p>
+ * For a set of changed entries, each search group is evaluated with a single query covering all these entries.
+ * Thus, the number of queries per change is bounded by the number of search groups and does not depend on the number of changed entries.
+ */
+public class SearchGroupsEvaluator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchGroupsEvaluator.class);
+
+    private final BibDatabaseContext databaseContext;
+    private final BibFieldsSearcher bibFieldsSearcher;
+
+    public SearchGroupsEvaluator(BibDatabaseContext databaseContext, BibFieldsSearcher bibFieldsSearcher) {
+        this.databaseContext = databaseContext;
+        this.bibFieldsSearcher = bibFieldsSearcher;
+    }
+
+    /**
+     * Determines the matches of all search groups from scratch.
+     */
+    public void evaluateAll() {
+        for (SearchGroup searchGroup : getSearchGroups()) {
+            searchGroup.setMatchedEntries(bibFieldsSearcher.search(searchGroup.getSearchQuery()).getMatchedEntries());
+        }
+    }
+
+    /**
+     * Updates the matches of all search groups for the given (added or changed) entries.
+     */
+    public void evaluate(Collection<BibEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<SearchGroup> searchGroups = getSearchGroups();
+        long startTime = System.currentTimeMillis();
+        for (SearchGroup searchGroup : searchGroups) {
+            SearchResults searchResults = bibFieldsSearcher.search(searchGroup.getSearchQuery(), entries);
+            for (BibEntry entry : entries) {
+                searchGroup.updateMatches(entry, searchResults.isMatched(entry));
+            }
+        }
+        LOGGER.debug("Evaluated {} search groups for {} entries in {} ms", searchGroups.size(), entries.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private List<SearchGroup> getSearchGroups() {
+        return databaseContext.getMetaData().getGroups()
+                              .map(root -> root.iterateOverTree()
+                                               .map(GroupTreeNode::getGroup)
+                                               .filter(SearchGroup.class::isInstance)
+                                               .map(SearchGroup.class::cast)
+                                               .toList())
+                              .orElse(List.of());
+    }
+}
@@ -1,10 +1,22 @@
 package org.jabref.logic.search.indexing;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -14,33 +26,64 @@ import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.HeadlessExecutorService;
+import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.KeywordList;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.PostgreConstants;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import io.github.thibaultmeyer.cuid.CUID;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.jabref.model.entry.field.InternalField.TYPE_HEADER;
+import static org.jabref.model.search.PostgreConstants.CLEAN;
 import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
 import static org.jabref.model.search.PostgreConstants.FIELD_NAME;
 import static org.jabref.model.search.PostgreConstants.FIELD_VALUE_LITERAL;
 import static org.jabref.model.search.PostgreConstants.FIELD_VALUE_TRANSFORMED;
+import static org.jabref.model.search.PostgreConstants.FINGERPRINT;
+import static org.jabref.model.search.PostgreConstants.LIBRARY_FINGERPRINT;
+import static org.jabref.model.search.PostgreConstants.LIBRARY_PATH;
 import static org.jabref.model.search.PostgreConstants.SPLIT_TABLE_SUFFIX;
-
+import static org.jabref.model.search.PostgreConstants.TABLE_NAME;
+
+/**
+ * Indexes the fields of the entries of a library into tables of the embedded Postgres server.
+ * <p>
+ * In case the server is persistent and the library is saved, the tables are named after the path of the library and kept when the library is closed.
+ * Together with each entry, a fingerprint of its content is stored.
+ * On the next start, only entries whose fingerprint is not found in the index are indexed again; entries which did not change just get their (new) entry id assigned.
+ * The tables of libraries which were deleted, moved, or renamed are dropped when the server is started (see {@link org.jabref.logic.search.PostgreServer}).
+ */
 public class BibFieldsIndexer {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsIndexer.class);
     private static final LatexToUnicodeFormatter LATEX_TO_UNICODE_FORMATTER = new LatexToUnicodeFormatter();
     private static final Pattern GROUPS_SEPARATOR_REGEX = Pattern.compile("\s*,\s*");
     private static final Set<Field> DATE_FIELDS = Set.of(StandardField.DATE, StandardField.YEAR, StandardField.MONTH, StandardField.DAY);
 
+    /**
+     * Number of entries whose rows are sent to the database in one <code>COPY</code> operation during bulk loading.
+     * Progress is reported once per chunk.
+     */
+    private static final int BULK_LOAD_CHUNK_SIZE = 1000;
+
+    /**
+     * Prefix of the entry ids of persisted rows which were not (yet) assigned to an entry of the current session.
+     * Entry ids are generated per session and consist of digits only, thus the prefix cannot clash with them.
+     */
+    private static final String STALE_ENTRY_ID_PREFIX = "~";
+
     private final BibDatabaseContext databaseContext;
     private final Connection connection;
     private final String libraryName;
@@ -48,25 +91,41 @@ public class BibFieldsIndexer {
     private final String schemaMainTableReference;
     private final String splitValuesTable;
     private final String schemaSplitValuesTableReference;
+    private final String schemaFingerprintTableReference;
     private final Character keywordSeparator;
+    private final boolean persistent;
 
     public BibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, Connection connection) {
+        this(bibEntryPreferences, databaseContext, connection, false);
+    }
+
+    /**
+     * @param persistent true if the index should be kept when the library is closed, so that it can be reused in the next session. Only applies to saved libraries.
+     */
+    public BibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, Connection connection, boolean persistent) {
         this.databaseContext = databaseContext;
         this.connection = connection;
         this.keywordSeparator = bibEntryPreferences.getKeywordSeparator();
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElse("unsaved");
+        this.persistent = persistent && databaseContext.getDatabasePath().isPresent();
 
-        this.mainTable = CUID.randomCUID2(12).toString();
+        this.mainTable = databaseContext.getDatabasePath()
+                                        .filter(_ -> this.persistent)
+                                        .map(path -> "library_" + BackupFileUtil.getUniqueFilePrefix(path.toAbsolutePath().normalize()))
+                                        .orElseGet(() -> CUID.randomCUID2(12).toString());
         this.splitValuesTable = mainTable + SPLIT_TABLE_SUFFIX;
 
         this.schemaMainTableReference = PostgreConstants.getMainTableSchemaReference(mainTable);
         this.schemaSplitValuesTableReference = PostgreConstants.getSplitTableSchemaReference(mainTable);
+        this.schemaFingerprintTableReference = PostgreConstants.getFingerprintTableSchemaReference(mainTable);
         // TODO: Set-up should be in a background task
         setup();
     }
 
     /**
-     * Creates a table for the library in the database, and sets up indexes on the columns.
+     * Creates a table for the library in the database.
+     * The indexes on the columns are created by {@link #createIndexes()} after the initial bulk load in {@link #updateOnStart(BackgroundTask)},
+     * because building them once over the loaded data is much faster than maintaining them row by row.
      */
     private void setup() {
         try {
@@ -100,10 +159,28 @@ public class BibFieldsIndexer {
                     FIELD_VALUE_LITERAL,
                     FIELD_VALUE_TRANSFORMED));
 
+            if (persistent) {
+                connection.createStatement().executeUpdate("""
+                        CREATE TABLE IF NOT EXISTS %s (
+                            %s TEXT PRIMARY KEY,
+                            %s TEXT NOT NULL
+                        )
+                        """.formatted(
+                        schemaFingerprintTableReference,
+                        ENTRY_ID,
+                        FINGERPRINT));
+            }
+
             LOGGER.debug("Created tables for library: {}", libraryName);
         } catch (SQLException e) {
             LOGGER.error("Could not create tables for library: {}", libraryName, e);
         }
+    }
+
+    /**
+     * Sets up indexes on the columns of the tables of the library.
+     */
+    private void createIndexes() {
         try {
             // region btree index on id column
             connection.createStatement().executeUpdate("""
@@ -160,31 +237,314 @@ public class BibFieldsIndexer {
         }
     }
 
+    /**
+     * Drops the indexes created by {@link #createIndexes()}, so that a complete reload of the tables does not need to maintain them row by row.
+     */
+    private void dropIndexes() {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : List.of(mainTable, splitValuesTable)) {
+                for (PostgreConstants column : List.of(ENTRY_ID, FIELD_NAME, FIELD_VALUE_LITERAL)) {
+                    statement.executeUpdate("""
+                            DROP INDEX IF EXISTS %s."%s_%s_index"
+                            """.formatted(PostgreConstants.BIB_FIELDS_SCHEME, table, column));
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Could not drop indexes for library: {}", libraryName, e);
+        }
+    }
+
     public void updateOnStart(BackgroundTask<?> task) {
-        addToIndex(databaseContext.getDatabase().getEntries(), task);
+        if (!persistent) {
+            try {
+                addToIndex(databaseContext.getDatabase().getEntries(), task);
+            } finally {
+                createIndexes();
+            }
+            return;
+        }
+
+        String libraryFingerprint = getLibraryFingerprint();
+        boolean reusable = isPersistedIndexReusable(libraryFingerprint);
+        // The index is marked as not clean until it is closed properly. Thereby, an index left behind by a crash is rebuilt.
+        storeLibraryState(libraryFingerprint, false);
+        if (reusable) {
+            reconcileWithPersistedIndex(task);
+            createIndexes();
+        } else {
+            LOGGER.debug("Rebuilding persisted index for library: {}", libraryName);
+            dropIndexes();
+            clearTables();
+            try {
+                addToIndex(databaseContext.getDatabase().getEntries(), task);
+            } finally {
+                createIndexes();
+            }
+        }
+    }
+
+    /**
+     * The persisted index can be reused if it was closed properly and everything affecting all entries (e.g., the strings) did not change.
+     */
+    private boolean isPersistedIndexReusable(String libraryFingerprint) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                SELECT "%s", "%s" FROM %s WHERE "%s" = ?
+                """.formatted(LIBRARY_FINGERPRINT, CLEAN, PostgreConstants.getLibraryStateTableSchemaReference(), TABLE_NAME))) {
+            preparedStatement.setString(1, mainTable);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next()
+                        && resultSet.getBoolean(CLEAN.toString())
+                        && libraryFingerprint.equals(resultSet.getString(LIBRARY_FINGERPRINT.toString()));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Could not read the state of the persisted index for library: {}", libraryName, e);
+            return false;
+        }
+    }
+
+    private void storeLibraryState(String libraryFingerprint, boolean clean) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                INSERT INTO %s ("%s", "%s", "%s", "%s")
+                VALUES (?, ?, ?, ?)
+                ON CONFLICT ("%s")
+                DO UPDATE SET "%s" = EXCLUDED."%s", "%s" = EXCLUDED."%s", "%s" = EXCLUDED."%s"
+                """.formatted(
+                PostgreConstants.getLibraryStateTableSchemaReference(),
+                TABLE_NAME, LIBRARY_PATH, LIBRARY_FINGERPRINT, CLEAN,
+                TABLE_NAME,
+                LIBRARY_PATH, LIBRARY_PATH,
+                LIBRARY_FINGERPRINT, LIBRARY_FINGERPRINT,
+                CLEAN, CLEAN))) {
+            preparedStatement.setString(1, mainTable);
+            preparedStatement.setString(2, databaseContext.getDatabasePath().map(path -> path.toAbsolutePath().normalize().toString()).orElse(null));
+            preparedStatement.setString(3, libraryFingerprint);
+            preparedStatement.setBoolean(4, clean);
+            preparedStatement.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.error("Could not store the state of the persisted index for library: {}", libraryName, e);
+        }
+    }
+
+    private void markClean() {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                UPDATE %s SET "%s" = TRUE WHERE "%s" = ?
+                """.formatted(PostgreConstants.getLibraryStateTableSchemaReference(), CLEAN, TABLE_NAME))) {
+            preparedStatement.setString(1, mainTable);
+            preparedStatement.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.error("Could not mark the persisted index of library {} as clean", libraryName, e);
+        }
+    }
+
+    /**
+     * Matches the entries of the library against the fingerprints of the persisted index.
+     * Rows of unchanged entries are re-assigned to the entry ids of this session, rows of changed or removed entries are deleted,
+     * and changed or new entries are indexed.
+     */
+    private void reconcileWithPersistedIndex(BackgroundTask<?> task) {
+        long startTime = System.currentTimeMillis();
+        Map<String, Deque<String>> persistedEntryIds = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("""
+                     SELECT "%s", "%s" FROM %s
+                     """.formatted(ENTRY_ID, FINGERPRINT, schemaFingerprintTableReference))) {
+            while (resultSet.next()) {
+                persistedEntryIds.computeIfAbsent(resultSet.getString(FINGERPRINT.toString()), _ -> new ArrayDeque<>())
+                                 .add(resultSet.getString(ENTRY_ID.toString()));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Could not read fingerprints of the persisted index for library: {}", libraryName, e);
+            dropIndexes();
+            clearTables();
+            addToIndex(databaseContext.getDatabase().getEntries(), task);
+            return;
+        }
+
+        List<BibEntry> changedEntries = new ArrayList<>();
+        StringBuilder idMapping = new StringBuilder();
+        for (BibEntry entry : databaseContext.getDatabase().getEntries()) {
+            Deque<String> candidates = persistedEntryIds.get(getFingerprint(entry));
+            if (candidates == null || candidates.isEmpty()) {
+                changedEntries.add(entry);
+            } else {
+                appendCopyValue(idMapping, STALE_ENTRY_ID_PREFIX + candidates.poll()).append('\t');
+                appendCopyValue(idMapping, entry.getId()).append('\n');
+            }
+        }
+
+        List<String> tables = List.of(schemaMainTableReference, schemaSplitValuesTableReference, schemaFingerprintTableReference);
+        try (Statement statement = connection.createStatement()) {
+            // Entry ids of the previous session may coincide with entry ids of this session. Thus, all persisted ids are marked as stale first.
+            for (String table : tables) {
+                statement.executeUpdate("""
+                        UPDATE %s SET "%s" = '%s' || "%s"
+                        """.formatted(table, ENTRY_ID, STALE_ENTRY_ID_PREFIX, ENTRY_ID));
+            }
+
+            statement.executeUpdate("""
+                    CREATE TEMPORARY TABLE IF NOT EXISTS entry_id_mapping (old_id TEXT PRIMARY KEY, new_id TEXT NOT NULL)
+                    """);
+            statement.executeUpdate("TRUNCATE entry_id_mapping");
+            connection.unwrap(PGConnection.class).getCopyAPI()
+                      .copyIn("COPY entry_id_mapping (old_id, new_id) FROM STDIN", new StringReader(idMapping.toString()));
+
+            for (String table : tables) {
+                statement.executeUpdate("""
+                        UPDATE %s AS t SET "%s" = m.new_id FROM entry_id_mapping AS m WHERE t."%s" = m.old_id
+                        """.formatted(table, ENTRY_ID, ENTRY_ID));
+                statement.executeUpdate("""
+                        DELETE FROM %s WHERE "%s" LIKE '%s%%'
+                        """.formatted(table, ENTRY_ID, STALE_ENTRY_ID_PREFIX));
+            }
+            statement.executeUpdate("DROP TABLE entry_id_mapping");
+        } catch (SQLException | IOException e) {
+            LOGGER.error("Could not reconcile the persisted index for library: {}", libraryName, e);
+            clearTables();
+            changedEntries = databaseContext.getDatabase().getEntries();
+        }
+
+        LOGGER.debug("Reused {} entries of the persisted index for library {} in {} ms, indexing {} changed entries",
+                databaseContext.getDatabase().getEntryCount() - changedEntries.size(), libraryName, System.currentTimeMillis() - startTime, changedEntries.size());
+        addToIndex(changedEntries, task);
+    }
+
+    private void clearTables() {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("""
+                    TRUNCATE %s, %s, %s
+                    """.formatted(schemaMainTableReference, schemaSplitValuesTableReference, schemaFingerprintTableReference));
+        } catch (SQLException e) {
+            LOGGER.error("Could not clear tables for library: {}", libraryName, e);
+        }
+    }
+
+    /**
+     * Computes a fingerprint of everything which affects the indexed values of all entries.
+     */
+    private String getLibraryFingerprint() {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putChar(keywordSeparator);
+        databaseContext.getDatabase().getStringValues().stream()
+                       .sorted(Comparator.comparing(BibtexString::getName))
+                       .forEach(string -> {
+                           putString(hasher, string.getName());
+                           putString(hasher, string.getContent());
+                       });
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Computes a fingerprint of the content of the entry. The content of the cross-referenced entry is included, because resolved values are indexed.
+     */
+    private String getFingerprint(BibEntry entry) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        putEntry(hasher, entry);
+        databaseContext.getDatabase().getReferencedEntry(entry).ifPresent(parent -> putEntry(hasher, parent));
+        return hasher.hash().toString();
+    }
+
+    private static void putEntry(Hasher hasher, BibEntry entry) {
+        putString(hasher, entry.getType().getName());
+        entry.getFieldMap().entrySet().stream()
+             .sorted(Map.Entry.comparingByKey(Comparator.comparing(Field::getName)))
+             .forEach(fieldPair -> {
+                 putString(hasher, fieldPair.getKey().getName());
+                 putString(hasher, fieldPair.getValue());
+             });
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
     }
 
     public void addToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
         if (entries.size() > 1) {
             task.showToUser(true);
             task.setTitle(Localization.lang("Indexing bib fields for %0", libraryName));
+            bulkAddToIndex(entries, task);
+            return;
         }
-        int i = 1;
+        for (BibEntry entry : entries) {
+            addToIndex(entry);
+        }
+    }
+
+    /**
+     * Streams the rows of all given entries into the main table and the split values table using PostgreSQL's <code>COPY</code>.
+     * The entries are sent in chunks of {@link #BULK_LOAD_CHUNK_SIZE}, and the progress of the task is updated once per chunk.
+     */
+    private void bulkAddToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
         long startTime = System.currentTimeMillis();
         LOGGER.debug("Adding {} entries to index", entries.size());
-        for (BibEntry entry : entries) {
+
+        CopyManager copyManager;
+        try {
+            copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        } catch (SQLException e) {
+            LOGGER.error("Could not obtain the COPY API of the Postgres connection", e);
+            return;
+        }
+
+        String copyIntoMainTable = getCopyQuery(schemaMainTableReference);
+        String copyIntoSplitTable = getCopyQuery(schemaSplitValuesTableReference);
+
+        String copyIntoFingerprintTable = """
+                COPY %s ("%s", "%s") FROM STDIN
+                """.formatted(schemaFingerprintTableReference, ENTRY_ID, FINGERPRINT);
+
+        StringBuilder mainTableRows = new StringBuilder();
+        StringBuilder splitValuesRows = new StringBuilder();
+        StringBuilder fingerprintRows = new StringBuilder();
+        RowSink mainTableSink = (entryId, field, value, normalized) -> appendCopyRow(mainTableRows, entryId, field, value, normalized);
+        RowSink splitValuesSink = (entryId, field, value, normalized) -> appendCopyRow(splitValuesRows, entryId, field, value, normalized);
+
+        int done = 0;
+        Iterator<BibEntry> iterator = entries.iterator();
+        while (iterator.hasNext()) {
             if (task.isCancelled()) {
                 LOGGER.debug("Indexing canceled");
                 return;
             }
-            addToIndex(entry);
-            task.updateProgress(i, entries.size());
-            task.updateMessage(Localization.lang("%0 of %1 entries added to the index.", i, entries.size()));
-            i++;
+            int chunkEnd = Math.min(done + BULK_LOAD_CHUNK_SIZE, entries.size());
+            while (done < chunkEnd && iterator.hasNext()) {
+                BibEntry entry = iterator.next();
+                addRows(entry, mainTableSink, splitValuesSink);
+                if (persistent) {
+                    appendCopyValue(fingerprintRows, entry.getId()).append('\t');
+                    appendCopyValue(fingerprintRows, getFingerprint(entry)).append('\n');
+                }
+                done++;
+            }
+            try {
+                copyManager.copyIn(copyIntoMainTable, new StringReader(mainTableRows.toString()));
+                copyManager.copyIn(copyIntoSplitTable, new StringReader(splitValuesRows.toString()));
+                if (persistent) {
+                    copyManager.copyIn(copyIntoFingerprintTable, new StringReader(fingerprintRows.toString()));
+                }
+            } catch (SQLException | IOException e) {
+                LOGGER.error("Could not add entries to the index.", e);
+            }
+            mainTableRows.setLength(0);
+            splitValuesRows.setLength(0);
+            fingerprintRows.setLength(0);
+
+            task.updateProgress(done, entries.size());
+            task.updateMessage(Localization.lang("%0 of %1 entries added to the index.", done, entries.size()));
         }
         LOGGER.debug("Added {} entries to index in {} ms", entries.size(), System.currentTimeMillis() - startTime);
     }
 
+    private static String getCopyQuery(String tableReference) {
+        return """
+                COPY %s ("%s", "%s", "%s", "%s") FROM STDIN
+                """.formatted(
+                tableReference,
+                ENTRY_ID,
+                FIELD_NAME,
+                FIELD_VALUE_LITERAL,
+                FIELD_VALUE_TRANSFORMED);
+    }
+
     private void addToIndex(BibEntry bibEntry) {
         String insertFieldQuery = """
                 INSERT INTO %s ("%s", "%s", "%s", "%s")
@@ -208,54 +568,83 @@ public class BibFieldsIndexer {
 
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery);
              PreparedStatement preparedStatementSplitValues = connection.prepareStatement(insertIntoSplitTable)) {
-            String entryId = bibEntry.getId();
-            for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
-                Field field = fieldPair.getKey();
-                String value = fieldPair.getValue();
-
-                // If a field exists, there also exists a resolved field latex free.
-                // We add a `.orElse("")` only because there could be some flaw in the future in the code - and we want to have search working even if the flaws are present.
-                // To uncover these flaws, we add the "assert" statement.
-                // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
-                // Skip indexing of date-related fields separately to ensure proper handling later in the process.
-                if (!DATE_FIELDS.contains(field)) {
-                    Optional<String> resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
-                    assert resolvedFieldLatexFree.isPresent();
-                    addBatch(preparedStatement, entryId, field, value, resolvedFieldLatexFree.orElse(""));
-                }
-                // region Handling of known multi-value fields
-                // split and convert to Unicode
-                if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                    addAuthors(value, preparedStatementSplitValues, entryId, field);
-                } else if (field == StandardField.KEYWORDS) {
-                    addKeywords(value, preparedStatementSplitValues, entryId, field, keywordSeparator);
-                } else if (field == StandardField.GROUPS) {
-                    addGroups(value, preparedStatementSplitValues, entryId, field);
-                } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                    addEntryLinks(bibEntry, field, preparedStatementSplitValues, entryId);
-                } else if (field == StandardField.FILE) {
-                    // No handling of File, because due to relative paths, we think, there won't be any exact match operation
-                    // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
-                    // The use case to search for file names seems pretty seldom, therefore we omit it.
-                } else {
-                    // No other multi-value fields are known
-                    // No action needed -> main table has the value
-                }
-                // endregion
-            }
-            // ensure all date-related fields are indexed.
-            for (Field dateField : DATE_FIELDS) {
-                Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
-                resolvedDateValue.ifPresent(dateValue -> addBatch(preparedStatement, entryId, dateField, dateValue));
-            }
-            // add entry type
-            addBatch(preparedStatement, entryId, TYPE_HEADER, bibEntry.getType().getName());
-
+            addRows(bibEntry, batchOf(preparedStatement), batchOf(preparedStatementSplitValues));
             preparedStatement.executeBatch();
             preparedStatementSplitValues.executeBatch();
         } catch (SQLException e) {
             LOGGER.error("Could not add an entry to the index.", e);
         }
+        updateFingerprint(bibEntry);
+    }
+
+    private void updateFingerprint(BibEntry entry) {
+        if (!persistent) {
+            return;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                INSERT INTO %s ("%s", "%s")
+                VALUES (?, ?)
+                ON CONFLICT ("%s")
+                DO UPDATE SET "%s" = EXCLUDED."%s"
+                """.formatted(
+                schemaFingerprintTableReference,
+                ENTRY_ID, FINGERPRINT,
+                ENTRY_ID,
+                FINGERPRINT, FINGERPRINT))) {
+            preparedStatement.setString(1, entry.getId());
+            preparedStatement.setString(2, getFingerprint(entry));
+            preparedStatement.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.error("Could not update the fingerprint of entry {}", entry.getId(), e);
+        }
+    }
+
+    /**
+     * Generates all rows of the given entry for the main table and the split values table.
+     */
+    private void addRows(BibEntry bibEntry, RowSink mainTable, RowSink splitValues) {
+        String entryId = bibEntry.getId();
+        for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
+            Field field = fieldPair.getKey();
+            String value = fieldPair.getValue();
+
+            // If a field exists, there also exists a resolved field latex free.
+            // We add a `.orElse("")` only because there could be some flaw in the future in the code - and we want to have search working even if the flaws are present.
+            // To uncover these flaws, we add the "assert" statement.
+            // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
+            // Skip indexing of date-related fields separately to ensure proper handling later in the process.
+            if (!DATE_FIELDS.contains(field)) {
+                Optional<String> resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
+                assert resolvedFieldLatexFree.isPresent();
+                mainTable.add(entryId, field, value, resolvedFieldLatexFree.orElse(""));
+            }
+            // region Handling of known multi-value fields
+            // split and convert to Unicode
+            if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
+                addAuthors(value, splitValues, entryId, field);
+            } else if (field == StandardField.KEYWORDS) {
+                addKeywords(value, splitValues, entryId, field, keywordSeparator);
+            } else if (field == StandardField.GROUPS) {
+                addGroups(value, splitValues, entryId, field);
+            } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
+                addEntryLinks(bibEntry, field, splitValues, entryId);
+            } else if (field == StandardField.FILE) {
+                // No handling of File, because due to relative paths, we think, there won't be any exact match operation
+                // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
+                // The use case to search for file names seems pretty seldom, therefore we omit it.
+            } else {
+                // No other multi-value fields are known
+                // No action needed -> main table has the value
+            }
+            // endregion
+        }
+        // ensure all date-related fields are indexed.
+        for (Field dateField : DATE_FIELDS) {
+            Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
+            resolvedDateValue.ifPresent(dateValue -> mainTable.add(entryId, dateField, dateValue));
+        }
+        // add entry type
+        mainTable.add(entryId, TYPE_HEADER, bibEntry.getType().getName());
     }
 
     public void removeFromIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
@@ -286,6 +675,12 @@ public class BibFieldsIndexer {
                     DELETE FROM %s
                     WHERE "%s" = '%s'
                     """.formatted(schemaSplitValuesTableReference, ENTRY_ID, entry.getId()));
+            if (persistent) {
+                connection.createStatement().executeUpdate("""
+                        DELETE FROM %s
+                        WHERE "%s" = '%s'
+                        """.formatted(schemaFingerprintTableReference, ENTRY_ID, entry.getId()));
+            }
             LOGGER.debug("Entry {} removed from index", entry.getId());
         } catch (SQLException e) {
             LOGGER.error("Error deleting entry from index", e);
@@ -296,6 +691,7 @@ public class BibFieldsIndexer {
         synchronized (entry.getId()) {
             removeField(entry, field);
             insertField(entry, field);
+            updateFingerprint(entry);
         }
     }
 
@@ -333,7 +729,7 @@ public class BibFieldsIndexer {
             try (PreparedStatement preparedStatement = connection.prepareStatement(insertDateFieldQuery)) {
                 for (Field dateField : DATE_FIELDS) {
                     Optional<String> resolvedDateValue = entry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
-                    resolvedDateValue.ifPresent(dateValue -> addBatch(preparedStatement, entryId, dateField, dateValue));
+                    resolvedDateValue.ifPresent(dateValue -> batchOf(preparedStatement).add(entryId, dateField, dateValue));
                 }
                 preparedStatement.executeBatch();
             } catch (SQLException e) {
@@ -345,7 +741,7 @@ public class BibFieldsIndexer {
 
                 Optional<String> resolvedFieldLatexFree = entry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
                 assert resolvedFieldLatexFree.isPresent();
-                addBatch(preparedStatement, entryId, field, value, resolvedFieldLatexFree.orElse(""));
+                batchOf(preparedStatement).add(entryId, field, value, resolvedFieldLatexFree.orElse(""));
                 preparedStatement.executeBatch();
             } catch (SQLException e) {
                 LOGGER.error("Could not add an entry to the index.", e);
@@ -364,15 +760,16 @@ public class BibFieldsIndexer {
 
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertIntoSplitTable)) {
             String value = entry.getField(field).orElse("");
+            RowSink splitValues = batchOf(preparedStatement);
 
             if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                addAuthors(value, preparedStatement, entryId, field);
+                addAuthors(value, splitValues, entryId, field);
             } else if (field == StandardField.KEYWORDS) {
-                addKeywords(value, preparedStatement, entryId, field, keywordSeparator);
+                addKeywords(value, splitValues, entryId, field, keywordSeparator);
             } else if (field == StandardField.GROUPS) {
-                addGroups(value, preparedStatement, entryId, field);
+                addGroups(value, splitValues, entryId, field);
             } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                addEntryLinks(entry, field, preparedStatement, entryId);
+                addEntryLinks(entry, field, splitValues, entryId);
             } else if (field == StandardField.FILE) {
                 // No handling of File, because due to relative paths, we think, there won't be any exact match operation
             }
@@ -409,6 +806,12 @@ public class BibFieldsIndexer {
     private void closeIndex() {
         try {
             LOGGER.debug("Closing connection to Postgres server for library: {}", libraryName);
+            if (persistent) {
+                // The tables are kept for the next session
+                markClean();
+                connection.close();
+                return;
+            }
             connection.createStatement().executeUpdate("""
                         DROP TABLE IF EXISTS %s
                         """.formatted(schemaMainTableReference));
@@ -425,39 +828,39 @@ public class BibFieldsIndexer {
         return mainTable;
     }
 
-    private void addEntryLinks(BibEntry bibEntry, Field field, PreparedStatement preparedStatementSplitValues, String entryId) {
+    private void addEntryLinks(BibEntry bibEntry, Field field, RowSink splitValues, String entryId) {
         bibEntry.getEntryLinkList(field, databaseContext.getDatabase()).stream()
             .distinct()
-            .forEach(link -> addBatch(preparedStatementSplitValues, entryId, field, link.getKey()));
+            .forEach(link -> splitValues.add(entryId, field, link.getKey()));
     }
 
-    private static void addGroups(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
+    private static void addGroups(String value, RowSink splitValues, String entryId, Field field) {
         // We could use KeywordList, but we are afraid that group names could have ">" in their name, and then they would not be handled correctly
         Arrays.stream(GROUPS_SEPARATOR_REGEX.split(value))
               .distinct()
-              .forEach(group -> addBatch(preparedStatementSplitValues, entryId, field, group));
+              .forEach(group -> splitValues.add(entryId, field, group));
     }
 
-    private static void addKeywords(String keywordsString, PreparedStatement preparedStatementSplitValues, String entryId, Field field, Character keywordSeparator) {
+    private static void addKeywords(String keywordsString, RowSink splitValues, String entryId, Field field, Character keywordSeparator) {
         KeywordList keywordList = KeywordList.parse(keywordsString, keywordSeparator);
         keywordList.stream().flatMap(keyword -> keyword.flatten().stream()).forEach(keyword -> {
             String value = keyword.toString();
-            addBatch(preparedStatementSplitValues, entryId, field, value);
+            splitValues.add(entryId, field, value);
         });
     }
 
-    private static void addAuthors(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
+    private static void addAuthors(String value, RowSink splitValues, String entryId, Field field) {
         AuthorList.parse(value).getAuthors().forEach(author -> {
             // Author object does not support literal values
             // We use the method giving us the most complete information for the literal value;
             String literal = author.getGivenFamily(false);
             String transformed = author.latexFree().getGivenFamily(false);
-            addBatch(preparedStatementSplitValues, entryId, field, literal, transformed);
+            splitValues.add(entryId, field, literal, transformed);
         });
     }
 
-    private static void addBatch(PreparedStatement preparedStatement, String entryId, Field field, String value) {
-        addBatch(preparedStatement, entryId, field, value, LATEX_TO_UNICODE_FORMATTER.format(value));
+    private static RowSink batchOf(PreparedStatement preparedStatement) {
+        return (entryId, field, value, normalized) -> addBatch(preparedStatement, entryId, field, value, normalized);
     }
 
     /**
@@ -474,4 +877,40 @@ public class BibFieldsIndexer {
             LOGGER.error("Could not add field {} having value {} of entry {} to the index.", field.getName(), value, entryId, e);
         }
     }
+
+    /**
+     * Appends one row in the text format of PostgreSQL's <code>COPY</code> (tab-separated columns, one row per line).
+     */
+    private static void appendCopyRow(StringBuilder rows, String entryId, Field field, String value, String normalized) {
+        appendCopyValue(rows, entryId).append('\t');
+        appendCopyValue(rows, field.getName()).append('\t');
+        appendCopyValue(rows, value).append('\t');
+        appendCopyValue(rows, normalized).append('\n');
+    }
+
+    private static StringBuilder appendCopyValue(StringBuilder rows, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> rows.append("\\\\");
+                case '\n' -> rows.append("\\n");
+                case '\r' -> rows.append("\\r");
+                case '\t' -> rows.append("\\t");
+                default -> rows.append(c);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Receives the rows generated for an entry, either to be added to a JDBC batch or to be streamed via <code>COPY</code>.
+     */
+    @FunctionalInterface
+    private interface RowSink {
+        void add(String entryId, Field field, String value, String normalized);
+
+        default void add(String entryId, Field field, String value) {
+            add(entryId, field, value, LATEX_TO_UNICODE_FORMATTER.format(value));
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package org.jabref.logic.search.query;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.jabref.model.search.query.SearchQuery;
@@ -18,6 +19,14 @@ public class SearchQueryConversion {
         return new SearchToSqlVisitor(table, searchQuery.getSearchFlags()).visit(searchQuery.getContext());
     }
 
+    /**
+     * Converts the search expression to SQL searching in the entries with the given ids only
+     */
+    public static SqlQueryNode searchToSql(String table, SearchQuery searchQuery, Collection<String> entryIds) {
+        LOGGER.debug("Converting search expression to SQL restricted to {} entries: {}", entryIds.size(), searchQuery.getSearchExpression());
+        return new SearchToSqlVisitor(table, searchQuery.getSearchFlags(), entryIds).visit(searchQuery.getContext());
+    }
+
     public static String flagsToSearchExpression(SearchQuery searchQuery) {
         LOGGER.debug("Converting search flags to search expression: {}, flags {}", searchQuery.getSearchExpression(), searchQuery.getSearchFlags());
         return new SearchFlagsToExpressionVisitor(searchQuery.getSearchFlags()).visit(searchQuery.getContext());
@@ -1,10 +1,12 @@
 package org.jabref.logic.search.query;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.search.indexing.BibFieldsIndexer;
@@ -41,13 +43,46 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
     private final EnumSet<SearchFlags> searchBarFlags;
     private final String mainTableName;
     private final String splitValuesTableName;
+    private final Optional<String> restrictedEntryIds;
     private final List<SqlQueryNode> nodes = new ArrayList<>();
     private int cteCounter = 0;
 
     public SearchToSqlVisitor(String table, EnumSet<SearchFlags> searchBarFlags) {
+        this(table, searchBarFlags, Optional.empty());
+    }
+
+    /**
+     * @param entryIds the ids of the entries to search in. Each scan of the tables is restricted to these, so that the indexes on the entry id can be used.
+     */
+    public SearchToSqlVisitor(String table, EnumSet<SearchFlags> searchBarFlags, Collection<String> entryIds) {
+        this(table, searchBarFlags, Optional.of(toArrayLiteral(entryIds)));
+    }
+
+    private SearchToSqlVisitor(String table, EnumSet<SearchFlags> searchBarFlags, Optional<String> restrictedEntryIds) {
         this.searchBarFlags = searchBarFlags;
         this.mainTableName = PostgreConstants.getMainTableSchemaReference(table);
         this.splitValuesTableName = PostgreConstants.getSplitTableSchemaReference(table);
+        this.restrictedEntryIds = restrictedEntryIds;
+    }
+
+    private static String toArrayLiteral(Collection<String> entryIds) {
+        return entryIds.stream()
+                       .map(id -> "\"" + id.replace("\\", "\\\\").replace("\"", "\\\"") + "\"")
+                       .collect(Collectors.joining(",", "{", "}"));
+    }
+
+    /**
+     * Restricts the scanned rows to the entries to search in, if any. The parameter of the restriction is added to the given parameters.
+     *
+     * @param entryIdColumn the (qualified) entry id column of the scanned table
+     * @return the condition to append to the <code>WHERE</code> clause of the scan
+     */
+    private String restrictEntries(String entryIdColumn, List<String> params) {
+        if (restrictedEntryIds.isEmpty()) {
+            return "";
+        }
+        params.add(restrictedEntryIds.get());
+        return " AND %s = ANY(?::text[])".formatted(entryIdColumn);
     }
 
     @Override
@@ -103,6 +138,7 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
     @Override
     public SqlQueryNode visitNegatedExpression(SearchParser.NegatedExpressionContext ctx) {
         SqlQueryNode subNode = visit(ctx.expression());
+        List<String> params = new ArrayList<>(subNode.params());
         String cte = """
                 cte%d AS (
                     SELECT %s.%s
@@ -110,7 +146,7 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                     WHERE %s.%s NOT IN (
                        SELECT %s
                        FROM %s
-                    )
+                    )%s
                 )
                 """.formatted(
                 cteCounter,
@@ -118,9 +154,10 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                 mainTableName, MAIN_TABLE,
                 MAIN_TABLE, ENTRY_ID,
                 ENTRY_ID,
-                subNode.cte());
+                subNode.cte(),
+                restrictEntries(MAIN_TABLE + "." + ENTRY_ID, params));
 
-        SqlQueryNode node = new SqlQueryNode(cte, subNode.params());
+        SqlQueryNode node = new SqlQueryNode(cte, params);
         nodes.add(node);
         return new SqlQueryNode("cte" + cteCounter++);
     }
@@ -262,26 +299,28 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
     }
 
     private SqlQueryNode buildEntryIdQuery(String entryId) {
+        List<String> params = new ArrayList<>(List.of(entryId));
         String cte = """
                 cte%d AS (
                     SELECT %s
                     FROM %s
-                    WHERE %s = ?
+                    WHERE %s = ?%s
                 )
-                """.formatted(cteCounter, ENTRY_ID, mainTableName, ENTRY_ID);
-        SqlQueryNode node = new SqlQueryNode(cte, List.of(entryId));
+                """.formatted(cteCounter, ENTRY_ID, mainTableName, ENTRY_ID, restrictEntries(ENTRY_ID.toString(), params));
+        SqlQueryNode node = new SqlQueryNode(cte, params);
         nodes.add(node);
         return new SqlQueryNode("cte" + cteCounter++);
     }
 
     private SqlQueryNode buildContainsAnyFieldQuery(String operator, String prefixSuffix, String term) {
+        List<String> params = new ArrayList<>(Collections.nCopies(2, prefixSuffix + term + prefixSuffix));
         String cte = """
                 cte%d AS (
                     SELECT %s.%s
                     FROM %s AS %s
                     WHERE (
                         (%s.%s != '%s') AND ((%s.%s %s ?) OR (%s.%s %s ?))
-                    )
+                    )%s
                 )
                 """.formatted(
                 cteCounter,
@@ -291,15 +330,18 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                 MAIN_TABLE, FIELD_VALUE_LITERAL,
                 operator,
                 MAIN_TABLE, FIELD_VALUE_TRANSFORMED,
-                operator);
+                operator,
+                restrictEntries(MAIN_TABLE + "." + ENTRY_ID, params));
 
-        List<String> params = Collections.nCopies(2, prefixSuffix + term + prefixSuffix);
         SqlQueryNode node = new SqlQueryNode(cte, params);
         nodes.add(node);
         return new SqlQueryNode("cte" + cteCounter++);
     }
 
     private SqlQueryNode buildContainsNegationAnyFieldQuery(String operator, String prefixSuffix, String term) {
+        List<String> params = new ArrayList<>(Collections.nCopies(2, prefixSuffix + term + prefixSuffix));
+        String innerRestriction = restrictEntries(INNER_TABLE + "." + ENTRY_ID, params);
+        String outerRestriction = restrictEntries(MAIN_TABLE + "." + ENTRY_ID, params);
         String cte = """
                 cte%d AS (
                     SELECT %s.%s
@@ -309,8 +351,8 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                         FROM %s AS %s
                         WHERE (
                             (%s.%s != '%s') AND ((%s.%s %s ?) OR (%s.%s %s ?))
-                        )
-                    )
+                        )%s
+                    )%s
                 )
                 """.formatted(
                 cteCounter,
@@ -323,15 +365,17 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                 INNER_TABLE, FIELD_VALUE_LITERAL,
                 operator,
                 INNER_TABLE, FIELD_VALUE_TRANSFORMED,
-                operator);
+                operator,
+                innerRestriction,
+                outerRestriction);
 
-        List<String> params = Collections.nCopies(2, prefixSuffix + term + prefixSuffix);
         SqlQueryNode node = new SqlQueryNode(cte, params);
         nodes.add(node);
         return new SqlQueryNode("cte" + cteCounter++);
     }
 
     private SqlQueryNode buildExactAnyFieldQuery(String operator, String term) {
+        List<String> params = new ArrayList<>(Collections.nCopies(4, term));
         String cte = """
                 cte%d AS (
                     SELECT %s.%s
@@ -345,7 +389,7 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                             OR
                             ((%s.%s %s ?) OR (%s.%s %s ?))
                         )
-                    )
+                    )%s
                 )
                 """.formatted(
                 cteCounter,
@@ -358,15 +402,18 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                 MAIN_TABLE, FIELD_VALUE_LITERAL, operator,
                 MAIN_TABLE, FIELD_VALUE_TRANSFORMED, operator,
                 SPLIT_TABLE, FIELD_VALUE_LITERAL, operator,
-                SPLIT_TABLE, FIELD_VALUE_TRANSFORMED, operator);
+                SPLIT_TABLE, FIELD_VALUE_TRANSFORMED, operator,
+                restrictEntries(MAIN_TABLE + "." + ENTRY_ID, params));
 
-        List<String> params = Collections.nCopies(4, term);
         SqlQueryNode node = new SqlQueryNode(cte, params);
         nodes.add(node);
         return new SqlQueryNode("cte" + cteCounter++);
     }
 
     private SqlQueryNode buildExactNegationAnyFieldQuery(String operator, String term) {
+        List<String> params = new ArrayList<>(Collections.nCopies(4, term));
+        String innerRestriction = restrictEntries(INNER_TABLE + "." + ENTRY_ID, params);
+        String outerRestriction = restrictEntries(MAIN_TABLE + "." + ENTRY_ID, params);
         String cte = """
                 cte%d AS (
                     SELECT %s.%s
@@ -383,8 +430,8 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                                 OR
                                 ((%s.%s %s ?) OR (%s.%s %s ?))
                             )
-                        )
-                    )
+                        )%s
+                    )%s
                 )
                 """.formatted(
                 cteCounter,
@@ -400,22 +447,24 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                 INNER_TABLE, FIELD_VALUE_LITERAL, operator,
                 INNER_TABLE, FIELD_VALUE_TRANSFORMED, operator,
                 SPLIT_TABLE, FIELD_VALUE_LITERAL, operator,
-                SPLIT_TABLE, FIELD_VALUE_TRANSFORMED, operator);
+                SPLIT_TABLE, FIELD_VALUE_TRANSFORMED, operator,
+                innerRestriction,
+                outerRestriction);
 
-        List<String> params = Collections.nCopies(4, term);
         SqlQueryNode node = new SqlQueryNode(cte, params);
         nodes.add(node);
         return new SqlQueryNode("cte" + cteCounter++);
     }
 
     private SqlQueryNode buildContainsFieldQuery(String field, String operator, String prefixSuffix, String term) {
+        List<String> params = new ArrayList<>(Collections.nCopies(2, prefixSuffix + term + prefixSuffix));
         String cte = """
                 cte%d AS (
                     SELECT %s.%s
                     FROM %s AS %s
                     WHERE (
                         (%s.%s = '%s') AND ((%s.%s %s ?) OR (%s.%s %s ?))
-                    )
+                    )%s
                 )
                 """.formatted(
                 cteCounter,
@@ -423,15 +472,18 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                 mainTableName, MAIN_TABLE,
                 MAIN_TABLE, FIELD_NAME, field,
                 MAIN_TABLE, FIELD_VALUE_LITERAL, operator,
-                MAIN_TABLE, FIELD_VALUE_TRANSFORMED, operator);
+                MAIN_TABLE, FIELD_VALUE_TRANSFORMED, operator,
+                restrictEntries(MAIN_TABLE + "." + ENTRY_ID, params));
 
-        List<String> params = Collections.nCopies(2, prefixSuffix + term + prefixSuffix);
         SqlQueryNode node = new SqlQueryNode(cte, params);
         nodes.add(node);
         return new SqlQueryNode("cte" + cteCounter++);
     }
 
     private SqlQueryNode buildContainsNegationFieldQuery(String field, String operator, String prefixSuffix, String term) {
+        List<String> params = new ArrayList<>(Collections.nCopies(2, prefixSuffix + term + prefixSuffix));
+        String innerRestriction = restrictEntries(INNER_TABLE + "." + ENTRY_ID, params);
+        String outerRestriction = restrictEntries(MAIN_TABLE + "." + ENTRY_ID, params);
         String cte = """
                 cte%d AS (
                     SELECT %s.%s
@@ -441,8 +493,8 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                         FROM %s AS %s
                         WHERE (
                             (%s.%s = '%s') AND ((%s.%s %s ?) OR (%s.%s %s ?))
-                        )
-                    )
+                        )%s
+                    )%s
                 )
                 """.formatted(
                 cteCounter,
@@ -455,15 +507,17 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                 INNER_TABLE, FIELD_VALUE_LITERAL,
                 operator,
                 INNER_TABLE, FIELD_VALUE_TRANSFORMED,
-                operator);
+                operator,
+                innerRestriction,
+                outerRestriction);
 
-        List<String> params = Collections.nCopies(2, prefixSuffix + term + prefixSuffix);
         SqlQueryNode node = new SqlQueryNode(cte, params);
         nodes.add(node);
         return new SqlQueryNode("cte" + cteCounter++);
     }
 
     private SqlQueryNode buildExactFieldQuery(String field, String operator, String term) {
+        List<String> params = new ArrayList<>(Collections.nCopies(4, term));
         String cte = """
                 cte%d AS (
                     SELECT %s.%s
@@ -474,7 +528,7 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                         ((%s.%s = '%s') AND ((%s.%s %s ?) OR (%s.%s %s ?)))
                         OR
                         ((%s.%s = '%s') AND ((%s.%s %s ?) OR (%s.%s %s ?)))
-                    )
+                    )%s
                 )
                 """.formatted(
                 cteCounter,
@@ -488,15 +542,18 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                 MAIN_TABLE, FIELD_VALUE_TRANSFORMED, operator,
                 SPLIT_TABLE, FIELD_NAME, field,
                 SPLIT_TABLE, FIELD_VALUE_LITERAL, operator,
-                SPLIT_TABLE, FIELD_VALUE_TRANSFORMED, operator);
+                SPLIT_TABLE, FIELD_VALUE_TRANSFORMED, operator,
+                restrictEntries(MAIN_TABLE + "." + ENTRY_ID, params));
 
-        List<String> params = Collections.nCopies(4, term);
         SqlQueryNode node = new SqlQueryNode(cte, params);
         nodes.add(node);
         return new SqlQueryNode("cte" + cteCounter++);
     }
 
     private SqlQueryNode buildExactNegationFieldQuery(String field, String operator, String term) {
+        List<String> params = new ArrayList<>(Collections.nCopies(4, term));
+        String innerRestriction = restrictEntries(INNER_TABLE + "." + ENTRY_ID, params);
+        String outerRestriction = restrictEntries(MAIN_TABLE + "." + ENTRY_ID, params);
         String cte = """
                 cte%d AS (
                     SELECT %s.%s
@@ -510,8 +567,8 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                             ((%s.%s = '%s') AND ((%s.%s %s ?) OR (%s.%s %s ?)))
                             OR
                             ((%s.%s = '%s') AND ((%s.%s %s ?) OR (%s.%s %s ?)))
-                        )
-                    )
+                        )%s
+                    )%s
                 )
                 """.formatted(
                 cteCounter,
@@ -528,9 +585,10 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                 INNER_TABLE, FIELD_VALUE_TRANSFORMED, operator,
                 SPLIT_TABLE, FIELD_NAME, field,
                 SPLIT_TABLE, FIELD_VALUE_LITERAL, operator,
-                SPLIT_TABLE, FIELD_VALUE_TRANSFORMED, operator);
+                SPLIT_TABLE, FIELD_VALUE_TRANSFORMED, operator,
+                innerRestriction,
+                outerRestriction);
 
-        List<String> params = Collections.nCopies(4, term);
         SqlQueryNode node = new SqlQueryNode(cte, params);
         nodes.add(node);
         return new SqlQueryNode("cte" + cteCounter++);
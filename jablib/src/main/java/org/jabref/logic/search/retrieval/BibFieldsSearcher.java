@@ -1,10 +1,11 @@
 package org.jabref.logic.search.retrieval;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 
+import org.jabref.logic.search.PostgreConnectionPool;
 import org.jabref.logic.search.query.SearchQueryConversion;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.search.query.SearchQuery;
@@ -15,48 +16,80 @@ import org.jabref.model.search.query.SqlQueryNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
-
 public class BibFieldsSearcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsSearcher.class);
 
-    private final Connection connection;
+    private final PostgreConnectionPool readerPool;
     private final String tableName;
 
-    public BibFieldsSearcher(Connection connection, String tableName) {
-        this.connection = connection;
+    /**
+     * @param readerPool the connections to run the searches on, so that concurrent searches do not wait for each other or for the indexer
+     */
+    public BibFieldsSearcher(PostgreConnectionPool readerPool, String tableName) {
+        this.readerPool = readerPool;
         this.tableName = tableName;
     }
 
-    public boolean isMatched(BibEntry entry, SearchQuery searchQuery) {
-        SearchQuery newSearchQuery = createBooleanQueryForEntry(entry, searchQuery);
-        return search(newSearchQuery).isMatched(entry);
-    }
-
-    private static SearchQuery createBooleanQueryForEntry(BibEntry entry, SearchQuery oldSearchQuery) {
-        String newSearchExpression = "( " + ENTRY_ID + "= " + entry.getId() + ") AND (" + oldSearchQuery.getSearchExpression() + " )";
-        return new SearchQuery(newSearchExpression, oldSearchQuery.getSearchFlags());
-    }
-
     public SearchResults search(SearchQuery searchQuery) {
         if (!searchQuery.isValid()) {
             return new SearchResults();
         }
         SqlQueryNode sqlQueryNode = SearchQueryConversion.searchToSql(tableName, searchQuery);
         SearchResults searchResults = new SearchResults();
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlQueryNode.cte())) {
-            for (int i = 0; i < sqlQueryNode.params().size(); i++) {
-                preparedStatement.setString(i + 1, sqlQueryNode.params().get(i));
-            }
-            LOGGER.debug("Executing search query: {}", preparedStatement);
-            ResultSet resultSet = preparedStatement.executeQuery();
+        try {
+            readerPool.withConnection(connection -> {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(sqlQueryNode.cte())) {
+                    setParameters(preparedStatement, sqlQueryNode);
+                    LOGGER.debug("Executing search query: {}", preparedStatement);
+                    collectResults(preparedStatement, searchResults);
+                }
+                return searchResults;
+            });
+        } catch (SQLException e) {
+            LOGGER.error("Error during bib fields search execution", e);
+        }
+        return searchResults;
+    }
+
+    /**
+     * Determines which of the given entries are matched by the search query.
+     * A single query is executed, in which each scan of the index is restricted to the ids of the entries.
+     *
+     * @return the search results containing the matched entries out of the given ones
+     */
+    public SearchResults search(SearchQuery searchQuery, Collection<BibEntry> entries) {
+        if (!searchQuery.isValid() || entries.isEmpty()) {
+            return new SearchResults();
+        }
+        SqlQueryNode sqlQueryNode = SearchQueryConversion.searchToSql(tableName, searchQuery, entries.stream().map(BibEntry::getId).toList());
+        SearchResults searchResults = new SearchResults();
+        try {
+            readerPool.withConnection(connection -> {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(sqlQueryNode.cte())) {
+                    setParameters(preparedStatement, sqlQueryNode);
+                    LOGGER.debug("Executing search query for {} entries: {}", entries.size(), preparedStatement);
+                    collectResults(preparedStatement, searchResults);
+                }
+                return searchResults;
+            });
+        } catch (SQLException e) {
+            LOGGER.error("Error during bib fields search execution", e);
+        }
+        return searchResults;
+    }
+
+    private static void setParameters(PreparedStatement preparedStatement, SqlQueryNode sqlQueryNode) throws SQLException {
+        for (int i = 0; i < sqlQueryNode.params().size(); i++) {
+            preparedStatement.setString(i + 1, sqlQueryNode.params().get(i));
+        }
+    }
+
+    private static void collectResults(PreparedStatement preparedStatement, SearchResults searchResults) throws SQLException {
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
             while (resultSet.next()) {
                 String entryId = resultSet.getString(1);
                 searchResults.addSearchResult(entryId, new SearchResult());
             }
-        } catch (SQLException e) {
-            LOGGER.error("Error during bib fields search execution", e);
         }
-        return searchResults;
     }
 }
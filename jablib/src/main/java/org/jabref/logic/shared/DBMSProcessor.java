@@ -18,6 +18,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.exception.OfflineLockException;
+import org.jabref.logic.shared.listener.LiveUpdateNotification;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.SharedBibEntryData;
 import org.jabref.model.entry.event.EntriesEventSource;
@@ -165,6 +166,10 @@ public abstract class DBMSProcessor {
         }
         insertIntoEntryTable(notYetExistingEntries);
         insertIntoFieldTable(notYetExistingEntries);
+        notifyClients(notYetExistingEntries.stream()
+                                           .map(BibEntry::getSharedBibEntryData)
+                                           .filter(data -> data.getSharedID() != -1)
+                                           .collect(Collectors.toMap(SharedBibEntryData::getSharedID, SharedBibEntryData::getVersion, (first, _) -> first)));
     }
 
     /**
@@ -298,6 +303,8 @@ public abstract class DBMSProcessor {
      */
     public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
         connection.setAutoCommit(false); // disable auto commit due to transaction
+        // notifications are sent after the transaction only
+        Map<Integer, Integer> committedChanges = Map.of();
 
         try {
             Optional<BibEntry> sharedEntryOptional = getSharedEntry(localBibEntry.getSharedBibEntryData().getSharedID());
@@ -336,6 +343,7 @@ public abstract class DBMSProcessor {
                 }
 
                 connection.commit(); // apply all changes in current transaction
+                committedChanges = Map.of(localBibEntry.getSharedBibEntryData().getSharedID(), sharedBibEntry.getSharedBibEntryData().getVersion() + 1);
             } else {
                 throw new OfflineLockException(localBibEntry, sharedBibEntry);
             }
@@ -345,6 +353,7 @@ public abstract class DBMSProcessor {
         } finally {
             connection.setAutoCommit(true); // enable auto commit mode again
         }
+        notifyClients(committedChanges);
     }
 
     /**
@@ -466,7 +475,10 @@ public abstract class DBMSProcessor {
             preparedStatement.executeUpdate();
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
+            return;
         }
+        notifyClients(bibEntries.stream()
+                                .collect(Collectors.toMap(entry -> entry.getSharedBibEntryData().getSharedID(), _ -> LiveUpdateNotification.REMOVED, (first, _) -> first)));
     }
 
     /**
@@ -691,4 +703,15 @@ public abstract class DBMSProcessor {
     public void notifyClients() {
         // nothing to do
     }
+
+    /**
+     * Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS about changed entries, so
+     * that they can fetch these entries only. Needs to be implemented if LiveUpdate is supported by the DBMS
+     *
+     * @param changedSharedIDVersions the shared ids of the changed entries mapped to their new versions, see {@link LiveUpdateNotification}.
+     *                                Nothing is sent if empty.
+     */
+    public void notifyClients(@SuppressWarnings("unused") Map<Integer, Integer> changedSharedIDVersions) {
+        // nothing to do
+    }
 }
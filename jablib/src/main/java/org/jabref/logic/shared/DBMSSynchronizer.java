@@ -3,6 +3,7 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -20,6 +21,7 @@ import org.jabref.logic.shared.event.ConnectionLostEvent;
 import org.jabref.logic.shared.event.SharedEntriesNotPresentEvent;
 import org.jabref.logic.shared.event.UpdateRefusedEvent;
 import org.jabref.logic.shared.exception.OfflineLockException;
+import org.jabref.logic.shared.listener.LiveUpdateNotification;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.EntriesAddedEvent;
@@ -28,6 +30,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -180,46 +183,89 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
-        List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
-        // compare versions and update local entry if needed
-        for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
-                }
+
+        synchronizeLocalEntries(idVersionMap);
+    }
+
+    /**
+     * Synchronizes the given entries of the shared database only. Used when being notified about changes of these entries.
+     *
+     * @param sharedIDVersions the shared ids of the changed entries mapped to their new versions, see {@link LiveUpdateNotification}
+     */
+    private void synchronizeLocalDatabase(Map<Integer, Integer> sharedIDVersions) {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+
+        Map<Integer, Integer> changedSharedIDVersions = new HashMap<>(sharedIDVersions);
+        changedSharedIDVersions.values().removeIf(version -> version == LiveUpdateNotification.REMOVED);
+        List<BibEntry> entriesToRemove = bibDatabase.getEntries().stream()
+                                                    .filter(localEntry -> Objects.equals(sharedIDVersions.get(localEntry.getSharedBibEntryData().getSharedID()), LiveUpdateNotification.REMOVED))
+                                                    .toList();
+        removeLocalEntries(entriesToRemove);
+
+        synchronizeLocalEntries(changedSharedIDVersions);
+    }
+
+    /**
+     * Updates or inserts the local entries which are outdated according to the given versions
+     *
+     * @param idVersionMap the shared ids mapped to their current versions on the shared database
+     */
+    private void synchronizeLocalEntries(Map<Integer, Integer> idVersionMap) {
+        List<BibEntry> localEntries = bibDatabase.getEntries();
+        Map<Integer, BibEntry> localEntriesBySharedID = new HashMap<>(localEntries.size());
+        for (BibEntry localEntry : localEntries) {
+            localEntriesBySharedID.put(localEntry.getSharedBibEntryData().getSharedID(), localEntry);
+        }
+
+        // compare versions to determine the entries to be updated or inserted locally
+        List<Integer> sharedIDsToFetch = new ArrayList<>();
+        idVersionMap.forEach((sharedID, version) -> {
+            BibEntry localEntry = localEntriesBySharedID.get(sharedID);
+            if ((localEntry == null) || (version > localEntry.getSharedBibEntryData().getVersion())) {
+                sharedIDsToFetch.add(sharedID);
             }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
-                entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+        });
+        if (sharedIDsToFetch.isEmpty()) {
+            return;
+        }
+
+        // all changed entries are fetched at once instead of querying each entry on its own
+        List<BibEntry> entriesToInsertIntoLocalDatabase = new ArrayList<>();
+        for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(sharedIDsToFetch)) {
+            BibEntry localEntry = localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID());
+            if (localEntry == null) {
+                entriesToInsertIntoLocalDatabase.add(sharedEntry);
+            } else {
+                updateLocalEntry(localEntry, sharedEntry);
             }
         }
 
         if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
             // in case entries should be added into the local database, insert them
-            bibDatabase.insertEntries(dbmsProcessor.partitionAndGetSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
+            bibDatabase.insertEntries(entriesToInsertIntoLocalDatabase, EntriesEventSource.SHARED);
         }
     }
 
+    /**
+     * Copies type, version, and fields of the shared entry to the local entry.
+     * Events are posted for changed fields only, because setting an unchanged value does not post any event.
+     */
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData().setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+
+        Map<Field, String> sharedFields = sharedEntry.getFieldMap();
+        // locally remove not existing fields
+        List<Field> fieldsToClear = localEntry.getFields().stream()
+                                              .filter(field -> !sharedFields.containsKey(field))
+                                              .toList();
+        fieldsToClear.forEach(field -> localEntry.clearField(field, EntriesEventSource.SHARED));
+        // copy remote values to local entry
+        sharedFields.forEach((field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED));
+    }
+
     /**
      * Removes all local entries which are not present on shared database.
      *
@@ -231,6 +277,10 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
                 localEntries.stream()
                             .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
                             .collect(Collectors.toList());
+        removeLocalEntries(entriesToRemove);
+    }
+
+    private void removeLocalEntries(List<BibEntry> entriesToRemove) {
         if (!entriesToRemove.isEmpty()) {
             eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
             // remove all non-shared entries without triggering listeners
@@ -323,6 +373,19 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         synchronizeLocalMetaData();
     }
 
+    /**
+     * Synchronizes the given changed BibEntries. Other changes of the shared database are not pulled.
+     *
+     * @param changedSharedIDVersions the shared ids of the changed entries mapped to their new versions, see {@link LiveUpdateNotification}
+     */
+    public void pullChanges(Map<Integer, Integer> changedSharedIDVersions) {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+        pullWithLastEntry();
+        synchronizeLocalDatabase(changedSharedIDVersions);
+    }
+
     /**
      * Synchronizes local BibEntries only if last entry changes still remain
      */
@@ -401,7 +464,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     }
 
     private boolean isPresentLocalBibEntry(BibEntry bibEntry) {
-        return bibDatabase.getEntries().contains(bibEntry);
+        return bibDatabase.getEntryById(bibEntry.getId()) == bibEntry;
     }
 
     @Override
@@ -1,5 +1,6 @@
 package org.jabref.logic.shared;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -7,18 +8,21 @@ import java.sql.Statement;
 import java.util.List;
 import java.util.Map;
 
+import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
+import org.jabref.logic.shared.listener.LiveUpdateNotification;
 import org.jabref.logic.shared.listener.PostgresSQLNotificationListener;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.metadata.MetaData;
 
-import org.postgresql.PGConnection;
-
 /**
  * Processes all incoming or outgoing bib data to PostgreSQL database and manages its structure.
  */
 public class PostgreSQLProcessor extends DBMSProcessor {
 
+    // LISTEN folds unquoted channel names to lower case, whereas pg_notify takes the name as is
+    private static final String NOTIFICATION_CHANNEL = "jabrefliveupdate";
+
     private PostgresSQLNotificationListener listener;
 
     private int VERSION_DB_STRUCT_DEFAULT = -1;
@@ -143,13 +147,14 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         // Disable cleanup output of ThreadedHousekeeper
         // Logger.getLogger(ThreadedHousekeeper.class.getName()).setLevel(Level.SEVERE);
         try {
-            connection.createStatement().execute("LISTEN jabrefLiveUpdate");
+            // The listener blocks its connection while waiting for notifications. Thus, it gets a connection of its own.
+            Connection listenerConnection = new DBMSConnection((DBMSConnectionProperties) connectionProperties).getConnection();
+            listenerConnection.createStatement().execute("LISTEN " + NOTIFICATION_CHANNEL);
             // Do not use `new PostgresSQLNotificationListener(...)` as the object has to exist continuously!
             // Otherwise, the listener is going to be deleted by Java's garbage collector.
-            PGConnection pgConnection = connection.unwrap(PGConnection.class);
-            listener = new PostgresSQLNotificationListener(dbmsSynchronizer, pgConnection);
+            listener = new PostgresSQLNotificationListener(dbmsSynchronizer, listenerConnection);
             HeadlessExecutorService.INSTANCE.execute(listener);
-        } catch (SQLException e) {
+        } catch (SQLException | InvalidDBMSConnectionPropertiesException e) {
             LOGGER.error("SQL Error during starting the notification listener", e);
         }
     }
@@ -157,7 +162,10 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     @Override
     public void stopNotificationListener() {
         try {
-            listener.stop();
+            if (listener != null) {
+                // The listener closes its connection on its own
+                listener.stop();
+            }
             connection.close();
         } catch (SQLException e) {
             LOGGER.error("SQL Error during stopping the notification listener", e);
@@ -166,8 +174,23 @@ public class PostgreSQLProcessor extends DBMSProcessor {
 
     @Override
     public void notifyClients() {
-        try {
-            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+        notify(List.of(PROCESSOR_ID));
+    }
+
+    @Override
+    public void notifyClients(Map<Integer, Integer> changedSharedIDVersions) {
+        if (!changedSharedIDVersions.isEmpty()) {
+            notify(LiveUpdateNotification.serialize(PROCESSOR_ID, changedSharedIDVersions));
+        }
+    }
+
+    private void notify(List<String> payloads) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            for (String payload : payloads) {
+                preparedStatement.setString(1, NOTIFICATION_CHANNEL);
+                preparedStatement.setString(2, payload);
+                preparedStatement.execute();
+            }
         } catch (SQLException e) {
             LOGGER.error("SQL Error during client notification", e);
         }
@@ -0,0 +1,96 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.Iterables;
+
+/**
+ * Payload of a live update notification sent to all clients connected to a shared database.
+ * <p>
+ * The payload consists of the id of the sending processor, optionally followed by the shared ids of the changed
+ * entries and their new versions: <code>processorID;sharedID:version,sharedID:version</code>.
+ * Removed entries are sent with version {@link #REMOVED}.
+ * A notification without entries requests a complete synchronization (e.g., after a change of the metadata).
+ *
+ * @param sharedIDVersions the changed entries. Empty if a complete synchronization is required.
+ */
+public record LiveUpdateNotification(String processorID, Map<Integer, Integer> sharedIDVersions) {
+
+    public static final int REMOVED = -1;
+
+    // PostgreSQL limits the payload to 8000 bytes. An entry takes at most 23 characters.
+    private static final int MAXIMUM_ENTRIES_PER_NOTIFICATION = 250;
+
+    private static final String PROCESSOR_SEPARATOR = ";";
+    private static final String ENTRY_SEPARATOR = ",";
+    private static final String VERSION_SEPARATOR = ":";
+
+    public LiveUpdateNotification(String processorID) {
+        this(processorID, Map.of());
+    }
+
+    public boolean requiresCompleteSynchronization() {
+        return sharedIDVersions.isEmpty();
+    }
+
+    /**
+     * Splits the given changes into payloads not exceeding the limits of the database
+     */
+    public static List<String> serialize(String processorID, Map<Integer, Integer> sharedIDVersions) {
+        if (sharedIDVersions.isEmpty()) {
+            return List.of(processorID);
+        }
+        List<String> payloads = new ArrayList<>();
+        for (List<Map.Entry<Integer, Integer>> partition : Iterables.partition(sharedIDVersions.entrySet(), MAXIMUM_ENTRIES_PER_NOTIFICATION)) {
+            payloads.add(processorID + PROCESSOR_SEPARATOR + partition.stream()
+                                                                      .map(entry -> entry.getKey() + VERSION_SEPARATOR + entry.getValue())
+                                                                      .collect(Collectors.joining(ENTRY_SEPARATOR)));
+        }
+        return payloads;
+    }
+
+    /**
+     * @return empty if the payload is malformed
+     */
+    public static Optional<LiveUpdateNotification> parse(String payload) {
+        if (payload == null) {
+            return Optional.empty();
+        }
+        int processorEnd = payload.indexOf(PROCESSOR_SEPARATOR);
+        if (processorEnd < 0) {
+            return Optional.of(new LiveUpdateNotification(payload));
+        }
+
+        Map<Integer, Integer> sharedIDVersions = new LinkedHashMap<>();
+        try {
+            for (String entry : payload.substring(processorEnd + 1).split(ENTRY_SEPARATOR)) {
+                String[] idAndVersion = entry.split(VERSION_SEPARATOR);
+                if (idAndVersion.length != 2) {
+                    return Optional.empty();
+                }
+                sharedIDVersions.put(Integer.parseInt(idAndVersion[0]), Integer.parseInt(idAndVersion[1]));
+            }
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        return Optional.of(new LiveUpdateNotification(payload.substring(0, processorEnd), sharedIDVersions));
+    }
+
+    /**
+     * Merges the changes of the given notifications. The highest version of an entry wins, a removal wins over all versions.
+     */
+    public static Map<Integer, Integer> mergeChanges(List<LiveUpdateNotification> notifications) {
+        Map<Integer, Integer> merged = new HashMap<>();
+        for (LiveUpdateNotification notification : notifications) {
+            notification.sharedIDVersions().forEach((sharedID, version) -> merged.merge(sharedID, version,
+                    (first, second) -> (first == REMOVED) || (second == REMOVED) ? REMOVED : Math.max(first, second)));
+        }
+        return merged;
+    }
+}
@@ -1,6 +1,10 @@
 package org.jabref.logic.shared.listener;
 
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
@@ -12,41 +16,76 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A listener for PostgreSQL database notifications.
+ * <p>
+ * The listener blocks in the driver until notifications arrive. As the driver holds the lock of the connection while
+ * waiting, the listener needs a connection of its own. The connection is closed by the listener when it is stopped.
  */
 public class PostgresSQLNotificationListener implements Runnable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSQLNotificationListener.class);
 
+    // Only used to check regularly whether the listener was stopped. Notifications are delivered immediately.
+    private static final int NOTIFICATION_TIMEOUT_MILLIS = 10_000;
+
     private final DBMSSynchronizer dbmsSynchronizer;
+    private final Connection connection;
     private final PGConnection pgConnection;
     private volatile boolean stop;
 
-    public PostgresSQLNotificationListener(DBMSSynchronizer dbmsSynchronizer, PGConnection pgConnection) {
+    public PostgresSQLNotificationListener(DBMSSynchronizer dbmsSynchronizer, Connection connection) throws SQLException {
         this.dbmsSynchronizer = dbmsSynchronizer;
-        this.pgConnection = pgConnection;
+        this.connection = connection;
+        this.pgConnection = connection.unwrap(PGConnection.class);
     }
 
     @Override
     public void run() {
         stop = false;
         try {
-            // noinspection InfiniteLoopStatement
             while (!stop) {
-                PGNotification[] notifications = pgConnection.getNotifications();
-
-                if (notifications != null) {
-                    for (PGNotification notification : notifications) {
-                        if (!DBMSProcessor.PROCESSOR_ID.equals(notification.getName())) {
-                            dbmsSynchronizer.pullChanges();
-                        }
-                    }
+                PGNotification[] notifications = pgConnection.getNotifications(NOTIFICATION_TIMEOUT_MILLIS);
+                if ((notifications != null) && !stop) {
+                    handleNotifications(notifications);
                 }
+            }
+        } catch (SQLException exception) {
+            if (!stop) {
+                LOGGER.error("Error while listening for updates to PostgresSQL", exception);
+            }
+        } finally {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.error("Could not close the connection of the notification listener", e);
+            }
+        }
+    }
 
-                // Wait a while before checking again for new notifications
-                Thread.sleep(500);
+    private void handleNotifications(PGNotification[] notifications) {
+        List<LiveUpdateNotification> changes = new ArrayList<>();
+        boolean requiresCompleteSynchronization = false;
+        for (PGNotification notification : notifications) {
+            Optional<LiveUpdateNotification> liveUpdate = LiveUpdateNotification.parse(notification.getParameter());
+            if (liveUpdate.isEmpty()) {
+                LOGGER.warn("Unknown notification payload {}", notification.getParameter());
+                requiresCompleteSynchronization = true;
+                continue;
+            }
+            if (DBMSProcessor.PROCESSOR_ID.equals(liveUpdate.get().processorID())) {
+                // Changes made by this JabRef instance are already present locally
+                continue;
+            }
+            if (liveUpdate.get().requiresCompleteSynchronization()) {
+                requiresCompleteSynchronization = true;
+            } else {
+                changes.add(liveUpdate.get());
             }
-        } catch (SQLException | InterruptedException exception) {
-            LOGGER.error("Error while listening for updates to PostgresSQL", exception);
+        }
+
+        if (requiresCompleteSynchronization) {
+            dbmsSynchronizer.pullChanges();
+        } else if (!changes.isEmpty()) {
+            dbmsSynchronizer.pullChanges(LiveUpdateNotification.mergeChanges(changes));
         }
     }
 
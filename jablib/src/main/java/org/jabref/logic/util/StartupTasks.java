@@ -0,0 +1,115 @@
+package org.jabref.logic.util;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.jabref.architecture.AllowedToUseStandardStreams;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the phases of the startup of JabRef and measures their wall-clock time.
+ * <p>
+ * Phases are either run on the current thread ({@link #run(String, Supplier)}) or started on a background thread as soon as the phases they depend on are done ({@link #start(String, Supplier, CompletableFuture[])}).
+ * Thereby, the startup forms a graph of phases running concurrently.
+ * Services loading in the background on their own (e.g., {@link org.jabref.logic.search.PostgreServer}) are given an {@link #executor(String) executor} of a phase.
+ * <p>
+ * If profiling is enabled, the time of each phase is printed as soon as the phase is done.
+ */
+@AllowedToUseStandardStreams("The startup profile is printed to the console, independent of the log level, when requested on the command line")
+public class StartupTasks {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupTasks.class);
+
+    private final boolean profile;
+    private final Executor executor;
+    private final long startTime = System.nanoTime();
+
+    public StartupTasks(boolean profile) {
+        this(profile, HeadlessExecutorService.INSTANCE);
+    }
+
+    public StartupTasks(boolean profile, Executor executor) {
+        this.profile = profile;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * Runs the phase on the current thread
+     */
+    public void run(String phase, Runnable task) {
+        long phaseStartTime = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            report(phase, phaseStartTime);
+        }
+    }
+
+    /**
+     * Runs the phase on the current thread
+     *
+     * @return the result of the phase
+     */
+    public <T> T run(String phase, Supplier<T> task) {
+        long phaseStartTime = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            report(phase, phaseStartTime);
+        }
+    }
+
+    /**
+     * Starts the phase on a background thread as soon as all given phases are done.
+     * If one of the given phases fails, the phase is not run.
+     */
+    public CompletableFuture<Void> start(String phase, Runnable task, CompletableFuture<?>... dependencies) {
+        return CompletableFuture.allOf(dependencies)
+                                .thenRunAsync(() -> run(phase, task), executor)
+                                .whenComplete((_, exception) -> logFailure(phase, exception));
+    }
+
+    /**
+     * Starts the phase on a background thread as soon as all given phases are done.
+     * If one of the given phases fails, the phase is not run.
+     *
+     * @return the future result of the phase
+     */
+    public <T> CompletableFuture<T> start(String phase, Supplier<T> task, CompletableFuture<?>... dependencies) {
+        return CompletableFuture.allOf(dependencies)
+                                .thenApplyAsync(_ -> run(phase, task), executor)
+                                .whenComplete((_, exception) -> logFailure(phase, exception));
+    }
+
+    /**
+     * Returns an executor running each task as the given phase on a background thread
+     */
+    public Executor executor(String phase) {
+        return task -> executor.execute(() -> run(phase, task));
+    }
+
+    private void report(String phase, long phaseStartTime) {
+        long endTime = System.nanoTime();
+        long duration = TimeUnit.NANOSECONDS.toMillis(endTime - phaseStartTime);
+        LOGGER.debug("Startup phase '{}' took {} ms", phase, duration);
+        if (profile) {
+            System.out.printf("%-40s %6d ms (from %6d ms to %6d ms, %s)%n",
+                    phase,
+                    duration,
+                    TimeUnit.NANOSECONDS.toMillis(phaseStartTime - startTime),
+                    TimeUnit.NANOSECONDS.toMillis(endTime - startTime),
+                    Thread.currentThread().getName());
+        }
+    }
+
+    private static void logFailure(String phase, Throwable exception) {
+        if (exception != null) {
+            LOGGER.error("Startup phase '{}' failed", phase, exception);
+        }
+    }
+}
@@ -1,21 +1,15 @@
 package org.jabref.logic.util.io;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.FileVisitOption;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
-import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
-import java.util.function.BiPredicate;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Predicate;
 
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.model.entry.BibEntry;
@@ -39,6 +33,19 @@ class CitationKeyBasedFileFinder implements FileFinder {
         Objects.requireNonNull(directories);
         Objects.requireNonNull(entry);
 
+        if (StringUtil.isBlank(entry.getCitationKey())) {
+            LOGGER.debug("No citation key found in entry {}", entry);
+            return List.of();
+        }
+        return findAssociatedFiles(entry, new FileDirectoryIndex(directories), extensions);
+    }
+
+    @Override
+    public List<Path> findAssociatedFiles(BibEntry entry, FileDirectoryIndex index, List<String> extensions) {
+        Objects.requireNonNull(index);
+        Objects.requireNonNull(entry);
+        Objects.requireNonNull(extensions, "Extensions must not be null!");
+
         Optional<String> citeKeyOptional = entry.getCitationKey();
         if (StringUtil.isBlank(citeKeyOptional)) {
             LOGGER.debug("No citation key found in entry {}", entry);
@@ -46,18 +53,22 @@ class CitationKeyBasedFileFinder implements FileFinder {
         }
         String citeKey = citeKeyOptional.get();
 
-        Function<Path, Boolean> filteringFunction;
-
+        Predicate<Path> filteringFunction;
         if (exactKeyOnly) {
-            // LOGGER.debug("Found exact match for key {} in file {}", citeKey, file);
-            filteringFunction = (Path p) -> FileUtil.getBaseName(p.getFileName().toString()).equals(citeKey);
+            filteringFunction = path -> FileUtil.getBaseName(path.getFileName().toString()).equals(citeKey);
         } else {
-            // LOGGER.debug("Found non-exact match for key {} in file {}", citeKey, file);
-            filteringFunction = (Path p) -> matches(p.getFileName().toString(), citeKey);
+            filteringFunction = path -> matches(path.getFileName().toString(), citeKey);
         }
 
-        SortedSet<Path> result = findFilesByExtension(directories, extensions, filteringFunction);
-
+        // All matching files start with the key or the key cleaned for use in file names
+        Set<String> prefixes = new LinkedHashSet<>(List.of(citeKey, FileNameCleaner.cleanFileName(citeKey)));
+        SortedSet<Path> result = new TreeSet<>();
+        for (String prefix : prefixes) {
+            index.getFilesStartingWith(prefix).stream()
+                 .filter(path -> extensions.contains(FileUtil.getFileExtension(path).orElse("")))
+                 .filter(filteringFunction)
+                 .forEach(result::add);
+        }
         return result.stream().toList();
     }
 
@@ -71,26 +82,4 @@ class CitationKeyBasedFileFinder implements FileFinder {
         }
         return false;
     }
-
-    /**
-     * Returns a list of all files in the given directories which have one of the given extension.
-     */
-    private SortedSet<Path> findFilesByExtension(List<Path> directories, Collection<String> extensions, Function<Path, Boolean> filteringFunction) throws IOException {
-        Objects.requireNonNull(extensions, "Extensions must not be null!");
-
-        BiPredicate<Path, BasicFileAttributes> isFileWithCorrectExtension = (path, attributes) -> !Files.isDirectory(path)
-                && extensions.contains(FileUtil.getFileExtension(path).orElse("")) && filteringFunction.apply(path);
-
-        SortedSet<Path> result = new TreeSet<>();
-        for (Path directory : directories) {
-            if (Files.exists(directory)) {
-                try (Stream<Path> pathStream = Files.find(directory, Integer.MAX_VALUE, isFileWithCorrectExtension, FileVisitOption.FOLLOW_LINKS)) {
-                    result.addAll(pathStream.collect(Collectors.toSet()));
-                } catch (UncheckedIOException e) {
-                    throw new IOException("Problem in finding files", e);
-                }
-            }
-        }
-        return result;
-    }
 }
@@ -0,0 +1,119 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Snapshot of the files contained in directories, including all subdirectories.
+ * <p>
+ * The directories are walked once when creating the index. Afterwards, the files can be looked up by the start of their name and the directories can be listed without accessing the file system.
+ * Thus, finding the files of many entries (see {@link FileFinder#findAssociatedFiles(org.jabref.model.entry.BibEntry, FileDirectoryIndex, List)}) does not walk the directories for each entry.
+ * Changes of the file system after the creation are not reflected.
+ */
+public class FileDirectoryIndex {
+
+    private final List<Path> directories;
+
+    // The direct children (files and directories) of each directory, in the order of the walk
+    private final Map<Path, List<Path>> childrenByDirectory = new HashMap<>();
+
+    // The files (not directories) by their name
+    private final NavigableMap<String, List<Path>> filesByName = new TreeMap<>();
+
+    /**
+     * Walks the given directories. Directories which do not exist are skipped. Symbolic links are followed.
+     */
+    public FileDirectoryIndex(List<Path> directories) throws IOException {
+        this.directories = List.copyOf(directories);
+        for (Path directory : directories) {
+            if (Files.exists(directory) && !childrenByDirectory.containsKey(directory)) {
+                Files.walkFileTree(directory, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new IndexingVisitor(directory));
+            }
+        }
+    }
+
+    public List<Path> getDirectories() {
+        return directories;
+    }
+
+    /**
+     * Returns the files (not directories) whose name starts with the given prefix, sorted by name
+     */
+    public List<Path> getFilesStartingWith(String prefix) {
+        List<Path> files = new ArrayList<>();
+        for (Map.Entry<String, List<Path>> filesWithName : filesByName.tailMap(prefix, true).entrySet()) {
+            if (!filesWithName.getKey().startsWith(prefix)) {
+                break;
+            }
+            files.addAll(filesWithName.getValue());
+        }
+        return files;
+    }
+
+    /**
+     * Returns the direct children (files and directories) of the given directory
+     *
+     * @return empty if the directory is not contained in the index
+     */
+    public Optional<List<Path>> getChildren(Path directory) {
+        return Optional.ofNullable(childrenByDirectory.get(directory));
+    }
+
+    /**
+     * Returns whether the given path is a directory contained in the index
+     */
+    public boolean isDirectory(Path path) {
+        return childrenByDirectory.containsKey(path);
+    }
+
+    private class IndexingVisitor extends SimpleFileVisitor<Path> {
+
+        private final Path root;
+
+        IndexingVisitor(Path root) {
+            this.root = root;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+            if (!directory.equals(root)) {
+                addChild(directory);
+            }
+            if (childrenByDirectory.containsKey(directory)) {
+                // Already indexed as part of another directory
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+            childrenByDirectory.put(directory, new ArrayList<>());
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+            addChild(file);
+            if (!attributes.isDirectory()) {
+                filesByName.computeIfAbsent(file.getFileName().toString(), _ -> new ArrayList<>()).add(file);
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        private void addChild(Path path) {
+            List<Path> siblings = childrenByDirectory.get(path.getParent());
+            if (siblings != null) {
+                siblings.add(path);
+            }
+        }
+    }
+}
@@ -16,4 +16,14 @@ public interface FileFinder {
      * @param extensions  The extensions that are acceptable.
      */
     List<Path> findAssociatedFiles(BibEntry entry, List<Path> directories, List<String> extensions) throws IOException;
+
+    /**
+     * Finds all files in the indexed directories that are probably associated with the given entry and have one of the passed extensions.
+     * To be used for finding the files of many entries, because the directories are not walked again for each entry.
+     *
+     * @param entry      The entry to search files for.
+     * @param index      The index of the root directories to search.
+     * @param extensions The extensions that are acceptable.
+     */
+    List<Path> findAssociatedFiles(BibEntry entry, FileDirectoryIndex index, List<String> extensions) throws IOException;
 }
@@ -8,7 +8,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -21,6 +23,8 @@ import org.jabref.logic.citationkeypattern.BracketedPattern;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.strings.StringUtil;
 
+import org.jspecify.annotations.Nullable;
+
 class RegExpBasedFileFinder implements FileFinder {
 
     private static final String EXT_MARKER = "__EXTENSION__";
@@ -88,7 +92,17 @@ class RegExpBasedFileFinder implements FileFinder {
     @Override
     public List<Path> findAssociatedFiles(BibEntry entry, List<Path> directories, List<String> extensions) throws IOException {
         String extensionRegExp = '(' + String.join("|", extensions) + ')';
-        return findFile(entry, directories, extensionRegExp);
+        return findFile(entry, directories, extensionRegExp, null);
+    }
+
+    /**
+     * Same as {@link #findAssociatedFiles(BibEntry, List, List)}, but lists the directories using the given index.
+     * Directories outside the index (e.g., reached by <code>..</code>) are listed from the file system.
+     */
+    @Override
+    public List<Path> findAssociatedFiles(BibEntry entry, FileDirectoryIndex index, List<String> extensions) throws IOException {
+        String extensionRegExp = '(' + String.join("|", extensions) + ')';
+        return findFile(entry, index.getDirectories(), extensionRegExp, index);
     }
 
     /**
@@ -121,10 +135,10 @@ class RegExpBasedFileFinder implements FileFinder {
      * @return Will return the first file found to match the given criteria or
      * null if none was found.
      */
-    private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp) throws IOException {
+    private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp, @Nullable FileDirectoryIndex directoryIndex) throws IOException {
         List<Path> res = new ArrayList<>();
         for (Path directory : dirs) {
-            res.addAll(findFile(entry, directory, regExp, extensionRegExp));
+            res.addAll(findFile(entry, directory, regExp, extensionRegExp, directoryIndex));
         }
         return res;
     }
@@ -133,7 +147,7 @@ class RegExpBasedFileFinder implements FileFinder {
      * The actual work-horse. Will find absolute filepaths starting from the
      * given directory using the given regular expression string for search.
      */
-    private List<Path> findFile(final BibEntry entry, final Path directory, final String file, final String extensionRegExp) throws IOException {
+    private List<Path> findFile(final BibEntry entry, final Path directory, final String file, final String extensionRegExp, @Nullable FileDirectoryIndex directoryIndex) throws IOException {
         List<Path> resultFiles = new ArrayList<>();
 
         String fileName = file;
@@ -174,28 +188,17 @@ class RegExpBasedFileFinder implements FileFinder {
                 continue;
             }
             if ("*".equals(dirToProcess)) { // Do for all direct subdirs
-                File[] subDirs = actualDirectory.toFile().listFiles();
-                if (subDirs != null) {
-                    String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
-                    for (File subDir : subDirs) {
-                        if (subDir.isDirectory()) {
-                            resultFiles.addAll(findFile(entry, subDir.toPath(), restOfFileString, extensionRegExp));
-                        }
-                    }
+                String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
+                for (Path subDir : getSubDirectories(actualDirectory, directoryIndex)) {
+                    resultFiles.addAll(findFile(entry, subDir, restOfFileString, extensionRegExp, directoryIndex));
                 }
             }
             // Do for all direct and indirect subdirs
             if ("**".equals(dirToProcess)) {
                 String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
 
-                final Path rootDirectory = actualDirectory;
-                try (Stream<Path> pathStream = Files.walk(actualDirectory)) {
-                    // We only want to transverse directory (and not the current one; this is already done below)
-                    for (Path path : pathStream.filter(element -> isSubDirectory(rootDirectory, element)).collect(Collectors.toList())) {
-                        resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp));
-                    }
-                } catch (UncheckedIOException ioe) {
-                    throw ioe.getCause();
+                for (Path path : getSubDirectoriesRecursively(actualDirectory, directoryIndex)) {
+                    resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp, directoryIndex));
                 }
             } // End process directory information
         }
@@ -203,6 +206,14 @@ class RegExpBasedFileFinder implements FileFinder {
         // Last step: check if the given file can be found in this directory
         Pattern toMatch = createFileNamePattern(fileParts, extensionRegExp, entry);
         BiPredicate<Path, BasicFileAttributes> matcher = (path, attributes) -> toMatch.matcher(path.getFileName().toString()).matches();
+        Optional<List<Path>> indexedChildren = directoryIndex == null ? Optional.empty() : directoryIndex.getChildren(actualDirectory);
+        if (indexedChildren.isPresent()) {
+            // Same as the search below: the directory itself and its direct children
+            Stream.concat(Stream.of(actualDirectory), indexedChildren.get().stream())
+                  .filter(path -> toMatch.matcher(path.getFileName().toString()).matches())
+                  .forEach(resultFiles::add);
+            return resultFiles;
+        }
         try (Stream<Path> pathStream = Files.find(actualDirectory, 1, matcher, FileVisitOption.FOLLOW_LINKS)) {
             resultFiles.addAll(pathStream.collect(Collectors.toList()));
         } catch (UncheckedIOException uncheckedIOException) {
@@ -212,7 +223,45 @@ class RegExpBasedFileFinder implements FileFinder {
         return resultFiles;
     }
 
-    private boolean isSubDirectory(Path rootDirectory, Path path) {
+    private static List<Path> getSubDirectories(Path directory, @Nullable FileDirectoryIndex directoryIndex) {
+        Optional<List<Path>> indexedChildren = directoryIndex == null ? Optional.empty() : directoryIndex.getChildren(directory);
+        if (indexedChildren.isPresent()) {
+            return indexedChildren.get().stream().filter(directoryIndex::isDirectory).toList();
+        }
+        File[] subDirs = directory.toFile().listFiles();
+        if (subDirs == null) {
+            return List.of();
+        }
+        return Arrays.stream(subDirs).filter(File::isDirectory).map(File::toPath).toList();
+    }
+
+    /**
+     * Returns all direct and indirect subdirectories of the given directory (without the directory itself) in the order of walking the directory
+     */
+    private static List<Path> getSubDirectoriesRecursively(Path directory, @Nullable FileDirectoryIndex directoryIndex) throws IOException {
+        if ((directoryIndex != null) && directoryIndex.isDirectory(directory)) {
+            List<Path> subDirectories = new ArrayList<>();
+            addSubDirectoriesRecursively(directory, directoryIndex, subDirectories);
+            return subDirectories;
+        }
+        try (Stream<Path> pathStream = Files.walk(directory)) {
+            // We only want to transverse directory (and not the current one; this is already done by the caller)
+            return pathStream.filter(element -> isSubDirectory(directory, element)).collect(Collectors.toList());
+        } catch (UncheckedIOException ioe) {
+            throw ioe.getCause();
+        }
+    }
+
+    private static void addSubDirectoriesRecursively(Path directory, FileDirectoryIndex directoryIndex, List<Path> subDirectories) {
+        for (Path child : directoryIndex.getChildren(directory).orElse(List.of())) {
+            if (directoryIndex.isDirectory(child)) {
+                subDirectories.add(child);
+                addSubDirectoriesRecursively(child, directoryIndex, subDirectories);
+            }
+        }
+    }
+
+    private static boolean isSubDirectory(Path rootDirectory, Path path) {
         return !rootDirectory.equals(path) && Files.isDirectory(path);
     }
 }
@@ -36,6 +36,7 @@ import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
@@ -68,6 +69,9 @@ public class BibDatabase {
     // Reverse index for citation links
     private final Map<String, Set<BibEntry>> citationIndex = new ConcurrentHashMap<>();
 
+    // Citation key to the entries having this key, in the order of the entries
+    private final Map<String, List<BibEntry>> entriesByCitationKey = new HashMap<>();
+
     private String preamble;
 
     // All file contents below the last entry in the file
@@ -144,7 +148,11 @@ public class BibDatabase {
      * Returns the entry with the given citation key.
      */
     public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        return entries.stream().filter(entry -> Objects.equals(entry.getCitationKey().orElse(null), key)).findFirst();
+        if (key == null) {
+            return entries.stream().filter(entry -> !entry.hasCitationKey()).findFirst();
+        }
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        return entriesWithKey == null ? Optional.empty() : Optional.of(entriesWithKey.getFirst());
     }
 
     /**
@@ -154,16 +162,7 @@ public class BibDatabase {
      * @return list of entries that contains the given key
      */
     public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
-        }
-        return result;
+        return new ArrayList<>(entriesByCitationKey.getOrDefault(Objects.requireNonNull(key), List.of()));
     }
 
     public synchronized void insertEntry(BibEntry entry) {
@@ -201,6 +200,7 @@ public class BibDatabase {
         entries.addAll(newEntries);
         newEntries.forEach(entry -> {
                     entriesId.put(entry.getId(), entry);
+                    entry.getCitationKey().ifPresent(key -> addToCitationKeyIndex(key, entry));
                     indexEntry(entry);
                 }
         );
@@ -249,7 +249,10 @@ public class BibDatabase {
         newEntries.removeIf(entry -> idsToBeDeleted.contains(entry.getId()));
 
         toBeDeleted.forEach(entry -> {
-            entriesId.remove(entry.getId());
+            BibEntry removedEntry = entriesId.remove(entry.getId());
+            if (removedEntry != null) {
+                removedEntry.getCitationKey().ifPresent(key -> removeFromCitationKeyIndex(key, removedEntry));
+            }
             removeEntryFromIndex(entry);
         });
 
@@ -289,6 +292,25 @@ public class BibDatabase {
         );
     }
 
+    private void addToCitationKeyIndex(String key, BibEntry entry) {
+        List<BibEntry> entriesWithKey = entriesByCitationKey.computeIfAbsent(key, _ -> new ArrayList<>(1));
+        // New entries get higher IDs, thus the ID determines the position in the list of entries (see indexOf)
+        int position = Collections.binarySearch(entriesWithKey, entry, Comparator.comparing(BibEntry::getId));
+        if (position < 0) {
+            entriesWithKey.add(-position - 1, entry);
+        }
+    }
+
+    private void removeFromCitationKeyIndex(String key, BibEntry entry) {
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        if (entriesWithKey != null) {
+            entriesWithKey.remove(entry);
+            if (entriesWithKey.isEmpty()) {
+                entriesByCitationKey.remove(key);
+            }
+        }
+    }
+
     private void removeEntryFromIndex(BibEntry entry) {
         forEachCitationKey(entry, key -> {
             Set<BibEntry> entriesForKey = citationIndex.get(key);
@@ -625,9 +647,26 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        if (event.getField() == InternalField.KEY_FIELD) {
+            updateCitationKeyIndex(event);
+        }
         eventBus.post(event);
     }
 
+    private synchronized void updateCitationKeyIndex(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        if (entriesId.get(entry.getId()) != entry) {
+            // The entry was removed from this database
+            return;
+        }
+        if (event.getOldValue() != null) {
+            removeFromCitationKeyIndex(event.getOldValue(), entry);
+        }
+        if (event.getNewValue() != null) {
+            addToCitationKeyIndex(event.getNewValue(), entry);
+        }
+    }
+
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
         return entry.getField(StandardField.CROSSREF).flatMap(this::getEntryByCitationKey);
     }
@@ -661,11 +700,9 @@ public class BibDatabase {
     /**
      * Returns the number of occurrences of the given citation key in this database.
      */
-    public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+    public synchronized long getNumberOfCitationKeyOccurrences(String key) {
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        return entriesWithKey == null ? 0 : entriesWithKey.size();
     }
 
     /**
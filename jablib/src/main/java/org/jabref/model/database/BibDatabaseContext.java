@@ -19,6 +19,7 @@ import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.study.Study;
 
@@ -58,6 +59,7 @@ public class BibDatabaseContext {
     private DatabaseSynchronizer dbmsSynchronizer;
     private CoarseChangeFilter dbmsListener;
     private DatabaseLocation location;
+    private GroupMembershipIndex groupMembershipIndex;
 
     public BibDatabaseContext() {
         this(new BibDatabase());
@@ -254,6 +256,16 @@ public class BibDatabaseContext {
         return database.getEntries();
     }
 
+    /**
+     * @return the group memberships of the entries of this library. The index is created on first access and then kept up to date with the library.
+     */
+    public synchronized GroupMembershipIndex getGroupMembershipIndex() {
+        if (groupMembershipIndex == null) {
+            groupMembershipIndex = new GroupMembershipIndex(database);
+        }
+        return groupMembershipIndex;
+    }
+
     /**
      * @return The path to store the lucene index files. One directory for each library.
      */
@@ -0,0 +1,253 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.groups.event.GroupMembershipChangedEvent;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps track of the entries of a library contained in its groups, so that the matches of a group do not need to be determined from scratch on each refresh.
+ * <p>
+ * Each entry of the library gets a slot. For each group, the slots of the contained entries are stored in a bitset.
+ * The bitset of a group is built on first use and afterwards kept up to date with the changes of the library:
+ * added entries are evaluated for all groups, a changed field only for the groups depending on this field (see {@link #dependsOn(AbstractGroup, Field)}).
+ * After an update, a {@link GroupMembershipChangedEvent} is posted to the listeners.
+ * <p>
+ * Groups are identified by identity, because groups with equal definitions are equal. Groups which are no longer used are dropped automatically.
+ * The matches of search groups and TeX groups change without a change of the entries. Their owners need to {@link #invalidate(AbstractGroup)} them.
+ * <p>
+ * The hierarchical context of the groups is applied when reading the matches of a {@link GroupTreeNode}, see {@link GroupTreeNode#getSearchMatcher()}.
+ */
+public class GroupMembershipIndex {
+
+    private final EventBus eventBus = new EventBus();
+    private final Set<Object> listeners = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, Integer> slotsById = new HashMap<>();
+    // Removed entries leave a null slot, which is reused by the next added entry
+    private final List<BibEntry> entriesBySlot = new ArrayList<>();
+    private final BitSet freeSlots = new BitSet();
+    private final Map<AbstractGroup, BitSet> memberships = new MapMaker().weakKeys().makeMap();
+
+    public GroupMembershipIndex(BibDatabase database) {
+        database.registerListener(this);
+        synchronized (this) {
+            database.getEntries().forEach(this::assignSlot);
+        }
+    }
+
+    public void registerListener(Object listener) {
+        eventBus.register(listener);
+        listeners.add(listener);
+    }
+
+    public void unregisterListener(Object listener) {
+        eventBus.unregister(listener);
+        listeners.remove(listener);
+    }
+
+    public int getNumberOfListeners() {
+        return listeners.size();
+    }
+
+    /**
+     * Returns whether the group of the given node matches the entry while taking the hierarchical context into account.
+     * This is equivalent to {@link GroupTreeNode#matches(BibEntry)}.
+     */
+    public synchronized boolean matches(GroupTreeNode node, BibEntry entry) {
+        Integer slot = slotsById.get(entry.getId());
+        return (slot != null) && matches(node, slot, node.getGroup().getHierarchicalContext());
+    }
+
+    private boolean matches(GroupTreeNode node, int slot, GroupHierarchyType originalContext) {
+        AbstractGroup group = node.getGroup();
+        boolean contained = getMembers(group).get(slot);
+        GroupHierarchyType context = group.getHierarchicalContext();
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            return contained || node.getChildren().stream().anyMatch(child -> matches(child, slot, originalContext));
+        } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot() && (originalContext != GroupHierarchyType.INCLUDING)) {
+            return contained && matches(node.getParent().get(), slot, originalContext);
+        }
+        return contained;
+    }
+
+    /**
+     * Determines the entries matched by the group of the given node while taking the hierarchical context into account.
+     * This is equivalent to {@link GroupTreeNode#findMatches(BibDatabase)}, except for the order of the entries.
+     */
+    public synchronized List<BibEntry> getMatches(GroupTreeNode node) {
+        BitSet matches = getMatchingSlots(node, node.getGroup().getHierarchicalContext());
+        List<BibEntry> entries = new ArrayList<>(matches.cardinality());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            entries.add(entriesBySlot.get(slot));
+        }
+        return entries;
+    }
+
+    public synchronized int getNumberOfMatches(GroupTreeNode node) {
+        return getMatchingSlots(node, node.getGroup().getHierarchicalContext()).cardinality();
+    }
+
+    private BitSet getMatchingSlots(GroupTreeNode node, GroupHierarchyType originalContext) {
+        AbstractGroup group = node.getGroup();
+        BitSet matches = (BitSet) getMembers(group).clone();
+        GroupHierarchyType context = group.getHierarchicalContext();
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            node.getChildren().forEach(child -> matches.or(getMatchingSlots(child, originalContext)));
+        } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot() && (originalContext != GroupHierarchyType.INCLUDING)) {
+            matches.and(getMatchingSlots(node.getParent().get(), originalContext));
+        }
+        return matches;
+    }
+
+    /**
+     * Drops the matches of the given group. They are determined again on the next access.
+     */
+    public synchronized void invalidate(AbstractGroup group) {
+        memberships.remove(group);
+    }
+
+    /**
+     * Evaluates the given group again for the given entries, e.g., after the matches of a search group were updated
+     */
+    public void update(AbstractGroup group, Collection<BibEntry> entries) {
+        List<BibEntry> changedEntries = new ArrayList<>();
+        synchronized (this) {
+            BitSet members = memberships.get(group);
+            if (members == null) {
+                return;
+            }
+            for (BibEntry entry : entries) {
+                Integer slot = slotsById.get(entry.getId());
+                if ((slot != null) && (members.get(slot) != group.contains(entry))) {
+                    members.flip(slot);
+                    changedEntries.add(entry);
+                }
+            }
+        }
+        if (!changedEntries.isEmpty()) {
+            eventBus.post(new GroupMembershipChangedEvent(changedEntries));
+        }
+    }
+
+    private BitSet getMembers(AbstractGroup group) {
+        return memberships.computeIfAbsent(group, _ -> {
+            BitSet members = new BitSet(entriesBySlot.size());
+            for (int slot = 0; slot < entriesBySlot.size(); slot++) {
+                BibEntry entry = entriesBySlot.get(slot);
+                if ((entry != null) && group.contains(entry)) {
+                    members.set(slot);
+                }
+            }
+            return members;
+        });
+    }
+
+    /**
+     * Checks whether a change of the given field might change the entries contained in the group
+     */
+    static boolean dependsOn(AbstractGroup group, Field field) {
+        return switch (group) {
+            case KeywordGroup keywordGroup ->
+                    keywordGroup.getSearchField().equals(field);
+            case TexGroup _ ->
+                    field == InternalField.KEY_FIELD;
+            // Search groups are updated after the search index was updated
+            case SearchGroup _, AllEntriesGroup _, AutomaticGroup _ ->
+                    false;
+            default ->
+                    true;
+        };
+    }
+
+    private int assignSlot(BibEntry entry) {
+        Integer existing = slotsById.get(entry.getId());
+        if (existing != null) {
+            return existing;
+        }
+        int slot = freeSlots.nextSetBit(0);
+        if (slot < 0) {
+            slot = entriesBySlot.size();
+            entriesBySlot.add(entry);
+        } else {
+            freeSlots.clear(slot);
+            entriesBySlot.set(slot, entry);
+        }
+        slotsById.put(entry.getId(), slot);
+        return slot;
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        synchronized (this) {
+            for (BibEntry entry : event.getBibEntries()) {
+                int slot = assignSlot(entry);
+                memberships.forEach((group, members) -> members.set(slot, group.contains(entry)));
+            }
+        }
+        eventBus.post(new GroupMembershipChangedEvent(event.getBibEntries()));
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        synchronized (this) {
+            for (BibEntry entry : event.getBibEntries()) {
+                Integer slot = slotsById.remove(entry.getId());
+                if (slot != null) {
+                    entriesBySlot.set(slot, null);
+                    freeSlots.set(slot);
+                    memberships.values().forEach(members -> members.clear(slot));
+                }
+            }
+        }
+        eventBus.post(new GroupMembershipChangedEvent(event.getBibEntries()));
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        boolean changed = false;
+        synchronized (this) {
+            if (event.getField() == InternalField.INTERNAL_ID_FIELD) {
+                // The event is posted before the id is changed
+                Integer slot = slotsById.remove(event.getOldValue());
+                if (slot != null) {
+                    slotsById.put(event.getNewValue(), slot);
+                }
+                return;
+            }
+            Integer slot = slotsById.get(entry.getId());
+            if (slot == null) {
+                return;
+            }
+            for (Map.Entry<AbstractGroup, BitSet> membership : memberships.entrySet()) {
+                AbstractGroup group = membership.getKey();
+                BitSet members = membership.getValue();
+                if (dependsOn(group, event.getField()) && (members.get(slot) != group.contains(entry))) {
+                    members.flip(slot);
+                    changed = true;
+                }
+            }
+        }
+        if (changed) {
+            eventBus.post(new GroupMembershipChangedEvent(List.of(entry)));
+        }
+    }
+}
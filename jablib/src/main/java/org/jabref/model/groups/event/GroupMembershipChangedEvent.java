@@ -0,0 +1,12 @@
+package org.jabref.model.groups.event;
+
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Posted by {@link org.jabref.model.groups.GroupMembershipIndex} after the groups containing the given entries may have changed.
+ * Removed entries are included: they are no longer contained in any group.
+ */
+public record GroupMembershipChangedEvent(List<BibEntry> entries) {
+}
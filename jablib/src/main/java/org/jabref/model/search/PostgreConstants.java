@@ -3,12 +3,25 @@ package org.jabref.model.search;
 import java.util.List;
 
 public enum PostgreConstants {
+    /**
+     * Version number of the persisted bib fields index.
+     * Increment when the layout of the tables or the way the values are indexed changes.
+     * Incrementing triggers reindexing, because the data directory of the Postgres server depends on it.
+     */
+    VERSION("2"),
     BIB_FIELDS_SCHEME("bib_fields"),
     SPLIT_TABLE_SUFFIX("_split_values"),
+    FINGERPRINT_TABLE_SUFFIX("_fingerprints"),
+    LIBRARY_STATE_TABLE("library_state"),
     ENTRY_ID("entryid"),
     FIELD_NAME("field_name"),
     FIELD_VALUE_LITERAL("field_value_literal"), // contains the value as-is
-    FIELD_VALUE_TRANSFORMED("field_value_transformed"); // contains the value transformed for better querying
+    FIELD_VALUE_TRANSFORMED("field_value_transformed"), // contains the value transformed for better querying
+    FINGERPRINT("fingerprint"), // hash of the content of an entry at the time it was indexed
+    TABLE_NAME("table_name"),
+    LIBRARY_PATH("library_path"), // path of the library the tables of a persisted index belong to
+    LIBRARY_FINGERPRINT("library_fingerprint"),
+    CLEAN("clean");
 
     public static final List<String> POSTGRES_FUNCTIONS = List.of(
             // HTML highlighting function
@@ -71,6 +84,18 @@ public enum PostgreConstants {
         return BIB_FIELDS_SCHEME + ".\"" + mainTable + SPLIT_TABLE_SUFFIX + "\"";
     }
 
+    /**
+     * Generates the schema reference for the table storing the fingerprint of each indexed entry.
+     * It is used to determine which entries changed since the index was persisted.
+     */
+    public static String getFingerprintTableSchemaReference(String mainTable) {
+        return BIB_FIELDS_SCHEME + ".\"" + mainTable + FINGERPRINT_TABLE_SUFFIX + "\"";
+    }
+
+    public static String getLibraryStateTableSchemaReference() {
+        return BIB_FIELDS_SCHEME + ".\"" + LIBRARY_STATE_TABLE + "\"";
+    }
+
     @Override
     public String toString() {
         return value;
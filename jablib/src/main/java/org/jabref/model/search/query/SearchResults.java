@@ -39,6 +39,13 @@ public class SearchResults {
         return false;
     }
 
+    /**
+     * @return the number of results for the given entry: one for a match of the fields, one for each matching page of a linked file
+     */
+    public int getNumberOfResults(BibEntry entry) {
+        return searchResults.getOrDefault(entry.getId(), List.of()).size();
+    }
+
     public Map<String, List<SearchResult>> getFileSearchResultsForEntry(BibEntry entry) {
         Map<String, List<SearchResult>> results = new HashMap<>();
         if (searchResults.containsKey(entry.getId())) {
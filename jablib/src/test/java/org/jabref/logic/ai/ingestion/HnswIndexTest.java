@@ -0,0 +1,92 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HnswIndexTest {
+
+    private static final int NUMBER_OF_VECTORS = 2000;
+    private static final int DIMENSION = 16;
+
+    private final Random random = new Random(42);
+    private MVStore mvStore;
+    private HnswIndex index;
+
+    @BeforeEach
+    void setUp() {
+        mvStore = new MVStore.Builder().open();
+        index = new HnswIndex(mvStore, "test");
+        for (int i = 0; i < NUMBER_OF_VECTORS; i++) {
+            index.add(String.valueOf(i), randomVector());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        mvStore.close();
+    }
+
+    private float[] randomVector() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    @Test
+    void searchFindsNearlyAllExactNeighbours() {
+        int found = 0;
+        for (int query = 0; query < 50; query++) {
+            float[] vector = randomVector();
+            Set<String> exact = new HashSet<>();
+            index.searchExact(vector, 10).forEach(neighbour -> exact.add(neighbour.id()));
+            found += (int) index.search(vector, 10, _ -> true).stream().filter(neighbour -> exact.contains(neighbour.id())).count();
+        }
+        assertTrue(found >= 0.9 * 50 * 10, "recall too low: " + found);
+    }
+
+    @Test
+    void searchFindsAddedVector() {
+        float[] vector = randomVector();
+        index.add("new", vector);
+        assertEquals("new", index.search(vector, 1, _ -> true).getFirst().id());
+    }
+
+    @Test
+    void searchSkipsRemovedVector() {
+        float[] vector = randomVector();
+        index.add("new", vector);
+        index.remove("new");
+        assertTrue(index.search(vector, 10, _ -> true).stream().noneMatch(neighbour -> "new".equals(neighbour.id())));
+        assertEquals(NUMBER_OF_VECTORS, index.size());
+    }
+
+    @Test
+    void searchReturnsOnlyFilteredVectors() {
+        List<HnswIndex.Neighbour> neighbours = index.search(randomVector(), 10, id -> id.endsWith("7"));
+        assertEquals(10, neighbours.size());
+        assertTrue(neighbours.stream().allMatch(neighbour -> neighbour.id().endsWith("7")));
+    }
+
+    @Test
+    void searchWorksAfterRemovingMostVectors() {
+        for (int i = 0; i < NUMBER_OF_VECTORS; i++) {
+            if (i % 10 != 0) {
+                index.remove(String.valueOf(i));
+            }
+        }
+        float[] vector = randomVector();
+        assertEquals(index.searchExact(vector, 1), index.search(vector, 1, _ -> true));
+    }
+}
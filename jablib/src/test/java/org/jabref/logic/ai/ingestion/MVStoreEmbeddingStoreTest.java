@@ -0,0 +1,135 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jabref.logic.util.NotificationService;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.filter.MetadataFilterBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class MVStoreEmbeddingStoreTest {
+    @TempDir Path tempDir;
+
+    private MVStoreEmbeddingStore store;
+
+    @BeforeEach
+    void setUp() {
+        openStore();
+        add("a1", "a.pdf", 1, 0, 0);
+        add("a2", "a.pdf", 0.9f, 0.1f, 0);
+        add("b1", "b.pdf", 0, 1, 0);
+        add("b2", "b.pdf", 0.8f, 0, 0.2f);
+    }
+
+    private void openStore() {
+        store = new MVStoreEmbeddingStore(tempDir.resolve("embeddings.mv"), mock(NotificationService.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    private void reopen() {
+        store.close();
+        openStore();
+    }
+
+    private void add(String text, String file, float... vector) {
+        store.add(Embedding.from(vector), new TextSegment(text, new Metadata(Map.of(LINK_METADATA_KEY, file))));
+    }
+
+    private List<String> search(EmbeddingSearchRequest request) {
+        return store.search(request).matches().stream().map(EmbeddingMatch::embedded).map(TextSegment::text).toList();
+    }
+
+    private List<Path> getVectorFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".vectors")).toList();
+        }
+    }
+
+    private static EmbeddingSearchRequest.EmbeddingSearchRequestBuilder request(float... query) {
+        return EmbeddingSearchRequest.builder().queryEmbedding(Embedding.from(query)).maxResults(2).minScore(0.0);
+    }
+
+    @Test
+    void searchReturnsMostSimilarSegmentsFirst() {
+        assertEquals(List.of("a1", "a2"), search(request(1, 0, 0).build()));
+    }
+
+    @Test
+    void searchHonoursFileFilter() {
+        assertEquals(List.of("b2", "b1"), search(request(1, 0, 0).filter(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("b.pdf")).build()));
+    }
+
+    @Test
+    void searchHonoursMinimumScore() {
+        assertEquals(List.of("b1"), search(request(0, 1, 0).minScore(0.9).build()));
+    }
+
+    @Test
+    void removeAllByFilterRemovesSegmentsOfFile() {
+        store.removeAll(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("a.pdf"));
+        assertEquals(List.of("b2", "b1"), search(request(1, 0, 0).build()));
+    }
+
+    @Test
+    void searchReturnsStoredEmbedding() {
+        EmbeddingMatch<TextSegment> match = store.search(request(0, 0, 1).maxResults(1).build()).matches().getFirst();
+        assertEquals(Embedding.from(new float[] {0.8f, 0, 0.2f}), match.embedding());
+        assertEquals("b.pdf", match.embedded().metadata().getString(LINK_METADATA_KEY));
+    }
+
+    @Test
+    void concurrentSearchesFindSameSegments() {
+        List<List<String>> results = IntStream.range(0, 100).parallel()
+                                              .mapToObj(_ -> search(request(1, 0, 0).build()))
+                                              .toList();
+        assertEquals(Collections.nCopies(100, List.of("a1", "a2")), results);
+    }
+
+    @Test
+    void indexIsPersisted() {
+        reopen();
+        assertEquals(List.of("b2", "b1"), search(request(1, 0, 0).filter(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isIn("b.pdf", "c.pdf")).build()));
+    }
+
+    @Test
+    void vectorFileOfFormerGenerationIsDeletedOnOpening() throws IOException {
+        store.removeAll();
+        add("c1", "c.pdf", 1, 0, 0);
+        reopen();
+        assertEquals(1, getVectorFiles().size());
+        assertEquals(List.of("c1"), search(request(1, 0, 0).build()));
+    }
+
+    @Test
+    void segmentsAreDroppedIfVectorsAreMissing() throws IOException {
+        store.close();
+        for (Path file : getVectorFiles()) {
+            Files.delete(file);
+        }
+        openStore();
+        assertEquals(List.of(), search(request(1, 0, 0).build()));
+    }
+}
@@ -0,0 +1,71 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VectorColumnTest {
+    @TempDir Path tempDir;
+
+    @Test
+    void dotMultipliesQueryWithRow() {
+        try (VectorColumn column = new VectorColumn(null)) {
+            column.set(0, new float[] {1, 2, 3, 4, 5});
+            column.set(1, new float[] {0, 1, 0, 1, 0});
+            assertEquals(6.0, column.dot(new float[] {1, 1, 1, 1, 1}, 1), 1e-6);
+            assertEquals(55.0, column.dot(new float[] {1, 2, 3, 4, 5}, 0), 1e-6);
+        }
+    }
+
+    @Test
+    void columnGrowsBeyondInitialCapacity() {
+        try (VectorColumn column = new VectorColumn(tempDir.resolve("vectors"))) {
+            float[] vector = new float[384];
+            for (int row = 0; row < 1000; row++) {
+                vector[0] = row;
+                column.set(row, vector);
+            }
+            assertEquals(1000, column.rows());
+            assertEquals(999.0f, column.get(999)[0]);
+            assertEquals(500.0f, column.get(500)[0]);
+        }
+    }
+
+    @Test
+    void rowsArePersisted() {
+        Path path = tempDir.resolve("vectors");
+        try (VectorColumn column = new VectorColumn(path)) {
+            column.reset(42);
+            column.set(0, new float[] {1, 2});
+            column.set(1, new float[] {3, 4});
+        }
+        try (VectorColumn column = new VectorColumn(path)) {
+            assertEquals(42, column.generation());
+            assertEquals(2, column.rows());
+            assertArrayEquals(new float[] {3, 4}, column.get(1));
+        }
+    }
+
+    @Test
+    void resetRemovesRows() {
+        try (VectorColumn column = new VectorColumn(null)) {
+            column.set(0, new float[] {1, 2});
+            column.reset(1);
+            assertEquals(0, column.rows());
+            assertEquals(0, column.dimension());
+        }
+    }
+
+    @Test
+    void setRejectsVectorOfOtherDimension() {
+        try (VectorColumn column = new VectorColumn(null)) {
+            column.set(0, new float[] {1, 2});
+            assertThrows(IllegalArgumentException.class, () -> column.set(1, new float[] {1, 2, 3}));
+        }
+    }
+}
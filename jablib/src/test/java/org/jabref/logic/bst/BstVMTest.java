@@ -2,7 +2,9 @@ package org.jabref.logic.bst;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
 
 import org.jabref.logic.util.TestEntry;
@@ -12,8 +14,11 @@ import org.jabref.model.entry.types.StandardEntryType;
 
 import org.antlr.v4.runtime.RecognitionException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BstVMTest {
@@ -233,4 +238,41 @@ public class BstVMTest {
 
         assertEquals("colorful morning", vm.latestContext.stack().pop());
     }
+
+    @Test
+    void compiledProgramIsSharedForSameFile(@TempDir Path tempDir) throws IOException {
+        Path bstFile = tempDir.resolve("test.bst");
+        Files.writeString(bstFile, "FUNCTION { test } { \"first\" } EXECUTE { test }");
+
+        BstVM first = new BstVM(bstFile);
+        BstVM second = new BstVM(bstFile);
+
+        assertSame(first.program, second.program);
+    }
+
+    @Test
+    void modifiedFileIsCompiledAgain(@TempDir Path tempDir) throws IOException {
+        Path bstFile = tempDir.resolve("test.bst");
+        Files.writeString(bstFile, "FUNCTION { test } { \"first\" } EXECUTE { test }");
+        new BstVM(bstFile).render(List.of());
+
+        Files.writeString(bstFile, "FUNCTION { test } { \"second\" } EXECUTE { test }");
+        Files.setLastModifiedTime(bstFile, FileTime.from(Files.getLastModifiedTime(bstFile).toInstant().plusSeconds(1)));
+        BstVM vm = new BstVM(bstFile);
+        vm.render(List.of());
+
+        assertEquals("second", vm.latestContext.stack().pop());
+    }
+
+    @Test
+    void entryFieldOutsideOfIterateFails() {
+        BstVM vm = new BstVM("""
+                ENTRY { title } {} {}
+                FUNCTION { test } { title }
+                READ
+                EXECUTE { test }
+                """);
+
+        assertThrows(BstVMException.class, () -> vm.render(List.of(defaultTestEntry())));
+    }
 }
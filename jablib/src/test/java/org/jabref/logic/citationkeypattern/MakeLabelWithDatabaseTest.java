@@ -1,5 +1,6 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.model.database.BibDatabase;
@@ -523,4 +524,30 @@ class MakeLabelWithDatabaseTest {
         new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKey(entry);
         assertEquals(Optional.of("Aapoj"), entry.getCitationKey());
     }
+
+    @Test
+    void generateAndSetKeysAppendsLettersInOrder() {
+        BibEntry entry2 = new BibEntry().withField(StandardField.AUTHOR, "John Doe").withField(StandardField.YEAR, "2016");
+        BibEntry entry3 = new BibEntry().withField(StandardField.AUTHOR, "John Doe").withField(StandardField.YEAR, "2016");
+        database.insertEntries(entry2, entry3);
+
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(List.of(entry, entry2, entry3));
+
+        assertEquals(List.of(Optional.of("Doe2016"), Optional.of("Doe2016a"), Optional.of("Doe2016b")),
+                List.of(entry.getCitationKey(), entry2.getCitationKey(), entry3.getCitationKey()));
+    }
+
+    @Test
+    void generateAndSetKeysReusesKeyFreedByEarlierEntry() {
+        entry.setCitationKey("Doe2016");
+        BibEntry entry2 = new BibEntry().withField(StandardField.AUTHOR, "John Doe").withField(StandardField.YEAR, "2016");
+        BibEntry entry3 = new BibEntry().withField(StandardField.AUTHOR, "Jane Roe").withField(StandardField.YEAR, "2016");
+        entry3.setCitationKey("Doe2016a");
+        database.insertEntries(entry2, entry3);
+
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(List.of(entry2, entry3, entry2));
+
+        assertEquals(Optional.of("Doe2016a"), entry2.getCitationKey());
+        assertEquals(Optional.of("Roe2016"), entry3.getCitationKey());
+    }
 }
@@ -0,0 +1,78 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateCandidateIndexTest {
+
+    private final BibEntry article = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Single Author")
+            .withField(StandardField.TITLE, "A serious paper about something")
+            .withField(StandardField.YEAR, "2017");
+    private final BibEntry sameTitle = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Someone Else")
+            .withField(StandardField.TITLE, "A {S}erious paper about something else")
+            .withField(StandardField.YEAR, "2020");
+    private final BibEntry sameDoi = new BibEntry(StandardEntryType.Book)
+            .withField(StandardField.TITLE, "Completely different")
+            .withField(StandardField.DOI, "10.1000/182");
+    private final BibEntry otherDoi = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.TITLE, "Nothing in common")
+            .withField(StandardField.DOI, "10.1000/182");
+    private final BibEntry unrelated = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Completely Different")
+            .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+            .withField(StandardField.YEAR, "1992");
+
+    @Test
+    void candidatesShareTitleWords() {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(List.of(sameTitle, unrelated));
+
+        assertEquals(List.of(sameTitle), index.getCandidates(article));
+    }
+
+    @Test
+    void candidatesShareIdentifier() {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(List.of(article, sameDoi, unrelated));
+
+        assertEquals(List.of(sameDoi), index.getCandidates(otherDoi));
+    }
+
+    @Test
+    void entryWithoutKeysIsCandidateOfAllEntries() {
+        BibEntry empty = new BibEntry(StandardEntryType.Misc);
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(List.of(article, empty, unrelated));
+
+        assertEquals(List.of(article, empty, unrelated), index.getCandidates(new BibEntry(StandardEntryType.Misc)));
+        assertEquals(List.of(empty), index.getCandidates(sameDoi));
+    }
+
+    @Test
+    void addedEntryBecomesCandidate() {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(List.of(unrelated));
+        index.add(sameTitle);
+
+        assertEquals(List.of(sameTitle), index.getCandidates(article));
+    }
+
+    @Test
+    void forEachCandidateAfterYieldsEachPairOnce() {
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(List.of(article, sameTitle, unrelated));
+        List<Integer> candidatesOfFirst = new ArrayList<>();
+        List<Integer> candidatesOfSecond = new ArrayList<>();
+
+        index.forEachCandidateAfter(0, candidatesOfFirst::add);
+        index.forEachCandidateAfter(1, candidatesOfSecond::add);
+
+        assertEquals(List.of(1), candidatesOfFirst);
+        assertEquals(List.of(), candidatesOfSecond);
+    }
+}
@@ -1,7 +1,11 @@
 package org.jabref.logic.database;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.Stream;
 
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -17,6 +21,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DuplicateCheckTest {
@@ -579,4 +584,35 @@ public class DuplicateCheckTest {
 
         assertFalse(duplicateChecker.isDuplicate(entryOne, entryTwo, BibDatabaseMode.BIBTEX));
     }
+
+    @Test
+    void findDuplicatesFindsPairWithoutCommonTitleWords() {
+        BibEntry published = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Stefan Kolb")
+                .withField(StandardField.TITLE, "Cloud Computing Migration")
+                .withField(StandardField.JOURNAL, "Journal of Clouds")
+                .withField(StandardField.YEAR, "2018");
+        BibEntry preprint = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Stefan Kolb")
+                .withField(StandardField.TITLE, "Clowd Computng Migraton")
+                .withField(StandardField.JOURNAL, "Journal of Clouds")
+                .withField(StandardField.YEAR, "2017");
+        List<List<BibEntry>> duplicates = Collections.synchronizedList(new ArrayList<>());
+
+        duplicateChecker.findDuplicates(List.of(published, unrelatedArticle, preprint), BibDatabaseMode.BIBTEX, (first, second) -> duplicates.add(List.of(first, second)), () -> false);
+
+        assertTrue(duplicateChecker.isDuplicate(published, preprint, BibDatabaseMode.BIBTEX));
+        assertEquals(List.of(List.of(published, preprint)), duplicates);
+    }
+
+    @Test
+    void containsDuplicateSkipsCandidateRemovedFromLibrary() {
+        BibEntry removed = getSimpleArticle();
+        BibEntry remaining = getSimpleArticle();
+        BibDatabase database = new BibDatabase(List.of(removed, remaining));
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(database.getEntries());
+        database.removeEntry(removed);
+
+        assertSame(remaining, duplicateChecker.containsDuplicate(index, database, getSimpleArticle(), BibDatabaseMode.BIBTEX).orElseThrow());
+    }
 }
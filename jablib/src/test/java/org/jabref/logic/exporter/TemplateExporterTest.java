@@ -0,0 +1,81 @@
+package org.jabref.logic.exporter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.SaveOrder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class TemplateExporterTest {
+
+    // Enough entries to be laid out in several chunks in parallel
+    private static final int NUMBER_OF_ENTRIES = 5000;
+
+    @TempDir Path layoutDirectory;
+
+    private TemplateExporter createExporter(String layout) throws Exception {
+        Files.writeString(layoutDirectory.resolve("numbered.layout"), layout);
+        TemplateExporter exporter = new TemplateExporter(
+                "Numbered",
+                "numbered",
+                layoutDirectory.resolve("numbered").toString(),
+                null,
+                StandardFileType.TXT,
+                mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                SaveOrder.getDefaultSaveOrder());
+        exporter.setCustomExport(true);
+        return exporter;
+    }
+
+    private static List<BibEntry> createEntries() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 1; i <= NUMBER_OF_ENTRIES; i++) {
+            entries.add(new BibEntry(i % 2 == 0 ? StandardEntryType.Article : StandardEntryType.Book)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.YEAR, String.valueOf(2000 + (i - 1) / 1000)));
+        }
+        return entries;
+    }
+
+    @Test
+    void entriesAreNumberedInTheirOrder(@TempDir Path testFolder) throws Exception {
+        TemplateExporter exporter = createExporter("\\format[Number]{\\citationkey} \\citationkey\n");
+        Path path = testFolder.resolve("export.txt");
+
+        exporter.export(new BibDatabaseContext(), path, createEntries());
+
+        List<String> lines = Files.readAllLines(path);
+        assertEquals(NUMBER_OF_ENTRIES, lines.size());
+        for (int i = 1; i <= NUMBER_OF_ENTRIES; i++) {
+            assertEquals(i + " key" + i, lines.get(i - 1));
+        }
+    }
+
+    @Test
+    void groupHeadersArePrintedOncePerGroup(@TempDir Path testFolder) throws Exception {
+        TemplateExporter exporter = createExporter("\\begingroup{year}Year \\year\n\\endgroup{year}\\format[Number]{\\citationkey}\n");
+        Path path = testFolder.resolve("export.txt");
+
+        exporter.export(new BibDatabaseContext(), path, createEntries());
+
+        List<String> lines = Files.readAllLines(path);
+        assertEquals(NUMBER_OF_ENTRIES + 5, lines.size());
+        assertEquals(List.of("Year 2000", "1"), lines.subList(0, 2));
+        assertEquals(List.of("1000", "Year 2001", "1001"), lines.subList(1000, 1003));
+        assertEquals(String.valueOf(NUMBER_OF_ENTRIES), lines.getLast());
+    }
+}
@@ -0,0 +1,104 @@
+package org.jabref.logic.importer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.jabref.logic.importer.fileformat.BiblioscapeImporter;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.importer.fileformat.MedlineImporter;
+import org.jabref.logic.importer.fileformat.ModsImporter;
+import org.jabref.logic.importer.fileformat.OvidImporter;
+import org.jabref.logic.importer.fileformat.RisImporter;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ImportFormatHeaderTest {
+
+    private final ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', textBlock = """
+            %PDF-1.5                                                              | PDF
+            <?xml version="1.0"?><!DOCTYPE PubmedArticleSet><PubmedArticleSet>    | MEDLINE_XML
+            <?xml version="1.0"?>\\n<modsCollection>                              | XML
+            % comment\\n@Article{key, title = {Title}}                            | BIBTEX
+            TY  - JOUR\\nTI  - Title\\nER  -                                      | RIS
+            %0 Journal Article\\n%A Author                                        | ENDNOTE
+            PMID- 12345\\nTI  - Title                                             | MEDLINE_PLAIN
+            cff-version: 1.2.0\\ntitle: Title                                     | CFF
+            """)
+    void signature(String text, ImportFormatHeader.Signature signature) {
+        assertEquals(Optional.of(signature), ImportFormatHeader.of(text.translateEscapes()).getSignature());
+    }
+
+    @Test
+    void noSignatureOfPlainText() {
+        assertEquals(Optional.empty(), ImportFormatHeader.of("Some text\nwithout a signature").getSignature());
+    }
+
+    @Test
+    void importerOfSignatureIsRankedFirst() {
+        ImportFormatHeader header = ImportFormatHeader.of("TY  - JOUR\nTI  - Title\nER  - ");
+
+        assertTrue(header.getRank(new RisImporter()) > header.getRank(new BiblioscapeImporter()));
+        assertTrue(header.getRank(new RisImporter()) > header.getRank(new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor())));
+    }
+
+    @Test
+    void rootElementDistinguishesXmlFormats() {
+        ImportFormatHeader header = ImportFormatHeader.of("<?xml version=\"1.0\"?>\n<PubmedArticleSet><PubmedArticle>");
+
+        assertTrue(header.getRank(new MedlineImporter()) > header.getRank(new ModsImporter(importFormatPreferences)));
+    }
+
+    @Test
+    void fileExtensionIsRanked(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("entries.txt");
+        Files.writeString(file, "<1>\nAuthors\n  Author");
+        ImportFormatHeader header = ImportFormatHeader.of(file);
+
+        assertEquals(1, header.getRank(new OvidImporter()));
+        assertEquals(0, header.getRank(new RisImporter()));
+    }
+
+    @Test
+    void headerIsRecognizedByImporter() throws Exception {
+        ImportFormatHeader header = ImportFormatHeader.of("TY  - JOUR\nTI  - Title\nER  - ");
+
+        assertTrue(header.isRecognizedBy(new RisImporter()));
+        assertFalse(header.isRecognizedBy(new OvidImporter()));
+    }
+
+    @Test
+    void headerOfLargeFileIsNotComplete(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("entries.ris");
+        Files.writeString(file, "\n".repeat(ImportFormatHeader.MAX_LENGTH) + "TY  - JOUR\nTI  - Title\nER  - ");
+        ImportFormatHeader header = ImportFormatHeader.of(file);
+
+        assertFalse(header.isComplete());
+        assertFalse(header.isRecognizedBy(new RisImporter()));
+        assertTrue(header.needsFullCheck(new RisImporter()));
+        assertFalse(header.needsFullCheck(new OvidImporter()));
+    }
+
+    @Test
+    void headerOfSmallFileIsComplete(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("entries.ris");
+        Files.writeString(file, "TY  - JOUR\nTI  - Title\nER  - ");
+        ImportFormatHeader header = ImportFormatHeader.of(file);
+
+        assertTrue(header.isComplete());
+        assertFalse(header.needsFullCheck(new RisImporter()));
+    }
+}
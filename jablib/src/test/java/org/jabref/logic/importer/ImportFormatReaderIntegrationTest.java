@@ -14,6 +14,8 @@ import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Answers;
@@ -60,6 +62,17 @@ class ImportFormatReaderIntegrationTest {
         assertEquals(count, reader.importUnknownFormat(data).parserResult().getDatabase().getEntries().size());
     }
 
+    @Test
+    void importUnknownFormatRecognizesFormatAfterHeader(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("entries.txt");
+        String ris = Files.readString(Path.of(ImportFormatReaderIntegrationTest.class.getResource("fileformat/RisImporterTest1.ris").toURI()));
+        Files.writeString(file, "\n".repeat(ImportFormatHeader.MAX_LENGTH) + ris);
+
+        ImportFormatReader.UnknownFormatImport unknownFormat = reader.importUnknownFormat(file, new DummyFileUpdateMonitor());
+        assertEquals("RIS", unknownFormat.format());
+        assertEquals(1, unknownFormat.parserResult().getDatabase().getEntryCount());
+    }
+
     private static Stream<Object[]> importFormats() {
         Collection<Object[]> result = new ArrayList<>();
         result.add(new Object[]{"fileformat/RisImporterTest1.ris", "ris", 1});
@@ -1,6 +1,7 @@
 package org.jabref.logic.importer;
 
 import java.io.BufferedReader;
+import java.io.InterruptedIOException;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -22,6 +23,7 @@ import org.jabref.logic.importer.fileformat.RisImporter;
 import org.jabref.logic.xmp.XmpPreferences;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Answers;
@@ -77,6 +79,14 @@ public class ImporterTest {
         assertNotNull(format.getDescription());
     }
 
+    @Test
+    void importIsStoppedWhenThreadIsInterrupted() {
+        Thread.currentThread().interrupt();
+
+        assertThrows(InterruptedIOException.class, () -> new EndnoteImporter().importDatabase("%0 Journal Article\n%T Title\n"));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
     public static Stream<Importer> instancesToTest() {
         ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
         when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
@@ -2249,4 +2249,27 @@ class BibtexParserTest {
 
         assertEquals(List.of(firstEntry, secondEntry), result.getDatabase().getEntries());
     }
+
+    @Test
+    void parseLargeLibraryKeepsFileOrderAndSerialization() throws IOException {
+        StringBuilder library = new StringBuilder();
+        for (int i = 0; i < 1500; i++) {
+            if (i == 500) {
+                library.append("@String{jabref = {JabRef}}\n\n% Comment before entry 500\n");
+            }
+            library.append("@Article{key").append(i).append(",\n  title = {Title ").append(i).append("},\n}\n\n");
+        }
+        ParserResult result = parser.parse(Reader.of(library.toString()));
+        List<BibEntry> entries = result.getDatabase().getEntries();
+
+        assertEquals(1500, entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(Optional.of("key" + i), entries.get(i).getCitationKey());
+            assertEquals(i, result.getDatabase().indexOf(entries.get(i)));
+        }
+        assertEquals("@Article{key1,\n  title = {Title 1},\n}\n", entries.get(1).getParsedSerialization());
+        assertEquals("% Comment before entry 500\n", entries.get(500).getUserComments());
+        assertEquals(Optional.of("JabRef"), result.getDatabase().getStringValues().stream().findFirst().map(BibtexString::getContent));
+        assertFalse(result.hasWarnings());
+    }
 }
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
 import java.util.stream.Stream;
 
 import org.jabref.logic.FilePreferences;
@@ -33,6 +34,7 @@ import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -146,6 +148,75 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void checkingAgainReportsChangedEntry() {
+        BibDatabaseContext context = withMode(createContext(StandardField.TITLE, "sometitle", StandardEntryType.Article), BibDatabaseMode.BIBTEX);
+        BibEntry entry = context.getEntries().getFirst();
+        IntegrityCheck integrityCheck = createIntegrityCheck(context);
+        assertEquals(List.of(), integrityCheck.check());
+
+        entry.setField(StandardField.YEAR, "abc");
+        assertNotEquals(List.of(), integrityCheck.check());
+
+        entry.clearField(StandardField.YEAR);
+        assertEquals(List.of(), integrityCheck.check());
+    }
+
+    @Test
+    void changedDoiIsReportedAsDuplicate() {
+        BibEntry first = new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1000/1");
+        BibEntry second = new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1000/2");
+        BibDatabaseContext context = withMode(new BibDatabaseContext(new BibDatabase(List.of(first, second))), BibDatabaseMode.BIBTEX);
+        IntegrityCheck integrityCheck = createIntegrityCheck(context);
+        assertEquals(List.of(), integrityCheck.check(true, () -> {
+        }, () -> false));
+
+        second.setField(StandardField.DOI, "10.1000/1");
+
+        assertEquals(List.of(
+                        new IntegrityMessage("Same DOI used in multiple entries", first, StandardField.DOI),
+                        new IntegrityMessage("Same DOI used in multiple entries", second, StandardField.DOI)),
+                integrityCheck.check(true, () -> {
+                }, () -> false));
+    }
+
+    @Test
+    void entriesWithSameDoiAreReportedPerDoi() {
+        BibEntry firstA = new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1023/A:1022883727209");
+        BibEntry secondA = new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1023/A:1022883727209");
+        BibEntry firstB = new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1177/1461444811422887");
+        BibEntry secondB = new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1177/1461444811422887");
+        BibEntry c = new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1145/2568225.2568315");
+        BibDatabaseContext context = withMode(new BibDatabaseContext(new BibDatabase(List.of(firstA, secondA, firstB, secondB, c))), BibDatabaseMode.BIBTEX);
+
+        assertEquals(List.of(
+                        new IntegrityMessage("Same DOI used in multiple entries", firstA, StandardField.DOI),
+                        new IntegrityMessage("Same DOI used in multiple entries", secondA, StandardField.DOI),
+                        new IntegrityMessage("Same DOI used in multiple entries", firstB, StandardField.DOI),
+                        new IntegrityMessage("Same DOI used in multiple entries", secondB, StandardField.DOI)),
+                createIntegrityCheck(context).check());
+    }
+
+    @Test
+    void cancelledCheckDoesNotAffectNextCheck() {
+        BibDatabaseContext context = withMode(createContext(StandardField.TITLE, "sometitle", StandardEntryType.Article), BibDatabaseMode.BIBTEX);
+        BibEntry entry = context.getEntries().getFirst();
+        IntegrityCheck integrityCheck = createIntegrityCheck(context);
+        entry.setField(StandardField.YEAR, "abc");
+
+        assertThrows(CancellationException.class, () -> integrityCheck.check(true, () -> {
+        }, () -> true));
+        assertNotEquals(List.of(), integrityCheck.check());
+    }
+
+    private IntegrityCheck createIntegrityCheck(BibDatabaseContext context) {
+        return new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry(type)
                 .withField(field, value);
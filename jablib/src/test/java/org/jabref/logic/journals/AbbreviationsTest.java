@@ -1,9 +1,13 @@
 package org.jabref.logic.journals;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AbbreviationsTest {
 
@@ -23,4 +27,29 @@ class AbbreviationsTest {
     void getNextAbbreviationConvertsAbbreviationToDotlessAbbreviation() {
         assertEquals("2D Mater", repository.getNextAbbreviation("2D Mater.").get());
     }
+
+    @Test
+    void getFindsBuiltInAbbreviationByAbbreviatedNames() {
+        assertEquals(Optional.of("2D Materials"), repository.get("2D Mater.").map(Abbreviation::getName));
+        assertEquals(Optional.of("2D Materials"), repository.get("2D Mater").map(Abbreviation::getName));
+        assertEquals(Optional.of("2D Mater"), repository.getDotless("2D Materials"));
+    }
+
+    @Test
+    void isAbbreviatedNameRecognizesBuiltInAbbreviation() {
+        assertTrue(repository.isAbbreviatedName("2D Mater."));
+        assertFalse(repository.isAbbreviatedName("2D Materials"));
+    }
+
+    @Test
+    void getAllLoadedRestoresNames() {
+        assertTrue(repository.getAllLoaded().stream().anyMatch(abbreviation -> "2D Materials".equals(abbreviation.getName())));
+    }
+
+    @Test
+    void demonstrationRepositoryFindsAbbreviation() {
+        JournalAbbreviationRepository demonstration = new JournalAbbreviationRepository();
+        assertEquals(Optional.of("Dem"), demonstration.getShortestUniqueAbbreviation("Demo"));
+        assertTrue(demonstration.isKnownName("Demonstration"));
+    }
 }
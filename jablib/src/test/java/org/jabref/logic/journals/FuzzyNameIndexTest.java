@@ -0,0 +1,44 @@
+package org.jabref.logic.journals;
+
+import java.util.List;
+
+import org.jabref.logic.util.strings.StringSimilarity;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FuzzyNameIndexTest {
+
+    private static final List<String> NAMES = List.of(
+            "Physical Review Letters",
+            "Physical Review",
+            "Journal of Physics",
+            "Nature",
+            "Nature Physics",
+            "ACM Computing Surveys",
+            "IEEE Transactions on Software Engineering");
+
+    private final FuzzyNameIndex<String> index = new FuzzyNameIndex<>(NAMES, name -> name);
+    private final StringSimilarity similarity = new StringSimilarity();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Physical Reviw Letters", "physical review letter", "Natur", "NATURE PHYSICS", "IEEE Transaction on Software Enginering", "Unknown Journal", "Nat", ""})
+    void candidatesContainAllSimilarNames(String input) {
+        List<String> candidates = index.getCandidates(input, similarity.getThreshold());
+
+        for (String name : NAMES) {
+            if (similarity.isSimilar(input, name)) {
+                assertTrue(candidates.contains(name), name);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Physical Reviw Letters", "IEEE Transaction on Software Enginering"})
+    void candidatesOfLongNameExcludeDistantNames(String input) {
+        assertEquals(1, index.getCandidates(input, similarity.getThreshold()).size());
+    }
+}
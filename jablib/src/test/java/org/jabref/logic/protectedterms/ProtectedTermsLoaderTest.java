@@ -48,6 +48,17 @@ class ProtectedTermsLoaderTest {
         assertEquals(ProtectedTermsLoader.getInternalLists().size() + 1, loader.getProtectedTermsLists().size());
     }
 
+    @Test
+    void loadInBackground() {
+        List<Runnable> backgroundTasks = new ArrayList<>();
+        ProtectedTermsLoader backgroundLoader = new ProtectedTermsLoader(new ProtectedTermsPreferences(ProtectedTermsLoader.getInternalLists(),
+                List.of(), List.of(), List.of()), backgroundTasks::add);
+
+        assertEquals(1, backgroundTasks.size());
+        backgroundTasks.getFirst().run();
+        assertEquals(loader.getProtectedTerms().size(), backgroundLoader.getProtectedTerms().size());
+    }
+
     @Test
     void readProtectedTermsListFromFileReadsDescription() throws URISyntaxException {
         Path file = Path.of(
@@ -0,0 +1,140 @@
+package org.jabref.logic.search;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostgreConnectionPoolTest {
+
+    private final List<Connection> createdConnections = new ArrayList<>();
+    private final ExecutorService executorService = Executors.newFixedThreadPool(3);
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    private synchronized Connection createConnection() {
+        Connection connection = mock(Connection.class);
+        createdConnections.add(connection);
+        return connection;
+    }
+
+    @Test
+    void connectionIsReused() throws Exception {
+        PostgreConnectionPool pool = new PostgreConnectionPool(2, this::createConnection);
+
+        Connection first = pool.withConnection(connection -> connection);
+        Connection second = pool.withConnection(connection -> connection);
+
+        assertSame(first, second);
+        assertEquals(1, createdConnections.size());
+    }
+
+    @Test
+    void closedConnectionIsReplaced() throws Exception {
+        PostgreConnectionPool pool = new PostgreConnectionPool(2, this::createConnection);
+
+        Connection first = pool.withConnection(connection -> {
+            when(connection.isClosed()).thenReturn(true);
+            return connection;
+        });
+        Connection second = pool.withConnection(connection -> connection);
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void connectionIsReturnedIfQueryFails() throws Exception {
+        PostgreConnectionPool pool = new PostgreConnectionPool(1, this::createConnection);
+
+        assertThrows(SQLException.class, () -> pool.withConnection(_ -> {
+            throw new SQLException("Syntax error");
+        }));
+
+        assertEquals(1, pool.getMetrics().idleConnections());
+        assertEquals(0, pool.getMetrics().activeConnections());
+    }
+
+    @Test
+    void failsIfServerCannotBeConnected() {
+        PostgreConnectionPool pool = new PostgreConnectionPool(1, () -> null);
+
+        assertThrows(SQLException.class, () -> pool.withConnection(connection -> connection));
+        assertEquals(0, pool.getMetrics().activeConnections());
+    }
+
+    @Test
+    void openingConnectionCountsAsWaitTime() throws Exception {
+        PostgreConnectionPool pool = new PostgreConnectionPool(1, () -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return createConnection();
+        });
+
+        pool.withConnection(connection -> connection);
+
+        assertTrue(pool.getMetrics().totalWaitTime().toMillis() >= 200);
+        assertTrue(pool.getMetrics().totalQueryTime().toMillis() < 200);
+    }
+
+    @Test
+    void queriesRunConcurrentlyUpToMaxSize() throws Exception {
+        PostgreConnectionPool pool = new PostgreConnectionPool(2, this::createConnection);
+        CountDownLatch running = new CountDownLatch(2);
+        CompletableFuture<Void> finish = new CompletableFuture<>();
+
+        List<Future<Connection>> queries = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            queries.add(executorService.submit(() -> pool.withConnection(connection -> {
+                running.countDown();
+                finish.join();
+                return connection;
+            })));
+        }
+
+        assertTrue(running.await(10, TimeUnit.SECONDS));
+        assertEquals(2, pool.getMetrics().activeConnections());
+        finish.complete(null);
+        for (Future<Connection> query : queries) {
+            query.get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(2, createdConnections.size());
+        assertEquals(0, pool.getMetrics().activeConnections());
+        assertEquals(3, pool.getMetrics().borrowedConnections());
+    }
+
+    @Test
+    void closeClosesIdleConnections() throws Exception {
+        PostgreConnectionPool pool = new PostgreConnectionPool(1, this::createConnection);
+        Connection connection = pool.withConnection(pooledConnection -> pooledConnection);
+
+        pool.close();
+
+        verify(connection).close();
+        assertEquals(0, pool.getMetrics().idleConnections());
+    }
+}
@@ -0,0 +1,164 @@
+package org.jabref.logic.search.indexing;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.beans.property.BooleanProperty;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.search.DatabaseSearcher;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.search.PostgreConstants;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PersistentBibFieldsIndexTest {
+    private final CliPreferences preferences = mock(CliPreferences.class);
+    private final FilePreferences filePreferences = mock(FilePreferences.class);
+    private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+    private PostgreServer postgreServer;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        when(preferences.getBibEntryPreferences()).thenReturn(bibEntryPreferences);
+        when(preferences.getFilePreferences()).thenReturn(filePreferences);
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        when(filePreferences.shouldFulltextIndexLinkedFiles()).thenReturn(false);
+        when(filePreferences.fulltextIndexLinkedFilesProperty()).thenReturn(mock(BooleanProperty.class));
+
+        postgreServer = new PostgreServer(tempDir.resolve("postgres"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        postgreServer.shutdown();
+    }
+
+    @Test
+    void persistentServerIsUsed() {
+        assertTrue(postgreServer.isPersistent());
+    }
+
+    @Test
+    void changedEntriesAreReindexedInNextSession() throws Exception {
+        List<BibEntry> firstSession = List.of(
+                new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "harrer"),
+                new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "tonho"));
+        assertEquals(List.of(firstSession.getFirst()), search("harrer", firstSession));
+
+        // The entries are parsed again in the next session and thus get new ids
+        BibEntry unchanged = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "harrer");
+        BibEntry changed = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "koppor");
+        BibEntry added = new BibEntry(StandardEntryType.Book).withField(StandardField.AUTHOR, "harrer and koppor");
+        List<BibEntry> secondSession = List.of(unchanged, changed, added);
+
+        assertEquals(List.of(unchanged, added), search("harrer", secondSession));
+        assertEquals(List.of(), search("tonho", secondSession));
+        assertEquals(List.of(changed, added), search("koppor", secondSession));
+    }
+
+    @Test
+    void indexIsReusedAfterRestart() throws Exception {
+        Files.createFile(tempDir.resolve("library.bib"));
+        search("harrer", List.of(new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "harrer")));
+
+        restartServer();
+        changePersistedValues("harrer", "koppor");
+
+        // The entry was not changed, thus the persisted rows are reused instead of indexing the entry again
+        BibEntry unchanged = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "harrer");
+        assertEquals(List.of(unchanged), search("koppor", List.of(unchanged)));
+    }
+
+    @Test
+    void indexOfDeletedLibraryIsDroppedOnRestart() throws Exception {
+        Path library = Files.createFile(tempDir.resolve("library.bib"));
+        search("harrer", List.of(new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "harrer")));
+        assertNotEquals(List.of(), getLibraryTables());
+
+        Files.delete(library);
+        restartServer();
+
+        assertEquals(List.of(), getLibraryTables());
+    }
+
+    private List<BibEntry> search(String query, List<BibEntry> entries) throws Exception {
+        BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(entries), new MetaData(), tempDir.resolve("library.bib"));
+        return new DatabaseSearcher(new SearchQuery(query), databaseContext, new CurrentThreadTaskExecutor(), preferences, postgreServer).getMatches();
+    }
+
+    private void restartServer() {
+        postgreServer.shutdown();
+        postgreServer = new PostgreServer(tempDir.resolve("postgres"));
+    }
+
+    private List<String> getLibraryTables() throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Connection connection = postgreServer.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement("""
+                     SELECT table_name FROM information_schema.tables WHERE table_schema = ? AND table_name <> ?
+                     """)) {
+            preparedStatement.setString(1, PostgreConstants.BIB_FIELDS_SCHEME.toString());
+            preparedStatement.setString(2, PostgreConstants.LIBRARY_STATE_TABLE.toString());
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    tables.add(resultSet.getString("table_name"));
+                }
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Changes the indexed values in the persisted tables. Thereby, a search finds the new value only if the persisted rows are reused.
+     */
+    private void changePersistedValues(String value, String newValue) throws SQLException {
+        List<String> tables = getLibraryTables().stream()
+                                                .filter(table -> !table.endsWith(PostgreConstants.FINGERPRINT_TABLE_SUFFIX.toString()))
+                                                .toList();
+        try (Connection connection = postgreServer.getConnection()) {
+            for (String table : tables) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                        UPDATE %s SET "%s" = ?, "%s" = ? WHERE "%s" = ?
+                        """.formatted(
+                        PostgreConstants.getMainTableSchemaReference(table),
+                        PostgreConstants.FIELD_VALUE_LITERAL,
+                        PostgreConstants.FIELD_VALUE_TRANSFORMED,
+                        PostgreConstants.FIELD_VALUE_LITERAL))) {
+                    preparedStatement.setString(1, newValue);
+                    preparedStatement.setString(2, newValue);
+                    preparedStatement.setString(3, value);
+                    preparedStatement.executeUpdate();
+                }
+            }
+        }
+    }
+}
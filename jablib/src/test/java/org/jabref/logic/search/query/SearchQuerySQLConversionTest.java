@@ -5,6 +5,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.jabref.model.search.SearchFlags;
@@ -14,6 +15,7 @@ import org.jabref.model.search.query.SqlQueryNode;
 import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -21,6 +23,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import static org.jabref.model.search.SearchFlags.CASE_SENSITIVE;
 import static org.jabref.model.search.SearchFlags.REGULAR_EXPRESSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SearchQuerySQLConversionTest {
     private static EmbeddedPostgres pg;
@@ -917,4 +920,12 @@ class SearchQuerySQLConversionTest {
             }
         }
     }
+
+    @Test
+    void restrictedSearchRestrictsScanToEntries() {
+        SqlQueryNode sqlQueryNode = SearchQueryConversion.searchToSql("tableName", new SearchQuery("author=smith"), List.of("first", "second"));
+
+        assertTrue(sqlQueryNode.cte().contains(") AND main_table.entryid = ANY(?::text[])"));
+        assertEquals(List.of("%smith%", "%smith%", "{\"first\",\"second\"}"), sqlQueryNode.params());
+    }
 }
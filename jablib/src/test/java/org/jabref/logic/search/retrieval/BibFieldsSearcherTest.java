@@ -0,0 +1,78 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BibFieldsSearcherTest {
+    private final BibEntry harrer = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "harrer");
+    private final BibEntry tonho = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "tonho");
+    private final BibEntry harrerBook = new BibEntry(StandardEntryType.Book).withField(StandardField.AUTHOR, "harrer");
+
+    private PostgreServer postgreServer;
+    private BibFieldsIndexer indexer;
+    private BibFieldsSearcher searcher;
+
+    @BeforeEach
+    void setUp() {
+        BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(List.of(harrer, tonho, harrerBook)));
+
+        postgreServer = new PostgreServer();
+        indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection());
+        indexer.updateOnStart(BackgroundTask.wrap(() -> { }));
+        searcher = new BibFieldsSearcher(postgreServer.getReaderPool(), indexer.getTable());
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexer.closeAndWait();
+        postgreServer.shutdown();
+    }
+
+    @Test
+    void searchInEntriesIsRestrictedToGivenEntries() {
+        assertEquals(Set.of(harrer.getId()), searcher.search(new SearchQuery("harrer"), List.of(harrer, tonho)).getMatchedEntries());
+    }
+
+    @Test
+    void searchInEntriesMatchesSameEntriesAsSearchInLibrary() {
+        SearchQuery query = new SearchQuery("author=harrer AND NOT entrytype=book");
+        List<BibEntry> entries = List.of(harrer, tonho, harrerBook);
+        SearchResults libraryResults = searcher.search(query);
+        Set<String> expected = Set.copyOf(entries.stream().filter(libraryResults::isMatched).map(BibEntry::getId).toList());
+
+        assertEquals(expected, searcher.search(query, entries).getMatchedEntries());
+    }
+
+    @Test
+    void negatedSearchInEntriesIsRestrictedToGivenEntries() {
+        assertEquals(Set.of(tonho.getId()), searcher.search(new SearchQuery("NOT author=harrer"), List.of(harrer, tonho)).getMatchedEntries());
+        assertEquals(Set.of(), searcher.search(new SearchQuery("NOT author=harrer"), List.of(harrer, harrerBook)).getMatchedEntries());
+    }
+
+    @Test
+    void searchInNoEntriesMatchesNothing() {
+        assertEquals(Set.of(), searcher.search(new SearchQuery("harrer"), List.of()).getMatchedEntries());
+    }
+}
@@ -0,0 +1,61 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiveUpdateNotificationTest {
+
+    @Test
+    void serializeWithoutEntriesRequestsCompleteSynchronization() {
+        List<String> payloads = LiveUpdateNotification.serialize("processor", Map.of());
+
+        assertEquals(List.of("processor"), payloads);
+        assertTrue(LiveUpdateNotification.parse(payloads.getFirst()).orElseThrow().requiresCompleteSynchronization());
+    }
+
+    @Test
+    void parseReturnsSerializedChanges() {
+        Map<Integer, Integer> changes = Map.of(1, 3, 42, LiveUpdateNotification.REMOVED);
+
+        List<String> payloads = LiveUpdateNotification.serialize("processor", changes);
+
+        assertEquals(Optional.of(new LiveUpdateNotification("processor", changes)), LiveUpdateNotification.parse(payloads.getFirst()));
+    }
+
+    @Test
+    void serializeSplitsManyChanges() {
+        Map<Integer, Integer> changes = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            changes.put(Integer.MAX_VALUE - i, Integer.MAX_VALUE);
+        }
+
+        List<String> payloads = LiveUpdateNotification.serialize("8b5b1a0e-4bd4-4c4e-8a4b-0c3d2b1a0f9e", changes);
+
+        assertEquals(4, payloads.size());
+        assertTrue(payloads.stream().allMatch(payload -> payload.length() < 8000));
+        assertEquals(changes, LiveUpdateNotification.mergeChanges(payloads.stream()
+                                                                           .map(payload -> LiveUpdateNotification.parse(payload).orElseThrow())
+                                                                           .toList()));
+    }
+
+    @Test
+    void parseRejectsMalformedPayload() {
+        assertEquals(Optional.empty(), LiveUpdateNotification.parse("processor;1:a"));
+    }
+
+    @Test
+    void mergeKeepsHighestVersionAndRemovals() {
+        Map<Integer, Integer> merged = LiveUpdateNotification.mergeChanges(List.of(
+                new LiveUpdateNotification("first", Map.of(1, 2, 2, 5)),
+                new LiveUpdateNotification("second", Map.of(1, 4, 2, LiveUpdateNotification.REMOVED))));
+
+        assertEquals(Map.of(1, 4, 2, LiveUpdateNotification.REMOVED), merged);
+    }
+}
@@ -0,0 +1,66 @@
+package org.jabref.logic.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupTasksTest {
+
+    private final List<Runnable> backgroundTasks = new ArrayList<>();
+    private final StartupTasks startupTasks = new StartupTasks(false, backgroundTasks::add);
+
+    @Test
+    void runReturnsResultOfPhase() {
+        assertEquals("result", startupTasks.run("phase", () -> "result"));
+    }
+
+    @Test
+    void phaseStartsAfterDependency() {
+        List<String> phases = new ArrayList<>();
+        CompletableFuture<Void> first = startupTasks.start("first", () -> {
+            phases.add("first");
+        });
+        CompletableFuture<String> second = startupTasks.start("second", () -> {
+            phases.add("second");
+            return "second";
+        }, first);
+
+        assertEquals(1, backgroundTasks.size());
+        backgroundTasks.removeFirst().run();
+        assertEquals(1, backgroundTasks.size());
+        backgroundTasks.removeFirst().run();
+
+        assertEquals(List.of("first", "second"), phases);
+        assertEquals("second", second.join());
+    }
+
+    @Test
+    void phaseIsNotRunIfDependencyFails() {
+        List<String> phases = new ArrayList<>();
+        CompletableFuture<Void> failing = CompletableFuture.failedFuture(new IllegalStateException());
+        CompletableFuture<Void> dependent = startupTasks.start("dependent", () -> {
+            phases.add("dependent");
+        }, failing);
+
+        assertTrue(backgroundTasks.isEmpty());
+        assertThrows(CompletionException.class, dependent::join);
+        assertEquals(List.of(), phases);
+    }
+
+    @Test
+    void executorRunsTasksAsPhase() {
+        List<String> phases = new ArrayList<>();
+        startupTasks.executor("phase").execute(() -> phases.add("task"));
+
+        backgroundTasks.removeFirst().run();
+
+        assertEquals(List.of("task"), phases);
+    }
+}
@@ -69,6 +69,26 @@ class CitationKeyBasedFileFinderTest {
         assertEquals(Arrays.asList(jpgFile, pdfFile), results);
     }
 
+    @Test
+    void findAssociatedFilesUsingIndex() throws IOException {
+        FileDirectoryIndex index = new FileDirectoryIndex(List.of(graphicsDir, pdfsDir));
+        FileFinder fileFinder = new CitationKeyBasedFileFinder(false);
+
+        List<Path> results = fileFinder.findAssociatedFiles(entry, index, List.of("jpg", "pdf"));
+
+        assertEquals(List.of(jpgFile, pdfFile), results);
+    }
+
+    @Test
+    void findAssociatedFilesOfSeveralEntriesUsingIndex() throws IOException {
+        FileDirectoryIndex index = new FileDirectoryIndex(List.of(rootDir));
+        FileFinder fileFinder = new CitationKeyBasedFileFinder(true);
+        BibEntry otherEntry = new BibEntry(StandardEntryType.Article).withCitationKey("HipKro03-sub");
+
+        assertEquals(List.of(), fileFinder.findAssociatedFiles(entry, index, List.of("pdf")));
+        assertEquals(List.of(pdfFile), fileFinder.findAssociatedFiles(otherEntry, index, List.of("pdf")));
+    }
+
     @Test
     void findAssociatedFilesIgnoresFilesStartingWithKeyButContinueWithText() throws IOException {
         Files.createFile(pdfsDir.resolve("HipKro03a - Hello second paper.pdf"));
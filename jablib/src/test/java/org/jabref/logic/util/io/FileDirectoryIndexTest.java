@@ -0,0 +1,66 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileDirectoryIndexTest {
+
+    private Path rootDir;
+    private Path subDir;
+    private Path rootFile;
+    private Path subFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws IOException {
+        rootDir = temporaryFolder;
+        subDir = Files.createDirectory(rootDir.resolve("sub"));
+        rootFile = Files.createFile(rootDir.resolve("Key2020.pdf"));
+        subFile = Files.createFile(subDir.resolve("Key2021.pdf"));
+        Files.createFile(subDir.resolve("Other.pdf"));
+    }
+
+    @Test
+    void getFilesStartingWithFindsFilesInSubdirectories() throws IOException {
+        FileDirectoryIndex index = new FileDirectoryIndex(List.of(rootDir));
+
+        assertEquals(List.of(rootFile, subFile), index.getFilesStartingWith("Key"));
+        assertEquals(List.of(subFile), index.getFilesStartingWith("Key2021"));
+        assertEquals(List.of(), index.getFilesStartingWith("sub"));
+    }
+
+    @Test
+    void getChildrenListsFilesAndDirectories() throws IOException {
+        FileDirectoryIndex index = new FileDirectoryIndex(List.of(rootDir));
+
+        assertEquals(2, index.getChildren(rootDir).orElseThrow().size());
+        assertTrue(index.getChildren(rootDir).orElseThrow().contains(subDir));
+        assertTrue(index.isDirectory(subDir));
+        assertFalse(index.isDirectory(rootFile));
+        assertEquals(Optional.empty(), index.getChildren(rootDir.getParent()));
+    }
+
+    @Test
+    void nestedDirectoriesAreIndexedOnce() throws IOException {
+        FileDirectoryIndex index = new FileDirectoryIndex(List.of(subDir, rootDir));
+
+        assertEquals(List.of(subFile), index.getFilesStartingWith("Key2021"));
+    }
+
+    @Test
+    void missingDirectoryIsSkipped() throws IOException {
+        FileDirectoryIndex index = new FileDirectoryIndex(List.of(rootDir.resolve("missing")));
+
+        assertEquals(List.of(), index.getFilesStartingWith(""));
+    }
+}
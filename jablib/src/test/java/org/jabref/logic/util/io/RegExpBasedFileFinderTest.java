@@ -12,6 +12,8 @@ import org.jabref.model.entry.types.StandardEntryType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -70,6 +72,18 @@ class RegExpBasedFileFinderTest {
         assertEquals(expected, result);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"**/[citationkey].*\\\\.[extension]", "*/*/[citationkey].*\\\\.[extension]", "[citationkey].*\\\\.[extension]", "directory/../[citationkey].*\\\\.[extension]"})
+    void findFilesUsingIndexFindsSameFiles(String regExp) throws IOException {
+        RegExpBasedFileFinder fileFinder = new RegExpBasedFileFinder(regExp, ',');
+
+        for (String citationKey : List.of("pdfInDatabase", "pdfInSubdirectory")) {
+            BibEntry localEntry = new BibEntry(StandardEntryType.Article).withCitationKey(citationKey);
+            assertEquals(fileFinder.findAssociatedFiles(localEntry, List.of(directory), PDF_EXTENSION),
+                    fileFinder.findAssociatedFiles(localEntry, new FileDirectoryIndex(List.of(directory)), PDF_EXTENSION));
+        }
+    }
+
     @Test
     void yearAuthFirstPageFindFiles() throws IOException {
         // given
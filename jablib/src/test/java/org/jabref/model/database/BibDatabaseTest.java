@@ -344,6 +344,40 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void correctKeyCountAfterChangingKey() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(1, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void getEntriesByCitationKeyReturnsEntriesInOrder() {
+        BibEntry entryA = new BibEntry().withCitationKey("AAA");
+        BibEntry entryB = new BibEntry().withCitationKey("BBB");
+        BibEntry entryC = new BibEntry().withCitationKey("AAA");
+        database.insertEntries(entryA, entryB, entryC);
+
+        entryB.setCitationKey("AAA");
+
+        assertEquals(List.of(entryA, entryB, entryC), database.getEntriesByCitationKey("AAA"));
+        assertEquals(Optional.of(entryA), database.getEntryByCitationKey("AAA"));
+    }
+
+    @Test
+    void changingKeyOfRemovedEntryDoesNotChangeIndex() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+
+        entry.setCitationKey("BBB");
+
+        assertEquals(List.of(), database.getEntriesByCitationKey("BBB"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
@@ -0,0 +1,139 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.event.GroupMembershipChangedEvent;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupMembershipIndexTest {
+
+    private final List<GroupMembershipChangedEvent> events = new ArrayList<>();
+    private BibDatabase database;
+    private GroupMembershipIndex index;
+    private BibEntry entry;
+    private GroupTreeNode keywordNode;
+
+    @BeforeEach
+    void setUp() {
+        entry = new BibEntry().withField(StandardField.KEYWORDS, "A");
+        database = new BibDatabase(List.of(entry, new BibEntry().withField(StandardField.KEYWORDS, "B")));
+        index = new GroupMembershipIndex(database);
+        index.registerListener(new Object() {
+            @Subscribe
+            public void listen(GroupMembershipChangedEvent event) {
+                events.add(event);
+            }
+        });
+        keywordNode = new GroupTreeNode(new WordKeywordGroup("A", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "A", true, ',', false));
+    }
+
+    @Test
+    void getMatchesReturnsContainedEntries() {
+        assertEquals(List.of(entry), index.getMatches(keywordNode));
+    }
+
+    @Test
+    void changedSearchFieldUpdatesMatches() {
+        index.getMatches(keywordNode);
+
+        entry.setField(StandardField.KEYWORDS, "B");
+
+        assertFalse(index.matches(keywordNode, entry));
+        assertEquals(0, index.getNumberOfMatches(keywordNode));
+        assertEquals(List.of(new GroupMembershipChangedEvent(List.of(entry))), events);
+    }
+
+    @Test
+    void changedOtherFieldDoesNotPostEvent() {
+        index.getMatches(keywordNode);
+
+        entry.setField(StandardField.TITLE, "A");
+
+        assertTrue(index.matches(keywordNode, entry));
+        assertEquals(List.of(), events);
+    }
+
+    @Test
+    void addedEntryIsEvaluated() {
+        index.getMatches(keywordNode);
+        BibEntry addedEntry = new BibEntry().withField(StandardField.KEYWORDS, "A, C");
+
+        database.insertEntry(addedEntry);
+
+        assertTrue(index.matches(keywordNode, addedEntry));
+        assertEquals(2, index.getNumberOfMatches(keywordNode));
+    }
+
+    @Test
+    void removedEntryIsNoLongerMatched() {
+        index.getMatches(keywordNode);
+
+        database.removeEntry(entry);
+
+        assertFalse(index.matches(keywordNode, entry));
+        assertEquals(List.of(), index.getMatches(keywordNode));
+    }
+
+    @Test
+    void slotOfRemovedEntryIsReused() {
+        database.removeEntry(entry);
+        BibEntry addedEntry = new BibEntry().withField(StandardField.KEYWORDS, "A");
+
+        database.insertEntry(addedEntry);
+
+        assertEquals(List.of(addedEntry), index.getMatches(keywordNode));
+    }
+
+    @Test
+    void changedIdKeepsMembership() {
+        index.getMatches(keywordNode);
+
+        entry.setId("changed");
+
+        assertTrue(index.matches(keywordNode, entry));
+    }
+
+    @Test
+    void addingToExplicitGroupUpdatesMatches() {
+        ExplicitGroup group = new ExplicitGroup("Explicit", GroupHierarchyType.INDEPENDENT, ',');
+        GroupTreeNode node = new GroupTreeNode(group);
+        assertEquals(0, index.getNumberOfMatches(node));
+
+        group.add(entry);
+
+        assertEquals(List.of(entry), index.getMatches(node));
+    }
+
+    @Test
+    void includingGroupMatchesEntriesOfSubgroups() {
+        GroupTreeNode parent = new GroupTreeNode(new ExplicitGroup("Parent", GroupHierarchyType.INCLUDING, ','));
+        parent.addChild(keywordNode);
+
+        assertEquals(List.of(entry), index.getMatches(parent));
+        assertTrue(index.matches(parent, entry));
+    }
+
+    @Test
+    void refiningGroupOnlyMatchesEntriesOfParent() {
+        ExplicitGroup parentGroup = new ExplicitGroup("Parent", GroupHierarchyType.INDEPENDENT, ',');
+        GroupTreeNode parent = new GroupTreeNode(parentGroup);
+        GroupTreeNode child = parent.addSubgroup(new WordKeywordGroup("A", GroupHierarchyType.REFINING, StandardField.KEYWORDS, "A", true, ',', false));
+        assertFalse(index.matches(child, entry));
+
+        parentGroup.add(entry);
+
+        assertTrue(index.matches(child, entry));
+        assertEquals(child.findMatches(database), index.getMatches(child));
+    }
+}
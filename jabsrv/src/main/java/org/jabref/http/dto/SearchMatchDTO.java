@@ -0,0 +1,10 @@
+package org.jabref.http.dto;
+
+/**
+ * The data transfer object (DTO) for an entry matching a search
+ *
+ * @param score the number of hits of the search in the entry. Each matching page of a linked file counts as a hit.
+ * @param entry the matching entry
+ */
+public record SearchMatchDTO(int score, BibEntryDTO entry) {
+}
@@ -15,6 +15,10 @@ public class Application extends jakarta.ws.rs.core.Application {
     @Inject
     ServiceLocator serviceLocator;
 
+    private final LibraryIndexes libraryIndexes = new LibraryIndexes();
+    // The index of a library is released as soon as the parsed library is not cached anymore
+    private final LibraryCache libraryCache = new LibraryCache(LibraryCache.DEFAULT_MAXIMUM_SIZE, libraryIndexes::remove);
+
     @Override
     public Set<Class<?>> getClasses() {
         initialize();
@@ -27,5 +31,14 @@ public class Application extends jakarta.ws.rs.core.Application {
     private void initialize() {
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new GsonFactory());
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new PreferencesFactory());
+        ServiceLocatorUtilities.addOneConstant(serviceLocator, libraryCache);
+        ServiceLocatorUtilities.addOneConstant(serviceLocator, libraryIndexes);
+    }
+
+    /**
+     * Releases the resources of the served libraries. Called after the server stopped.
+     */
+    void shutdown() {
+        libraryIndexes.shutdown();
     }
 }
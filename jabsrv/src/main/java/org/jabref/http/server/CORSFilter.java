@@ -17,7 +17,9 @@ public class CORSFilter implements ContainerResponseFilter {
             responseContext.getHeaders().add("Access-Control-Allow-Origin", requestOrigin);
         }
         responseContext.getHeaders().add("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS");
-        responseContext.getHeaders().add("Access-Control-Allow-Headers", "origin, content-type, accept");
+        responseContext.getHeaders().add("Access-Control-Allow-Headers", "origin, content-type, accept, if-none-match, if-modified-since");
+        // Allows clients to send conditional requests and to follow the pages
+        responseContext.getHeaders().add("Access-Control-Expose-Headers", "ETag, Last-Modified, Link, " + LibraryResource.TOTAL_COUNT_HEADER);
         responseContext.getHeaders().add("Access-Control-Allow-Credentials", "false");
     }
 }
@@ -0,0 +1,120 @@
+package org.jabref.http.server;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Date;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.ws.rs.core.EntityTag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the parsed libraries served, so that polling an unchanged library does not parse it again.
+ * <p>
+ * A cached library is valid as long as the modification time and the size of its file are unchanged.
+ * The memory is bounded by the total size of the files of the cached libraries. The least recently used libraries are evicted first.
+ * Concurrent requests of a library which is not cached wait for the first request to parse it.
+ * <p>
+ * The cached libraries are shared by all requests and must not be modified.
+ * Data derived from a cached library, such as its search index, can be released together with it (see {@link LibraryIndexes}).
+ */
+public class LibraryCache {
+
+    /**
+     * Total size of the library files whose parsed libraries are kept. The parsed library takes a multiple of the file size.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 64 * 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryCache.class);
+
+    private final Cache<LibraryVersion, ParserResult> libraries;
+
+    public LibraryCache() {
+        this(DEFAULT_MAXIMUM_SIZE, _ -> {
+        });
+    }
+
+    /**
+     * @param onRemoval called with each library removed from the cache, i.e., evicted or replaced by a newer version
+     */
+    public LibraryCache(long maximumSize, Consumer<LibraryVersion> onRemoval) {
+        libraries = CacheBuilder.newBuilder()
+                                .maximumWeight(maximumSize)
+                                .<LibraryVersion, ParserResult>weigher((library, _) -> (int) Math.min(Integer.MAX_VALUE, library.version().size()))
+                                .removalListener(notification -> onRemoval.accept(notification.getKey()))
+                                .build();
+    }
+
+    /**
+     * Determines the current version of the given library file. Used to answer conditional requests without parsing the library.
+     */
+    public static FileVersion getVersion(Path library) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(library, BasicFileAttributes.class);
+        return new FileVersion(attributes.lastModifiedTime(), attributes.size());
+    }
+
+    /**
+     * Returns the parsed library of the given version, parsing the file if the cached library is outdated.
+     * <p>
+     * If the file changes between determining the version and parsing, the newer content is cached with the older version.
+     * It is parsed again on the next request then.
+     */
+    public ParserResult getParserResult(Path library, FileVersion version, ImportFormatPreferences importFormatPreferences) throws IOException {
+        try {
+            return libraries.get(new LibraryVersion(library, version), () -> parse(library, version, importFormatPreferences));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Could not parse library " + library, e.getCause());
+        }
+    }
+
+    private ParserResult parse(Path library, FileVersion version, ImportFormatPreferences importFormatPreferences) throws IOException {
+        // Older versions of the library are not requested anymore
+        libraries.asMap().keySet().removeIf(cached -> cached.library().equals(library) && !cached.version().equals(version));
+
+        LOGGER.debug("Parsing library {}", library);
+        ParserResult parserResult = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor()).importDatabase(library);
+        // The ids are served to identify the entries. They are assigned before the library is shared by the requests.
+        for (BibEntry entry : parserResult.getDatabase().getEntries()) {
+            entry.getSharedBibEntryData().setSharedID(Objects.hash(entry));
+        }
+        return parserResult;
+    }
+
+    public void invalidateAll() {
+        libraries.invalidateAll();
+    }
+
+    public record FileVersion(FileTime lastModified, long size) {
+
+        public Date lastModifiedDate() {
+            return new Date(lastModified.toMillis());
+        }
+
+        /**
+         * Returns the tag of a representation of this version. Representations differing in their media type or query parameters get different tags.
+         */
+        public EntityTag entityTag(Object... representation) {
+            return new EntityTag(Long.toHexString(lastModified.toMillis()) + "-" + Long.toHexString(size) + "-" + Integer.toHexString(Objects.hash(representation)));
+        }
+    }
+
+    public record LibraryVersion(Path library, FileVersion version) {
+    }
+}
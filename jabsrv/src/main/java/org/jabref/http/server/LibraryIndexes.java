@@ -0,0 +1,97 @@
+package org.jabref.http.server;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.search.IndexManager;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.logic.util.HeadlessExecutorService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the search index of each served library, so that a search does not need to index the library again.
+ * <p>
+ * The index of a library version is built in the background on the first search. Searches of the same library wait for it, searches of other libraries do not.
+ * The index is released as soon as the parsed library is removed from the {@link LibraryCache}, so both are bounded together.
+ * The Postgres server holding the indexes of the bib fields is started on first use and shared by all libraries.
+ */
+public class LibraryIndexes {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryIndexes.class);
+
+    private final Map<LibraryCache.LibraryVersion, IndexedLibrary> libraries = new ConcurrentHashMap<>();
+    private PostgreServer postgreServer;
+
+    /**
+     * Returns the index of the given parsed library, waiting for the library to be indexed if not done before.
+     */
+    public IndexManager getIndexManager(LibraryCache.LibraryVersion library, ParserResult parserResult, CliPreferences preferences) {
+        // Only the entry of the given library is locked while the indexing is started
+        IndexedLibrary indexed = libraries.compute(library, (_, current) -> {
+            if ((current != null) && (current.parserResult() == parserResult) && !current.indexManager().isCompletedExceptionally()) {
+                return current;
+            }
+            if (current != null) {
+                // Releases the index of the linked files, which is used by the new index manager again
+                close(current);
+            }
+            return new IndexedLibrary(parserResult, CompletableFuture.supplyAsync(() -> createIndexManager(library, parserResult, preferences), HeadlessExecutorService.INSTANCE));
+        });
+        return indexed.indexManager().join();
+    }
+
+    private IndexManager createIndexManager(LibraryCache.LibraryVersion library, ParserResult parserResult, CliPreferences preferences) {
+        LOGGER.debug("Indexing library {}", library.library());
+        // The current thread task executor indexes the library before the constructor returns
+        return new IndexManager(parserResult.getDatabaseContext(), new CurrentThreadTaskExecutor(), preferences, getPostgreServer());
+    }
+
+    private synchronized PostgreServer getPostgreServer() {
+        if (postgreServer == null) {
+            postgreServer = new PostgreServer();
+        }
+        return postgreServer;
+    }
+
+    /**
+     * Releases the index of the given library version, if any
+     */
+    public void remove(LibraryCache.LibraryVersion library) {
+        IndexedLibrary indexed = libraries.remove(library);
+        if (indexed != null) {
+            close(indexed);
+        }
+    }
+
+    /**
+     * Closes the index as soon as the indexing finished
+     */
+    private static CompletableFuture<Void> close(IndexedLibrary indexed) {
+        return indexed.indexManager()
+                      .thenAccept(IndexManager::closeAndWait)
+                      .exceptionally(_ -> null);
+    }
+
+    public void shutdown() {
+        libraries.values().stream()
+                 .map(LibraryIndexes::close)
+                 .toList()
+                 .forEach(CompletableFuture::join);
+        libraries.clear();
+        synchronized (this) {
+            if (postgreServer != null) {
+                postgreServer.shutdown();
+                postgreServer = null;
+            }
+        }
+    }
+
+    private record IndexedLibrary(ParserResult parserResult, CompletableFuture<IndexManager> indexManager) {
+    }
+}
@@ -1,31 +1,57 @@
 package org.jabref.http.server;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.dto.BibEntryDTO;
+import org.jabref.http.dto.SearchMatchDTO;
+import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.citationstyle.JabRefItemDataProvider;
 import org.jabref.logic.importer.ParserResult;
-import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
-import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.paging.Page;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
 
 import com.airhacks.afterburner.injection.Injector;
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.UriInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,49 +59,224 @@ import org.slf4j.LoggerFactory;
 public class LibraryResource {
     public static final Logger LOGGER = LoggerFactory.getLogger(LibraryResource.class);
 
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     @Inject
     CliPreferences preferences;
 
     @Inject
     Gson gson;
 
+    @Inject
+    LibraryCache libraryCache;
+
+    @Inject
+    LibraryIndexes libraryIndexes;
+
+    /**
+     * Streams the entries of the library as JSON array of {@link BibEntryDTO}s.
+     *
+     * @param pageNumber the page to return, indexed from 0
+     * @param pageSize   the number of entries per page. If not given, all entries are returned.
+     * @param fields     comma-separated list of the fields to include. If not given, all fields are included.
+     */
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public String getJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
+    public Response getJson(@PathParam("id") String id,
+                            @QueryParam("page") @DefaultValue("0") int pageNumber,
+                            @QueryParam("pageSize") Integer pageSize,
+                            @QueryParam("fields") String fields,
+                            @Context Request request,
+                            @Context UriInfo uriInfo) {
+        java.nio.file.Path library = getLibraryPath(id);
+        LibraryCache.FileVersion version = getVersion(library);
+        EntityTag entityTag = version.entityTag(MediaType.APPLICATION_JSON, uriInfo.getQueryParameters());
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(version.lastModifiedDate(), entityTag);
+        if (notModified != null) {
+            return withVary(notModified).build();
+        }
+
+        ParserResult parserResult = getParserResult(library, version);
+        Page<BibEntry> page = getPage(parserResult.getDatabase().getEntries(), pageNumber, pageSize);
+        Optional<Set<Field>> projection = parseFields(fields);
+        BibDatabaseMode mode = parserResult.getDatabaseContext().getMode();
+        FieldPreferences fieldPreferences = preferences.getFieldPreferences();
         BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
-        List<BibEntryDTO> list = parserResult.getDatabase().getEntries().stream()
-                                             .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
-                                             .map(entry -> new BibEntryDTO(entry, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), entryTypesManager))
-                                             .toList();
-        return gson.toJson(list);
+        StreamingOutput output = outputStream -> {
+            JsonWriter writer = gson.newJsonWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.beginArray();
+            for (BibEntry entry : page.getContent()) {
+                gson.toJson(new BibEntryDTO(project(entry, projection), mode, fieldPreferences, entryTypesManager), BibEntryDTO.class, writer);
+            }
+            writer.endArray();
+            writer.flush();
+        };
+        return withVersion(withPaging(Response.ok(output), page, pageSize, parserResult.getDatabase().getEntryCount(), uriInfo), version, entityTag);
     }
 
+    /**
+     * Streams the entries of the library as CSL JSON. The parameters are the same as for {@link #getJson}.
+     */
     @GET
     @Produces(JabrefMediaType.JSON_CSL_ITEM)
-    public String getClsItemJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
+    public Response getClsItemJson(@PathParam("id") String id,
+                                   @QueryParam("page") @DefaultValue("0") int pageNumber,
+                                   @QueryParam("pageSize") Integer pageSize,
+                                   @QueryParam("fields") String fields,
+                                   @Context Request request,
+                                   @Context UriInfo uriInfo) {
+        java.nio.file.Path library = getLibraryPath(id);
+        LibraryCache.FileVersion version = getVersion(library);
+        EntityTag entityTag = version.entityTag(JabrefMediaType.JSON_CSL_ITEM, uriInfo.getQueryParameters());
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(version.lastModifiedDate(), entityTag);
+        if (notModified != null) {
+            return withVary(notModified).build();
+        }
+
+        ParserResult parserResult = getParserResult(library, version);
+        Page<BibEntry> page = getPage(parserResult.getDatabase().getEntries(), pageNumber, pageSize);
+        Optional<Set<Field>> projection = parseFields(fields);
         JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
         jabRefItemDataProvider.setData(parserResult.getDatabaseContext(), new BibEntryTypesManager());
-        return jabRefItemDataProvider.toJson();
+        StreamingOutput output = outputStream -> {
+            // Not pretty printed, same as the items converted by citeproc
+            JsonWriter writer = new JsonWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.beginArray();
+            for (BibEntry entry : page.getContent()) {
+                writer.jsonValue(jabRefItemDataProvider.toJson(project(entry, projection)));
+            }
+            writer.endArray();
+            writer.flush();
+        };
+        return withVersion(withPaging(Response.ok(output), page, pageSize, parserResult.getDatabase().getEntryCount(), uriInfo), version, entityTag);
     }
 
-    private ParserResult getParserResult(String id) {
+    /**
+     * Searches the library using the same query syntax as the search bar of JabRef.
+     * The matches are streamed as JSON array of {@link SearchMatchDTO}s, ordered by descending score and then by their position in the library.
+     *
+     * @param flags the search flags. If not given, the flags from the preferences are used.
+     * @see #getJson for the other parameters
+     */
+    @GET
+    @Path("search")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response search(@PathParam("id") String id,
+                           @QueryParam("q") String searchExpression,
+                           @QueryParam("flags") Set<SearchFlags> flags,
+                           @QueryParam("page") @DefaultValue("0") int pageNumber,
+                           @QueryParam("pageSize") Integer pageSize,
+                           @QueryParam("fields") String fields,
+                           @Context UriInfo uriInfo) {
         java.nio.file.Path library = getLibraryPath(id);
-        ParserResult parserResult;
+        if (searchExpression == null) {
+            throw new BadRequestException("The search query is missing");
+        }
+        SearchQuery query = new SearchQuery(searchExpression, flags.isEmpty() ? preferences.getSearchPreferences().getSearchFlags() : EnumSet.copyOf(flags));
+        if (!query.isValid()) {
+            throw new BadRequestException("Invalid search query");
+        }
+
+        LibraryCache.FileVersion version = getVersion(library);
+        ParserResult parserResult = getParserResult(library, version);
+        SearchResults searchResults = libraryIndexes.getIndexManager(new LibraryCache.LibraryVersion(library, version), parserResult, preferences).search(query);
+        List<BibEntry> matches = parserResult.getDatabase().getEntries().stream()
+                                             .filter(searchResults::isMatched)
+                                             .sorted(Comparator.<BibEntry>comparingInt(searchResults::getNumberOfResults).reversed())
+                                             .toList();
+        Page<BibEntry> page = getPage(matches, pageNumber, pageSize);
+        Optional<Set<Field>> projection = parseFields(fields);
+        BibDatabaseMode mode = parserResult.getDatabaseContext().getMode();
+        FieldPreferences fieldPreferences = preferences.getFieldPreferences();
+        BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
+        StreamingOutput output = outputStream -> {
+            JsonWriter writer = gson.newJsonWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.beginArray();
+            for (BibEntry entry : page.getContent()) {
+                BibEntryDTO entryDTO = new BibEntryDTO(project(entry, projection), mode, fieldPreferences, entryTypesManager);
+                gson.toJson(new SearchMatchDTO(searchResults.getNumberOfResults(entry), entryDTO), SearchMatchDTO.class, writer);
+            }
+            writer.endArray();
+            writer.flush();
+        };
+        return withPaging(Response.ok(output), page, pageSize, matches.size(), uriInfo).build();
+    }
+
+    private static Page<BibEntry> getPage(List<BibEntry> entries, int pageNumber, Integer pageSize) {
+        if (pageSize == null) {
+            if (pageNumber != 0) {
+                throw new BadRequestException("The page size is required to request a page");
+            }
+            return new Page<>("", 0, entries);
+        }
+        if ((pageNumber < 0) || (pageSize <= 0)) {
+            throw new BadRequestException("The page needs to be positive and the page size greater than zero");
+        }
+        int from = (int) Math.min((long) pageNumber * pageSize, entries.size());
+        int to = (int) Math.min((long) from + pageSize, entries.size());
+        return new Page<>("", pageNumber, entries.subList(from, to));
+    }
+
+    /**
+     * Adds the total number of entries and, if there are more entries, a link to the next page
+     */
+    private static Response.ResponseBuilder withPaging(Response.ResponseBuilder response, Page<BibEntry> page, Integer pageSize, int totalCount, UriInfo uriInfo) {
+        response.header(TOTAL_COUNT_HEADER, totalCount);
+        if ((pageSize != null) && (((long) (page.getPageNumber() + 1) * pageSize) < totalCount)) {
+            response.link(uriInfo.getRequestUriBuilder().replaceQueryParam("page", page.getPageNumber() + 1).build(), "next");
+        }
+        return response;
+    }
+
+    private static Optional<Set<Field>> parseFields(String fields) {
+        if (fields == null) {
+            return Optional.empty();
+        }
+        return Optional.of(Arrays.stream(fields.split(","))
+                                 .map(String::trim)
+                                 .filter(Predicate.not(String::isEmpty))
+                                 .map(FieldFactory::parseField)
+                                 .collect(Collectors.toSet()));
+    }
+
+    /**
+     * Creates a copy of the given entry containing the given fields only. The type and the citation key are always kept.
+     */
+    private static BibEntry project(BibEntry entry, Optional<Set<Field>> fields) {
+        if (fields.isEmpty()) {
+            return entry;
+        }
+        BibEntry projected = new BibEntry(entry.getType())
+                .withSharedBibEntryData(entry.getSharedBibEntryData().getSharedID(), entry.getSharedBibEntryData().getVersion())
+                .withUserComments(entry.getUserComments());
+        entry.getCitationKey().ifPresent(projected::setCitationKey);
+        for (Field field : fields.get()) {
+            entry.getField(field).ifPresent(value -> projected.setField(field, value));
+        }
+        return projected;
+    }
+
+    private ParserResult getParserResult(java.nio.file.Path library, LibraryCache.FileVersion version) {
         try {
-            parserResult = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor()).importDatabase(library);
+            return libraryCache.getParserResult(library, version, preferences.getImportFormatPreferences());
         } catch (IOException e) {
             LOGGER.warn("Could not find open library file {}", library, e);
             throw new InternalServerErrorException("Could not parse library", e);
         }
-        return parserResult;
     }
 
     @GET
     @Produces(JabrefMediaType.BIBTEX)
-    public Response getBibtex(@PathParam("id") String id) {
+    public Response getBibtex(@PathParam("id") String id, @Context Request request) {
         java.nio.file.Path library = getLibraryPath(id);
+        LibraryCache.FileVersion version = getVersion(library);
+        // The query parameters do not apply to the file as is
+        EntityTag entityTag = version.entityTag(JabrefMediaType.BIBTEX);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(version.lastModifiedDate(), entityTag);
+        if (notModified != null) {
+            return withVary(notModified).build();
+        }
+
         String libraryAsString;
         try {
             libraryAsString = Files.readString(library);
@@ -83,9 +284,32 @@ public class LibraryResource {
             LOGGER.error("Could not read library {}", library, e);
             throw new InternalServerErrorException("Could not read library " + library, e);
         }
-        return Response.ok()
-                .entity(libraryAsString)
-                .build();
+        return withVersion(Response.ok(libraryAsString), version, entityTag);
+    }
+
+    private static LibraryCache.FileVersion getVersion(java.nio.file.Path library) {
+        try {
+            return LibraryCache.getVersion(library);
+        } catch (IOException e) {
+            LOGGER.error("Could not read attributes of library {}", library, e);
+            throw new InternalServerErrorException("Could not read library " + library, e);
+        }
+    }
+
+    /**
+     * Adds the validators of the given version, which allow clients to request the library conditionally
+     */
+    private static Response withVersion(Response.ResponseBuilder response, LibraryCache.FileVersion version, EntityTag entityTag) {
+        return withVary(response).tag(entityTag)
+                                 .lastModified(version.lastModifiedDate())
+                                 .build();
+    }
+
+    /**
+     * Tells caches that the representation depends on the requested media type
+     */
+    private static Response.ResponseBuilder withVary(Response.ResponseBuilder response) {
+        return response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
     }
 
     private java.nio.file.Path getLibraryPath(String id) {
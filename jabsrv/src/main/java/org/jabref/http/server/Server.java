@@ -25,6 +25,7 @@ public class Server {
     private static final Logger LOGGER = LoggerFactory.getLogger(Server.class);
 
     private static SeBootstrap.Instance serverInstance;
+    private static Application application;
 
     /**
      * Starts an http server serving the last files opened in JabRef<br>
@@ -90,11 +91,14 @@ public class Server {
                                                      .build();
         }
         LOGGER.debug("Starting server...");
-        SeBootstrap.start(Application.class, configuration).thenAccept(instance -> {
+        application = new Application();
+        SeBootstrap.start(application, configuration).thenAccept(instance -> {
             LOGGER.debug("Server started.");
-            instance.stopOnShutdown(stopResult ->
-                    LOGGER.debug("Stop result: {} [Native stop result: {}].", stopResult,
-                            stopResult.unwrap(Object.class)));
+            instance.stopOnShutdown(stopResult -> {
+                LOGGER.debug("Stop result: {} [Native stop result: {}].", stopResult,
+                        stopResult.unwrap(Object.class));
+                application.shutdown();
+            });
             final URI uri = instance.configuration().baseUri();
             LOGGER.debug("Instance {} running at {} [Native handle: {}].%n", instance, uri,
                     instance.unwrap(Object.class));
@@ -132,6 +136,6 @@ public class Server {
     }
 
     static void stopServer() {
-        serverInstance.stop();
+        serverInstance.stop().thenRun(application::shutdown);
     }
 }
@@ -0,0 +1,82 @@
+package org.jabref.http.server;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+class LibraryCacheTest {
+
+    private final ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private final LibraryCache libraryCache = new LibraryCache();
+    private Path library;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws Exception {
+        library = tempDir.resolve("library.bib");
+        Files.writeString(library, "@Misc{first, title = {First}}");
+    }
+
+    @Test
+    void unchangedLibraryIsNotParsedAgain() throws Exception {
+        ParserResult parserResult = libraryCache.getParserResult(library, LibraryCache.getVersion(library), importFormatPreferences);
+
+        assertSame(parserResult, libraryCache.getParserResult(library, LibraryCache.getVersion(library), importFormatPreferences));
+    }
+
+    @Test
+    void concurrentRequestsGetSameParsedLibrary() throws Exception {
+        LibraryCache.FileVersion version = LibraryCache.getVersion(library);
+
+        List<ParserResult> parserResults = IntStream.range(0, 8).parallel().mapToObj(_ -> {
+            try {
+                return libraryCache.getParserResult(library, version, importFormatPreferences);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).toList();
+
+        parserResults.forEach(parserResult -> assertSame(parserResults.getFirst(), parserResult));
+    }
+
+    @Test
+    void changedLibraryIsParsedAgain() throws Exception {
+        LibraryCache.FileVersion version = LibraryCache.getVersion(library);
+        libraryCache.getParserResult(library, version, importFormatPreferences);
+
+        Files.writeString(library, "@Misc{first, title = {First}}\n@Misc{second, title = {Second}}");
+        LibraryCache.FileVersion changedVersion = LibraryCache.getVersion(library);
+
+        assertNotEquals(version.entityTag(), changedVersion.entityTag());
+        assertEquals(2, libraryCache.getParserResult(library, changedVersion, importFormatPreferences).getDatabase().getEntryCount());
+    }
+
+    @Test
+    void outdatedLibraryIsRemoved() throws Exception {
+        List<LibraryCache.LibraryVersion> removed = new ArrayList<>();
+        LibraryCache cache = new LibraryCache(LibraryCache.DEFAULT_MAXIMUM_SIZE, removed::add);
+        LibraryCache.FileVersion version = LibraryCache.getVersion(library);
+        cache.getParserResult(library, version, importFormatPreferences);
+
+        Files.writeString(library, "@Misc{first, title = {First}}\n@Misc{second, title = {Second}}");
+        cache.getParserResult(library, LibraryCache.getVersion(library), importFormatPreferences);
+
+        assertEquals(List.of(new LibraryCache.LibraryVersion(library, version)), removed);
+    }
+}
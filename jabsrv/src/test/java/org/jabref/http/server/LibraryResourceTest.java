@@ -1,23 +1,48 @@
 package org.jabref.http.server;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
 import org.jabref.http.JabrefMediaType;
+import org.jabref.logic.util.io.BackupFileUtil;
 
+import com.google.gson.Gson;
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class LibraryResourceTest extends ServerTest {
 
+    private final LibraryIndexes libraryIndexes = new LibraryIndexes();
+
     @Override
     protected Application configure() {
         ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class, LibrariesResource.class);
         addPreferencesToResourceConfig(resourceConfig);
         addGsonToResourceConfig(resourceConfig);
+        addLibraryCacheToResourceConfig(resourceConfig);
+        addLibraryIndexesToResourceConfig(resourceConfig, libraryIndexes);
         return resourceConfig.getApplication();
     }
 
+    @AfterEach
+    void shutdownLibraryIndexes() {
+        libraryIndexes.shutdown();
+    }
+
     @Test
     void getJson() {
         assertEquals("""
@@ -36,4 +61,96 @@ class LibraryResourceTest extends ServerTest {
         assertEquals("""
                 [{"id":"Author2023test","type":"article","author":[{"family":"Author","given":"Demo"}],"event-date":{"date-parts":[[2023]]},"issued":{"date-parts":[[2023]]},"title":"Demo Title"}]""", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get(String.class));
     }
+
+    @Test
+    void getClsItemJsonWithCurrentETagIsNotModified() {
+        String path = "/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id;
+        Response response = target(path).request(JabrefMediaType.JSON_CSL_ITEM).get();
+        EntityTag eTag = response.getEntityTag();
+        assertNotNull(eTag);
+        assertNotNull(response.getLastModified());
+
+        Response conditionalResponse = target(path).request(JabrefMediaType.JSON_CSL_ITEM).header(HttpHeaders.IF_NONE_MATCH, eTag.toString()).get();
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), conditionalResponse.getStatus());
+    }
+
+    @Test
+    void representationsOfLibraryHaveDifferentETags() {
+        String path = "/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id;
+        Response cslResponse = target(path).request(JabrefMediaType.JSON_CSL_ITEM).get();
+        Response jsonResponse = target(path).request(MediaType.APPLICATION_JSON).get();
+        Response pageResponse = target(path).queryParam("pageSize", 1).request(MediaType.APPLICATION_JSON).get();
+
+        assertNotEquals(cslResponse.getEntityTag(), jsonResponse.getEntityTag());
+        assertNotEquals(jsonResponse.getEntityTag(), pageResponse.getEntityTag());
+        assertEquals(HttpHeaders.ACCEPT, jsonResponse.getHeaderString(HttpHeaders.VARY));
+    }
+
+    @Test
+    void getClsItemJsonWithOutdatedETagReturnsLibrary() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).header(HttpHeaders.IF_NONE_MATCH, "\"outdated\"").get();
+
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void getJsonPageLinksToNextPage(@TempDir Path tempDir) throws IOException {
+        Path library = tempDir.resolve("library.bib");
+        Files.writeString(library, """
+                @Misc{first, title = {First}}
+                @Misc{second, title = {Second}}
+                @Misc{third, title = {Third}}
+                """);
+        setAvailableLibraries(List.of(library));
+        String id = library.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(library);
+
+        Response response = target("/libraries/" + id).queryParam("pageSize", 2).request(MediaType.APPLICATION_JSON).get();
+
+        assertEquals(2, new Gson().fromJson(response.readEntity(String.class), List.class).size());
+        assertEquals("3", response.getHeaderString(LibraryResource.TOTAL_COUNT_HEADER));
+        assertNotNull(response.getLink("next"));
+    }
+
+    @Test
+    void getJsonLastPageHasNoNextPage() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).queryParam("pageSize", 1).request(MediaType.APPLICATION_JSON).get();
+
+        assertEquals("1", response.getHeaderString(LibraryResource.TOTAL_COUNT_HEADER));
+        assertNull(response.getLink("next"));
+    }
+
+    @Test
+    void getJsonWithInvalidPageSizeIsBadRequest() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).queryParam("pageSize", 0).request(MediaType.APPLICATION_JSON).get();
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void getClsItemJsonWithFields() {
+        assertEquals("""
+                [{"id":"Author2023test","type":"article","title":"Demo Title"}]""", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).queryParam("fields", "title").request(JabrefMediaType.JSON_CSL_ITEM).get(String.class));
+    }
+
+    @Test
+    void searchReturnsMatches() {
+        String matches = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/search").queryParam("q", "title=demo").request(MediaType.APPLICATION_JSON).get(String.class);
+
+        assertEquals(1, new Gson().fromJson(matches, List.class).size());
+    }
+
+    @Test
+    void searchWithoutMatchesReturnsEmptyList() {
+        String matches = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/search").queryParam("q", "title=unknown").request(MediaType.APPLICATION_JSON).get(String.class);
+
+        assertEquals("[]", matches);
+    }
+
+    @Test
+    void searchWithInvalidQueryIsBadRequest() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/search").queryParam("q", "title=(").request(MediaType.APPLICATION_JSON).get();
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
 }
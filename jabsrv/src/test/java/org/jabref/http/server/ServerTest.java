@@ -1,17 +1,22 @@
 package org.jabref.http.server;
 
+import java.nio.file.Path;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.FXCollections;
 
 import org.jabref.http.dto.GsonFactory;
+import org.jabref.logic.FilePreferences;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.preferences.LastFilesOpenedPreferences;
+import org.jabref.logic.search.SearchPreferences;
 import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.search.SearchFlags;
 
 import com.google.gson.Gson;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
@@ -27,7 +32,7 @@ import static org.mockito.Mockito.when;
  * Abstract test class to
  * <ul>
  *   <li>Initialize the JCL to SLF4J bridge</li>
- *   <li>Provide injection capabilities of JabRef's preferences and Gson<./li>
+ *   <li>Provide injection capabilities of JabRef's preferences, Gson, the library cache, and the library indexes</li>
  * </ul>
  * <p>More information on testing with Jersey is available at <a href="https://eclipse-ee4j.github.io/jersey.github.io/documentation/latest/test-framework.html">the Jersey's testing documentation</a></p>.
  */
@@ -63,12 +68,32 @@ abstract class ServerTest extends JerseyTest {
         });
     }
 
+    protected void addLibraryCacheToResourceConfig(ResourceConfig resourceConfig) {
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(new LibraryCache()).to(LibraryCache.class);
+            }
+        });
+    }
+
+    protected void addLibraryIndexesToResourceConfig(ResourceConfig resourceConfig, LibraryIndexes libraryIndexes) {
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(libraryIndexes).to(LibraryIndexes.class);
+            }
+        });
+    }
+
     protected void setAvailableLibraries(EnumSet<TestBibFile> files) {
-        when(lastFilesOpenedPreferences.getLastFilesOpened()).thenReturn(
-                FXCollections.observableArrayList(
-                        files.stream()
-                             .map(file -> file.path)
-                             .collect(Collectors.toList())));
+        setAvailableLibraries(files.stream()
+                                   .map(file -> file.path)
+                                   .collect(Collectors.toList()));
+    }
+
+    protected void setAvailableLibraries(List<Path> libraries) {
+        when(lastFilesOpenedPreferences.getLastFilesOpened()).thenReturn(FXCollections.observableArrayList(libraries));
     }
 
     private static void initializePreferencesService() {
@@ -90,6 +115,15 @@ abstract class ServerTest extends JerseyTest {
         // used twice, once for reading and once for writing
         when(importFormatPreferences.fieldPreferences()).thenReturn(fieldContentFormatterPreferences);
 
+        FilePreferences filePreferences = mock(FilePreferences.class);
+        when(preferences.getFilePreferences()).thenReturn(filePreferences);
+        when(filePreferences.fulltextIndexLinkedFilesProperty()).thenReturn(new SimpleBooleanProperty(false));
+        when(preferences.getBibEntryPreferences()).thenReturn(bibEntryPreferences);
+
+        SearchPreferences searchPreferences = mock(SearchPreferences.class);
+        when(preferences.getSearchPreferences()).thenReturn(searchPreferences);
+        when(searchPreferences.getSearchFlags()).thenReturn(EnumSet.noneOf(SearchFlags.class));
+
         lastFilesOpenedPreferences = mock(LastFilesOpenedPreferences.class);
         when(preferences.getLastFilesOpenedPreferences()).thenReturn(lastFilesOpenedPreferences);
 